@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link BulkReadBenchmarks} class compares the latency of looking up {@literal 10}, {@literal 100}
+ * and {@literal 1000} {@link Customer Customers}, partitioned across two servers, by identifier:
+ *
+ * <ul>
+ *     <li>{@literal findByIdInLoop} - one {@link CustomerRepository#findById(Object)} per identifier.</li>
+ *     <li>{@literal getAll} - a single, unbounded {@link Region#getAll(java.util.Collection)}.</li>
+ *     <li>{@literal findAllById} - the batched {@link CustomerRepository#findAllById(Iterable)}.</li>
+ * </ul>
+ *
+ * {@literal concurrentFindById} measures {@link CustomerRepository#findById(Object)} called by {@literal 32} threads
+ * for the looked up {@link Customer Customers}, with and without gathering calls arriving within a coalescing window.
+ * A coalescing window also delays calls that have nothing to be gathered with, as {@literal findByIdInLoop} shows.
+ *
+ * Run with {@literal java -jar target/benchmarks.jar BulkReadBenchmarks}.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerBulkReadRepository
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@SuppressWarnings("unused")
+public class BulkReadBenchmarks {
+
+	@Param({ "10", "100", "1000" })
+	private int keyCount;
+
+	@Param({ "100" })
+	private int batchSize;
+
+	@Param({ "0", "250" })
+	private long coalescingWindow;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ApacheGeodeServerProcess additionalServer;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private List<Long> ids;
+
+	private Region<Long, Customer> customers;
+
+	@Setup(Level.Trial)
+	public void startClientAndServersAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.additionalServer =
+			ApacheGeodeServerProcess.startAdditionalServer(ApacheGeodeServerProcess.CACHE_SERVER_PORT + 1);
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("example.app.repository.find-all.batch-size", this.batchSize);
+		properties.put("example.app.repository.find-by-id.coalescing-window-micros", this.coalescingWindow);
+
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext(properties);
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+		this.customers = this.client.getBean(ClientCache.class).getRegion("Customers");
+
+		int chunkSize = 50000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList()));
+		}
+
+		this.ids = ThreadLocalRandom.current().longs(1, this.regionSize + 1L)
+			.distinct()
+			.limit(this.keyCount)
+			.boxed()
+			.collect(Collectors.toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServers() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.additionalServer != null) {
+			this.additionalServer.stop();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public int findByIdInLoop() {
+
+		int found = 0;
+
+		for (Long id : this.ids) {
+			found += this.customerRepository.findById(id).isPresent() ? 1 : 0;
+		}
+
+		return found;
+	}
+
+	@Benchmark
+	public Map<Long, Customer> getAll() {
+		return this.customers.getAll(this.ids);
+	}
+
+	@Benchmark
+	public Iterable<Customer> findAllById() {
+		return this.customerRepository.findAllById(this.ids);
+	}
+
+	@Benchmark
+	@Threads(32)
+	public Customer concurrentFindById() {
+
+		Long id = this.ids.get(ThreadLocalRandom.current().nextInt(this.ids.size()));
+
+		return this.customerRepository.findById(id).orElse(null);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link BulkSaveBenchmarks} class compares loading {@link Customer Customers} one at a time
+ * using {@link CustomerRepository#save(Object)} with the batched {@link CustomerRepository#saveAll(Iterable)}.
+ *
+ * Run with {@literal java -jar target/benchmarks.jar BulkSaveBenchmarks}.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.BulkSaveRepository
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(1)
+@Measurement(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@SuppressWarnings("unused")
+public class BulkSaveBenchmarks {
+
+	@Param({ "10000", "100000", "1000000" })
+	private int entityCount;
+
+	@Param({ "1000" })
+	private int batchSize;
+
+	@Param({ "1", "4" })
+	private int parallelism;
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private List<Customer> customers;
+
+	@Setup(Level.Trial)
+	public void startClientAndServer() throws IOException {
+
+		System.setProperty("example.app.repository.save-all.batch-size", String.valueOf(this.batchSize));
+		System.setProperty("example.app.repository.save-all.parallelism", String.valueOf(this.parallelism));
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		this.customers = LongStream.rangeClosed(1, this.entityCount)
+			.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+			.collect(Collectors.toList());
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public void singlePuts() {
+		this.customers.forEach(this.customerRepository::save);
+	}
+
+	@Benchmark
+	public Iterable<Customer> batchedPuts() {
+		return this.customerRepository.saveAll(this.customers);
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.benchmarks.support.BenchmarkCustomers;
+import example.app.benchmarks.support.ServerResourceUsage;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+import example.app.server.compression.Lz4Compressor;
+import example.app.server.compression.SnappyCompressor;
+
+/**
+ * The {@link CompressionBenchmarks} class compares the put and get latency of {@link Customer Customers}
+ * stored uncompressed by the server with {@link Customer Customers} compressed with the {@link Lz4Compressor}
+ * and the {@link SnappyCompressor}, at several payload sizes.
+ *
+ * The payload is text drawn from a small vocabulary, compressible like a typical document.  The live heap
+ * used by the server after loading the {@literal Customers} Region is printed once per trial, and the server
+ * CPU time consumed per operation after every iteration.
+ *
+ * @author John Blum
+ * @see example.app.benchmarks.support.ServerResourceUsage
+ * @see example.app.model.Compressed
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class CompressionBenchmarks {
+
+	protected static final List<String> SERVER_JVM_OPTIONS = Arrays.asList("-Xms2g", "-Xmx2g", "-XX:+UseG1GC");
+
+	@Param({ "none", "lz4", "snappy" })
+	private String compressor;
+
+	@Param({ "256", "1024", "8192" })
+	private int payloadSize;
+
+	@Param({ "50000" })
+	private int regionSize;
+
+	private final LongAdder operations = new LongAdder();
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private ServerResourceUsage serverResourceUsage;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		List<String> serverArguments = new ArrayList<>();
+
+		if (!"none".equals(this.compressor)) {
+			serverArguments.add("--spring.profiles.include=compression");
+			serverArguments.add("--example.app.server.compression.compressor="
+				+ ("lz4".equals(this.compressor) ? Lz4Compressor.class : SnappyCompressor.class).getName());
+		}
+
+		this.server = ApacheGeodeServerProcess.start(SERVER_JVM_OPTIONS, serverArguments.toArray(new String[0]));
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+		this.serverResourceUsage = ServerResourceUsage.connect();
+
+		long heapUsedBeforeLoad = this.serverResourceUsage.getLiveHeapUsed();
+
+		int chunkSize = 10000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> BenchmarkCustomers.newTextCustomer(id, this.payloadSize))
+				.collect(Collectors.toList()));
+		}
+
+		long heapUsedByCustomers = this.serverResourceUsage.getLiveHeapUsed() - heapUsedBeforeLoad;
+
+		System.out.printf("%n[%1$s, %2$d bytes] Customers use %3$.1f MB of server heap (%4$d bytes/entry)%n",
+			this.compressor, this.payloadSize, heapUsedByCustomers / (1024.0d * 1024.0d),
+			heapUsedByCustomers / this.regionSize);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() throws IOException {
+
+		if (this.serverResourceUsage != null) {
+			this.serverResourceUsage.close();
+		}
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void resetServerResourceUsage() {
+		this.operations.reset();
+		this.serverResourceUsage.reset();
+	}
+
+	@TearDown(Level.Iteration)
+	public void printServerResourceUsage() {
+
+		long operations = Math.max(1L, this.operations.sum());
+
+		System.out.printf("%n[%1$s, %2$d bytes] server CPU: %3$.1f us/operation%n", this.compressor,
+			this.payloadSize, this.serverResourceUsage.getCpuTime() / 1000.0d / operations);
+	}
+
+	long randomId() {
+		return ThreadLocalRandom.current().nextLong(1, this.regionSize + 1L);
+	}
+
+	@Benchmark
+	public Customer put() {
+
+		this.operations.increment();
+
+		return this.customerRepository.save(BenchmarkCustomers.newTextCustomer(randomId(), this.payloadSize));
+	}
+
+	@Benchmark
+	public Optional<Customer> get() {
+
+		this.operations.increment();
+
+		return this.customerRepository.findById(randomId());
+	}
+}
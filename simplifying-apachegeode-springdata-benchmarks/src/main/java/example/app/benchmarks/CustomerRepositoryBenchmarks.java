@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.benchmarks.support.BenchmarkCustomers;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link CustomerRepositoryBenchmarks} class measures the throughput and latency of the {@link CustomerRepository}
+ * data access operations used by the client application, against the {@literal SpringDataApacheGeodeServerApplication}
+ * running in the {@literal locator-manager} profile.
+ *
+ * The payload size is the length of each {@link Customer Customer's} name.  Run with
+ * {@literal java -cp target/benchmarks.jar example.app.benchmarks.CustomerRepositoryBenchmarks 1 4 16}
+ * to repeat the benchmarks with 1, 4 and 16 client threads.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerRepository
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class CustomerRepositoryBenchmarks {
+
+	public static void main(String[] args) throws RunnerException {
+
+		List<Integer> threadCounts = args.length > 0
+			? Arrays.stream(args).map(Integer::valueOf).collect(Collectors.toList())
+			: Arrays.asList(1, 4, 16);
+
+		for (int threadCount : threadCounts) {
+			new Runner(new OptionsBuilder()
+				.include(CustomerRepositoryBenchmarks.class.getSimpleName())
+				.threads(threadCount)
+				.build())
+				.run();
+		}
+	}
+
+	@Param({ "16", "256", "4096" })
+	private int payloadSize;
+
+	@Param({ "10000", "100000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private final AtomicLong deletableIds = new AtomicLong(Long.MAX_VALUE / 2);
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		this.customerRepository.saveAll(LongStream.rangeClosed(1, this.regionSize)
+			.mapToObj(id -> BenchmarkCustomers.newCustomer(id, this.payloadSize))
+			.collect(Collectors.toList()));
+
+		this.customerRepository.save(Customer.newCustomer(0L, "Jon Doe"));
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	long randomId() {
+		return ThreadLocalRandom.current().nextLong(1, this.regionSize + 1L);
+	}
+
+	@Benchmark
+	public Customer save() {
+		return this.customerRepository.save(BenchmarkCustomers.newCustomer(randomId(), this.payloadSize));
+	}
+
+	@Benchmark
+	public Optional<Customer> findById() {
+		return this.customerRepository.findById(randomId());
+	}
+
+	@Benchmark
+	public Customer findByNameLike() {
+		return this.customerRepository.findByNameLike("%Doe");
+	}
+
+	@Benchmark
+	public long count() {
+		return this.customerRepository.count();
+	}
+
+	@Benchmark
+	public void deleteById(DeletableCustomer deletableCustomer) {
+		this.customerRepository.deleteById(deletableCustomer.id);
+	}
+
+	/**
+	 * Saves a {@link Customer} outside the {@link #regionSize} key range before each {@link #deleteById} invocation,
+	 * keeping the size of the Region constant.
+	 */
+	@State(Scope.Thread)
+	public static class DeletableCustomer {
+
+		private long id;
+
+		@Setup(Level.Invocation)
+		public void saveDeletableCustomer(CustomerRepositoryBenchmarks benchmarks) {
+			this.id = benchmarks.deletableIds.incrementAndGet();
+			benchmarks.customerRepository.save(BenchmarkCustomers.newCustomer(this.id, benchmarks.payloadSize));
+		}
+	}
+}
@@ -0,0 +1,251 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.geode.DataSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
+import org.springframework.data.repository.CrudRepository;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.delta.DeltaTrackingEntity;
+import example.app.client.delta.EnableDeltaPropagation;
+
+/**
+ * The {@link DeltaBenchmarks} class compares the latency of updating a single, small property of wide entities,
+ * {@link CustomerProfile CustomerProfiles}, sending the whole entity on every save with sending only the changed
+ * property using delta propagation.
+ *
+ * Both servers are started with the {@literal delta-propagation} profile, and the {@literal gemfire.PREFER_SERIALIZED}
+ * System property it requires, and the {@literal CustomerProfiles} Region
+ * is pushed as a {@literal PARTITION_REDUNDANT} Region, so every update is also sent to the redundant copy.
+ * The number of bytes sent for an update is printed once per trial.
+ *
+ * @author John Blum
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @see example.app.client.delta.EnableDeltaPropagation
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class DeltaBenchmarks {
+
+	protected static final String DELTA_PROPAGATION_PROFILE = "--spring.profiles.include=delta-propagation";
+
+	protected static final List<String> DELTA_PROPAGATION_JVM_OPTIONS =
+		Collections.singletonList("-Dgemfire.PREFER_SERIALIZED=true");
+
+	@Param({ "full", "delta" })
+	private String propagation;
+
+	@Param({ "1024", "8192" })
+	private int payloadSize;
+
+	@Param({ "10000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ApacheGeodeServerProcess additionalServer;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerProfileRepository customerProfileRepository;
+
+	private List<CustomerProfile> customerProfiles;
+
+	@Setup(Level.Trial)
+	public void startClientAndServersAndLoadCustomerProfiles() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start(DELTA_PROPAGATION_JVM_OPTIONS, DELTA_PROPAGATION_PROFILE);
+		this.additionalServer = ApacheGeodeServerProcess.startAdditionalServer(
+			ApacheGeodeServerProcess.CACHE_SERVER_PORT + 1, DELTA_PROPAGATION_JVM_OPTIONS, DELTA_PROPAGATION_PROFILE);
+
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext(
+			Collections.singletonMap("spring.data.gemfire.cluster.region.type", "PARTITION_REDUNDANT"),
+			"delta".equals(this.propagation)
+				? new Class<?>[] { DeltaBenchmarkConfiguration.class, DeltaTrackingConfiguration.class }
+				: new Class<?>[] { DeltaBenchmarkConfiguration.class });
+
+		this.customerProfileRepository = this.client.getBean(CustomerProfileRepository.class);
+		this.customerProfiles = new ArrayList<>(this.regionSize);
+
+		int chunkSize = 1000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+
+			List<Long> ids = LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.boxed()
+				.collect(Collectors.toList());
+
+			this.customerProfileRepository.saveAll(ids.stream()
+				.map(this::newCustomerProfile)
+				.collect(Collectors.toList()));
+
+			// the Customer Profiles are loaded through the Repository to track their changes
+			this.customerProfileRepository.findAllById(ids).forEach(this.customerProfiles::add);
+		}
+
+		CustomerProfile customerProfile = this.customerProfiles.get(0);
+
+		customerProfile.setVisits(customerProfile.getVisits() + 1);
+
+		System.out.printf("%n[%1$s, %2$d bytes] %3$d bytes sent per update%n", this.propagation, this.payloadSize,
+			sizeOfUpdate(customerProfile));
+
+		this.customerProfileRepository.save(customerProfile);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServers() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.additionalServer != null) {
+			this.additionalServer.stop();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	CustomerProfile newCustomerProfile(long id) {
+
+		StringBuilder biography = new StringBuilder("Customer ").append(id).append(' ');
+
+		while (biography.length() < this.payloadSize) {
+			biography.append('x');
+		}
+
+		CustomerProfile customerProfile = new CustomerProfile();
+
+		customerProfile.setId(id);
+		customerProfile.setBiography(biography.toString());
+
+		return customerProfile;
+	}
+
+	int sizeOfUpdate(CustomerProfile customerProfile) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		if (customerProfile.hasDelta()) {
+			customerProfile.toDelta(out);
+		}
+		else {
+			DataSerializer.writeObject(customerProfile, out);
+		}
+
+		out.flush();
+
+		return bytes.size();
+	}
+
+	@Benchmark
+	public CustomerProfile update() {
+
+		CustomerProfile customerProfile =
+			this.customerProfiles.get(ThreadLocalRandom.current().nextInt(this.customerProfiles.size()));
+
+		customerProfile.setVisits(customerProfile.getVisits() + 1);
+
+		return this.customerProfileRepository.save(customerProfile);
+	}
+
+	@Region("CustomerProfiles")
+	public static class CustomerProfile extends DeltaTrackingEntity {
+
+		@Id
+		private Long id;
+
+		private String biography;
+
+		private long visits;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getBiography() {
+			return this.biography;
+		}
+
+		public void setBiography(String biography) {
+			this.biography = biography;
+		}
+
+		public long getVisits() {
+			return this.visits;
+		}
+
+		public void setVisits(long visits) {
+			this.visits = visits;
+		}
+	}
+
+	public interface CustomerProfileRepository extends CrudRepository<CustomerProfile, Long> { }
+
+	@EnableEntityDefinedRegions(basePackageClasses = DeltaBenchmarks.class)
+	@EnableGemfireRepositories(basePackageClasses = DeltaBenchmarks.class, considerNestedRepositories = true)
+	static class DeltaBenchmarkConfiguration { }
+
+	@EnableDeltaPropagation
+	static class DeltaTrackingConfiguration { }
+}
@@ -0,0 +1,245 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.QueryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import example.app.server.indexing.AsynchronousIndexMaintenance;
+
+/**
+ * The {@link IndexBenchmarks} class measures the put latency of a {@link Region} holding {@literal 100,000}
+ * entries with several indexed fields, maintaining its {@link Index Indexes} synchronously or asynchronously,
+ * as declared with {@link AsynchronousIndexMaintenance}.
+ *
+ * The benchmarks run against a standalone, in-process peer {@link Cache} hosting a partitioned or replicated
+ * {@literal Accounts} {@link Region}, so only the {@link Index} work is measured.  Every {@link Index} is
+ * a {@literal FUNCTIONAL} {@link Index}, which, unlike a {@literal HASH} {@link Index}, can be maintained
+ * asynchronously.
+ *
+ * @author John Blum
+ * @see example.app.server.indexing.AsynchronousIndexMaintenance
+ * @see example.app.server.indexing.EnableAsynchronousIndexMaintenance
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused")
+public class IndexBenchmarks {
+
+	protected static final String ACCOUNTS_REGION_NAME = "Accounts";
+
+	protected static final String[] CITIES = {
+		"Amsterdam", "Berlin", "Chicago", "Dublin", "Lisbon", "London", "Madrid", "Paris", "Portland", "Sydney"
+	};
+
+	protected static final String[] INDEXED_FIELDS = { "name", "city", "status", "balance" };
+
+	protected static final String[] STATUSES = { "ACTIVE", "CLOSED", "DORMANT", "SUSPENDED" };
+
+	@Param({ "PARTITION", "REPLICATE" })
+	private RegionShortcut regionShortcut;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	private Cache cache;
+
+	@Setup(Level.Trial)
+	public void createCache() {
+
+		this.cache = new CacheFactory()
+			.set("locators", "")
+			.set("log-level", "warning")
+			.set("mcast-port", "0")
+			.create();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeCache() {
+
+		if (this.cache != null) {
+			this.cache.close();
+		}
+	}
+
+	Region<Long, Account> createAccountsRegion(boolean synchronousIndexMaintenance) {
+
+		Region<Long, Account> accounts = this.cache.<Long, Account>createRegionFactory(this.regionShortcut)
+			.setIndexMaintenanceSynchronous(synchronousIndexMaintenance)
+			.create(ACCOUNTS_REGION_NAME);
+
+		Map<Long, Account> chunk = new HashMap<>();
+
+		for (long id = 1; id <= this.regionSize; id++) {
+
+			chunk.put(id, newAccount(id, id));
+
+			if (chunk.size() == 10000 || id == this.regionSize) {
+				accounts.putAll(chunk);
+				chunk.clear();
+			}
+		}
+
+		return accounts;
+	}
+
+	static Account newAccount(long id, long seed) {
+
+		SplittableRandom random = new SplittableRandom(seed);
+
+		Account account = new Account();
+
+		account.setId(id);
+		account.setName("Account " + random.nextInt(1000000));
+		account.setCity(CITIES[random.nextInt(CITIES.length)]);
+		account.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+		account.setBalance(random.nextInt(1000000) / 100.0d);
+
+		return account;
+	}
+
+	static List<Index> createIndexes(QueryService queryService, int indexCount) throws Exception {
+
+		List<Index> indexes = new ArrayList<>(indexCount);
+
+		for (int index = 0; index < indexCount; index++) {
+
+			String field = INDEXED_FIELDS[index];
+			String indexName = String.format("%1$s%2$sIdx", ACCOUNTS_REGION_NAME,
+				Character.toUpperCase(field.charAt(0)) + field.substring(1));
+
+			indexes.add(queryService.createIndex(indexName, field, Region.SEPARATOR + ACCOUNTS_REGION_NAME));
+		}
+
+		return indexes;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@Measurement(iterations = 5, time = 10)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Threads(4)
+	@Warmup(iterations = 3, time = 10)
+	public Account put(IndexMaintenance indexMaintenance) {
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		long id = random.nextLong(1, this.regionSize + 1L);
+
+		return indexMaintenance.accounts.put(id, newAccount(id, random.nextLong()));
+	}
+
+	@State(Scope.Benchmark)
+	public static class IndexMaintenance {
+
+		@Param({ "synchronous", "asynchronous" })
+		private String maintenance;
+
+		@Param({ "0", "4" })
+		private int indexedFields;
+
+		private Region<Long, Account> accounts;
+
+		@Setup(Level.Trial)
+		public void createIndexedAccountsRegion(IndexBenchmarks benchmarks) throws Exception {
+			this.accounts = benchmarks.createAccountsRegion("synchronous".equals(this.maintenance));
+			createIndexes(benchmarks.cache.getQueryService(), this.indexedFields);
+		}
+	}
+
+	public static class Account implements Serializable {
+
+		private Long id;
+
+		private String city;
+
+		private String name;
+
+		private String status;
+
+		private double balance;
+
+		public Long getId() {
+			return this.id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public double getBalance() {
+			return this.balance;
+		}
+
+		public void setBalance(double balance) {
+			this.balance = balance;
+		}
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public String getStatus() {
+			return this.status;
+		}
+
+		public void setStatus(String status) {
+			this.status = status;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link NameSearchBenchmarks} class measures the latency of the unindexed, leading wildcard
+ * {@link CustomerRepository#findByNameLike(String)} query against the indexed
+ * {@link CustomerRepository#findByNameEndingWith(String)} and {@link CustomerRepository#findByNameContaining(String)}
+ * searches as the {@literal Customers} Region grows.
+ *
+ * Exactly one {@link Customer} matches the search, so the indexed searches should remain flat
+ * while the {@literal LIKE} query grows linearly with the size of the Region.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerSearchRepository
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class NameSearchBenchmarks {
+
+	@Param({ "100000", "1000000", "10000000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		System.setProperty("example.app.repository.save-all.parallelism", "4");
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		int chunkSize = 100000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+
+			List<Customer> customers = LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList());
+
+			this.customerRepository.saveAll(customers);
+		}
+
+		this.customerRepository.save(Customer.newCustomer(this.regionSize + 1L, "Jon Doe"));
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public Customer findByNameLike() {
+		return this.customerRepository.findByNameLike("%Doe");
+	}
+
+	@Benchmark
+	public List<Customer> findByNameEndingWith() {
+		return this.customerRepository.findByNameEndingWith("Doe");
+	}
+
+	@Benchmark
+	public List<Customer> findByNameContaining() {
+		return this.customerRepository.findByNameContaining("n Do");
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.benchmarks.support.BenchmarkCustomers;
+import example.app.benchmarks.support.ServerGarbageCollection;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link OffHeapBenchmarks} class is a load test comparing the tail latency and the garbage collection activity
+ * of a server storing the {@literal Customers} Region on the Java heap with a server running in the
+ * {@literal off-heap} profile, under sustained concurrent updates and reads.
+ *
+ * Both servers run with the same fixed heap and the same {@literal Customers} Region, partitioned and overflowing
+ * to disk with heap LRU eviction, so that the only difference between them is where the values are stored.
+ * The server's collection count and time, read over JMX, are printed after every iteration.
+ *
+ * @author John Blum
+ * @see example.app.benchmarks.support.ServerGarbageCollection
+ * @see example.app.server.SpringDataApacheGeodeServerApplication
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Warmup(iterations = 2, time = 30)
+@SuppressWarnings("unused")
+public class OffHeapBenchmarks {
+
+	protected static final List<String> SERVER_JVM_OPTIONS = Arrays.asList("-Xms2g", "-Xmx2g", "-XX:+UseG1GC");
+
+	@Param({ "heap", "off-heap" })
+	private String storage;
+
+	@Param({ "1024" })
+	private int payloadSize;
+
+	@Param({ "500000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private ServerGarbageCollection serverGarbageCollection;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start(SERVER_JVM_OPTIONS,
+			"--spring.profiles.include=" + ("off-heap".equals(this.storage) ? "off-heap" : "overflow"));
+
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		int chunkSize = 50000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> BenchmarkCustomers.newCustomer(id, this.payloadSize))
+				.collect(Collectors.toList()));
+		}
+
+		this.serverGarbageCollection = ServerGarbageCollection.connect();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() throws IOException {
+
+		if (this.serverGarbageCollection != null) {
+			this.serverGarbageCollection.close();
+		}
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void resetServerGarbageCollection() {
+		this.serverGarbageCollection.reset();
+	}
+
+	@TearDown(Level.Iteration)
+	public void printServerGarbageCollection() {
+		System.out.printf("%n[%s] server GC: %s%n", this.storage, this.serverGarbageCollection);
+	}
+
+	long randomId() {
+		return ThreadLocalRandom.current().nextLong(1, this.regionSize + 1L);
+	}
+
+	@Benchmark
+	public Customer update() {
+		return this.customerRepository.save(BenchmarkCustomers.newCustomer(randomId(), this.payloadSize));
+	}
+
+	@Benchmark
+	public Optional<Customer> read() {
+		return this.customerRepository.findById(randomId());
+	}
+}
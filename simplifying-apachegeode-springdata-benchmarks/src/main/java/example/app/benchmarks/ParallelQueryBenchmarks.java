@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.gemfire.GemfireTemplate;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link ParallelQueryBenchmarks} class measures the throughput of a {@literal LIKE} query on the
+ * partitioned {@literal Customers} Region, run as a single OQL query coordinated by one server
+ * and as a data-aware function on every server in parallel
+ * ({@link CustomerRepository#findByNameLikeInParallel(String)}), as servers are added to the cluster started
+ * in the {@literal locator-manager} profile.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerParallelQueryRepository
+ * @see example.app.server.partition.ParallelQueryFunction
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class ParallelQueryBenchmarks {
+
+	@Param({ "1", "2", "4" })
+	private int serverCount;
+
+	@Param({ "1000000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private final List<ApacheGeodeServerProcess> additionalServers = new ArrayList<>();
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private GemfireTemplate customersTemplate;
+
+	@Setup(Level.Trial)
+	public void startClientAndServersAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start();
+
+		for (int index = 1; index < this.serverCount; index++) {
+			this.additionalServers.add(ApacheGeodeServerProcess.startAdditionalServer(
+				ApacheGeodeServerProcess.CACHE_SERVER_PORT + index));
+		}
+
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+		this.customersTemplate = new GemfireTemplate(this.client.getBean("Customers", Region.class));
+
+		int chunkSize = 100000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, id % 1000 == 0 ? "Jon Doe " + id : "Customer " + id))
+				.collect(Collectors.toList()));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServers() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		this.additionalServers.forEach(ApacheGeodeServerProcess::stop);
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> singleQuery() {
+
+		SelectResults<Customer> results =
+			this.customersTemplate.find("SELECT * FROM /Customers WHERE name LIKE $1", "Jon Doe%");
+
+		return results.asList();
+	}
+
+	@Benchmark
+	public List<Customer> parallelQuery() {
+		return this.customerRepository.findByNameLikeInParallel("Jon Doe%").collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.internal.util.BlobHelper;
+import org.apache.geode.pdx.PdxSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+
+import example.app.client.model.Customer;
+import example.app.client.pdx.GeneratedPdxSerializer;
+
+/**
+ * The {@link PdxSerializationBenchmarks} class compares the cost of serializing and deserializing a {@link Customer}
+ * with SDG's {@link MappingPdxSerializer} and with the {@link GeneratedPdxSerializer}.
+ *
+ * The benchmarks run against a standalone, in-process peer {@link Cache}, so only serialization is measured.
+ * Run with {@literal -prof gc} to compare the bytes allocated per operation.
+ *
+ * @author John Blum
+ * @see example.app.client.pdx.GeneratedPdxSerializer
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@SuppressWarnings("unused")
+public class PdxSerializationBenchmarks {
+
+	@Param({ "mapping", "generated" })
+	private String serializer;
+
+	private byte[] serializedCustomer;
+
+	private Cache cache;
+
+	private Customer customer;
+
+	@Setup(Level.Trial)
+	public void createCache() throws IOException {
+
+		PdxSerializer pdxSerializer = "generated".equals(this.serializer)
+			? new GeneratedPdxSerializer(new MappingPdxSerializer())
+			: new MappingPdxSerializer();
+
+		this.cache = new CacheFactory()
+			.set("locators", "")
+			.set("log-level", "warning")
+			.set("mcast-port", "0")
+			.setPdxSerializer(pdxSerializer)
+			.create();
+
+		this.customer = Customer.newCustomer(1L, "Jon Doe");
+		this.serializedCustomer = BlobHelper.serializeToBlob(this.customer);
+	}
+
+	@TearDown(Level.Trial)
+	public void closeCache() {
+
+		if (this.cache != null) {
+			this.cache.close();
+		}
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return BlobHelper.serializeToBlob(this.customer);
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException {
+		return BlobHelper.deserializeBlob(this.serializedCustomer);
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.pool.EnableAdaptivePool;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link PoolBenchmarks} class compares the latency of concurrent reads and writes of {@link Customer Customers},
+ * partitioned across two servers, with differently configured client {@link Pool Pools}:
+ *
+ * <ul>
+ *     <li>{@literal bounded} - at most {@literal 8} connections, fewer than the number of threads.</li>
+ *     <li>{@literal tuned} - {@literal 16} to {@literal 64} connections, kept open for a minute when idle,
+ *     with single-hop.</li>
+ *     <li>{@literal tuned-without-single-hop} - the {@literal tuned} Pool sending every operation through
+ *     any server.</li>
+ *     <li>{@literal adaptive} - the {@literal bounded} Pool resized by the {@link EnableAdaptivePool adaptive}
+ *     sizing recommended after a short burst of load.</li>
+ * </ul>
+ *
+ * The sizes of the {@link Pool} used by each trial are printed when the client starts.
+ *
+ * @author John Blum
+ * @see example.app.client.pool.AdaptivePoolSizer
+ * @see org.apache.geode.cache.client.Pool
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(32)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class PoolBenchmarks {
+
+	protected static final long CALIBRATION_TIME = TimeUnit.SECONDS.toMillis(20);
+
+	@Param({ "bounded", "tuned", "tuned-without-single-hop", "adaptive" })
+	private String pool;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ApacheGeodeServerProcess additionalServer;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private Path adaptivePoolStateFile;
+
+	@Setup(Level.Trial)
+	public void startClientAndServersAndLoadCustomers() throws Exception {
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.additionalServer =
+			ApacheGeodeServerProcess.startAdditionalServer(ApacheGeodeServerProcess.CACHE_SERVER_PORT + 1);
+
+		this.adaptivePoolStateFile = Files.createTempFile("adaptive-pool", ".properties");
+
+		Files.delete(this.adaptivePoolStateFile);
+
+		startClient();
+
+		int chunkSize = 50000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList()));
+		}
+
+		if ("adaptive".equals(this.pool)) {
+			calibrate();
+			this.client.close();
+			startClient();
+		}
+	}
+
+	private void startClient() {
+
+		Map<String, Object> properties = new HashMap<>();
+
+		if (this.pool.startsWith("tuned")) {
+			properties.put("spring.data.gemfire.pool.min-connections", 16);
+			properties.put("spring.data.gemfire.pool.max-connections", 64);
+			properties.put("spring.data.gemfire.pool.idle-timeout", 60000L);
+			properties.put("spring.data.gemfire.pool.pr-single-hop-enabled", !this.pool.endsWith("without-single-hop"));
+		}
+		else {
+			properties.put("spring.data.gemfire.pool.max-connections", 8);
+		}
+
+		if ("adaptive".equals(this.pool)) {
+
+			properties.put("example.app.pool.adaptive.resize-interval", 5L);
+			properties.put("example.app.pool.adaptive.state-file", this.adaptivePoolStateFile.toString());
+
+			this.client = BenchmarkClientConfiguration.newClientApplicationContext(properties,
+				AdaptivePoolBenchmarkConfiguration.class);
+		}
+		else {
+			this.client = BenchmarkClientConfiguration.newClientApplicationContext(properties);
+		}
+
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		Pool pool = this.client.getBean(ClientCache.class).getDefaultPool();
+
+		System.out.printf("%nPool [%1$s] started with [%2$d] minimum and [%3$d] maximum connections%n",
+			this.pool, pool.getMinConnections(), pool.getMaxConnections());
+	}
+
+	private void calibrate() throws InterruptedException {
+
+		int threads = getClass().getAnnotation(Threads.class).value();
+
+		long endTime = System.currentTimeMillis() + CALIBRATION_TIME;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		for (int thread = 0; thread < threads; thread++) {
+			executor.execute(() -> {
+				while (System.currentTimeMillis() < endTime) {
+					read();
+					write();
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(CALIBRATION_TIME * 2, TimeUnit.MILLISECONDS);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServers() throws IOException {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.additionalServer != null) {
+			this.additionalServer.stop();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+
+		Files.deleteIfExists(this.adaptivePoolStateFile);
+	}
+
+	private long randomId() {
+		return ThreadLocalRandom.current().nextLong(this.regionSize) + 1L;
+	}
+
+	@Benchmark
+	public Customer read() {
+		return this.customerRepository.findById(randomId()).orElse(null);
+	}
+
+	@Benchmark
+	public Customer write() {
+
+		long id = randomId();
+
+		return this.customerRepository.save(Customer.newCustomer(id, "Customer " + id));
+	}
+
+	@EnableAdaptivePool
+	static class AdaptivePoolBenchmarkConfiguration { }
+}
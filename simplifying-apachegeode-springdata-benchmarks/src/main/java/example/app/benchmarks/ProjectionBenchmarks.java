@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.benchmarks.support.BenchmarkCustomers;
+import example.app.client.model.Customer;
+import example.app.client.model.CustomerSummary;
+import example.app.client.projection.EnableQueryProjections;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link ProjectionBenchmarks} class compares querying a page worth of wide {@link Customer Customers}
+ * as entities with querying them as projections selecting only some of their properties: the identifier
+ * ({@link CustomerId}) or all properties into a DTO ({@link CustomerSummary}).
+ *
+ * The {@link Customer Customer's} name is padded to the payload size, so the identifier projection transfers and
+ * deserializes a small fraction of the bytes of the entity.  Run with JMH's {@literal -prof gc} to compare
+ * the client allocation rate along with the latency.
+ *
+ * @author John Blum
+ * @see example.app.client.projection.ProjectingQueryInterceptor
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class ProjectionBenchmarks {
+
+	// only the first resultSize Customers have a name starting with "Selected"
+	protected static final String SELECTED_NAME_WILDCARD = "Selected%";
+
+	@Param({ "1024", "8192" })
+	private int payloadSize;
+
+	@Param({ "100" })
+	private int resultSize;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start();
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext(Collections.emptyMap(),
+			ProjectionBenchmarkConfiguration.class);
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		int chunkSize = 10000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> BenchmarkCustomers.newCustomer(id, id <= this.resultSize ? "Selected " : "Customer ",
+					this.payloadSize))
+				.collect(Collectors.toList()));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> entities() {
+		return this.customerRepository.findProjectedByNameLike(SELECTED_NAME_WILDCARD, Customer.class);
+	}
+
+	@Benchmark
+	public List<CustomerId> identifiers() {
+		return this.customerRepository.findProjectedByNameLike(SELECTED_NAME_WILDCARD, CustomerId.class);
+	}
+
+	@Benchmark
+	public List<CustomerSummary> summaries() {
+		return this.customerRepository.findProjectedByNameLike(SELECTED_NAME_WILDCARD, CustomerSummary.class);
+	}
+
+	public interface CustomerId {
+		Long getId();
+	}
+
+	@EnableQueryProjections
+	static class ProjectionBenchmarkConfiguration { }
+}
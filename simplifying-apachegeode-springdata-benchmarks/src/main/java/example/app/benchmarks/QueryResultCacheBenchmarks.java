@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.client.model.Customer;
+import example.app.client.query.EnableQueryResultCache;
+import example.app.client.query.QueryResultCache;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link QueryResultCacheBenchmarks} class compares repeated {@link CustomerRepository#findAllByNameLike(String)}
+ * queries, over a small set of distinct names, with and without the {@link QueryResultCache}, while a percentage
+ * of the operations update random {@link Customer Customers}.
+ *
+ * The queries use a leading wildcard and therefore scan the entire {@literal Customers} Region on the servers.
+ * Since an update only invalidates the cached results it affects, the cache should keep answering most queries
+ * as writes increase.
+ *
+ * @author John Blum
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.query.QueryResultCache
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10)
+@SuppressWarnings("unused")
+public class QueryResultCacheBenchmarks {
+
+	@Param({ "false", "true" })
+	private boolean cached;
+
+	@Param({ "100" })
+	private int distinctQueries;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	@Param({ "0", "1", "10" })
+	private int writePercentage;
+
+	private ApacheGeodeServerProcess server;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start();
+
+		// the cache requires subscriptions, which are enabled in both cases so that only the cache differs
+		Map<String, Object> properties =
+			Collections.singletonMap("spring.data.gemfire.pool.subscription-enabled", true);
+
+		this.client = this.cached
+			? BenchmarkClientConfiguration.newClientApplicationContext(properties,
+				QueryResultCacheBenchmarkConfiguration.class)
+			: BenchmarkClientConfiguration.newClientApplicationContext(properties);
+
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		int chunkSize = 100000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+
+			List<Customer> customers = LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList());
+
+			this.customerRepository.saveAll(customers);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServer() {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public Object findAllByNameLike() {
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		if (random.nextInt(100) < this.writePercentage) {
+
+			long id = random.nextLong(this.regionSize) + 1L;
+
+			return this.customerRepository.save(Customer.newCustomer(id, "Customer " + id));
+		}
+
+		return this.customerRepository.findAllByNameLike("%ustomer " + (random.nextInt(this.distinctQueries) + 1));
+	}
+
+	@EnableQueryResultCache
+	static class QueryResultCacheBenchmarkConfiguration { }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import example.app.benchmarks.support.ApacheGeodeServerProcess;
+import example.app.benchmarks.support.BenchmarkClientConfiguration;
+import example.app.benchmarks.support.ClusterBucketDistribution;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+/**
+ * The {@link ScaleOutBenchmarks} class measures the latency of reading and saving {@link Customer Customers},
+ * by {@literal 16} threads, while the cluster scales out from one server to three, with and without
+ * the {@literal auto-rebalance} profile.
+ *
+ * The first measurement iteration runs against the single server.  The additional servers join the cluster
+ * before the second, so the following iterations include the rebalance, and the latency after the cluster settles.
+ * Without the {@literal auto-rebalance} profile the new servers host at most the redundant copies of existing buckets,
+ * leaving the load skewed toward the first server, as the distribution printed after each iteration shows.
+ * Each server reports the Regions it rebalanced in the {@literal server.log} of its working directory.
+ *
+ * Run with {@literal java -jar target/benchmarks.jar ScaleOutBenchmarks}.
+ *
+ * @author John Blum
+ * @see example.app.benchmarks.support.ClusterBucketDistribution
+ * @see example.app.server.rebalance.EnableAutoRebalance
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Fork(1)
+@Measurement(iterations = 6, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+@Warmup(iterations = 1, time = 10)
+@SuppressWarnings("unused")
+public class ScaleOutBenchmarks {
+
+	private static final int SCALE_OUT_ITERATION = 3;
+
+	// Apache Geode reads the bucket move throttle once, when its classes load, so it is a launch option
+	private static final List<String> AUTO_REBALANCE_JVM_OPTIONS =
+		Collections.singletonList("-Dgemfire.MAX_PARALLEL_BUCKET_RECOVERIES=1");
+
+	@Param({ "false", "true" })
+	private boolean autoRebalance;
+
+	@Param({ "2" })
+	private int additionalServerCount;
+
+	@Param({ "100000" })
+	private int regionSize;
+
+	private int iteration;
+
+	private ApacheGeodeServerProcess server;
+
+	private ClusterBucketDistribution clusterBucketDistribution;
+
+	private ConfigurableApplicationContext client;
+
+	private CustomerRepository customerRepository;
+
+	private final List<ApacheGeodeServerProcess> additionalServers = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void startClientAndServerAndLoadCustomers() throws IOException {
+
+		this.server = ApacheGeodeServerProcess.start(serverJvmOptions(), serverArguments());
+		this.clusterBucketDistribution = ClusterBucketDistribution.connect();
+		this.client = BenchmarkClientConfiguration.newClientApplicationContext();
+		this.customerRepository = this.client.getBean(CustomerRepository.class);
+
+		int chunkSize = 50000;
+
+		for (long start = 1; start <= this.regionSize; start += chunkSize) {
+			this.customerRepository.saveAll(LongStream.range(start, Math.min(start + chunkSize, this.regionSize + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList()));
+		}
+	}
+
+	private List<String> serverJvmOptions() {
+		return this.autoRebalance ? AUTO_REBALANCE_JVM_OPTIONS : Collections.emptyList();
+	}
+
+	private String[] serverArguments() {
+
+		return this.autoRebalance
+			? new String[] { "--spring.profiles.active=auto-rebalance", "--example.app.server.rebalance.delay=5000" }
+			: new String[0];
+	}
+
+	@Setup(Level.Iteration)
+	public void scaleOut() throws IOException {
+
+		if (++this.iteration == SCALE_OUT_ITERATION) {
+			for (int index = 1; index <= this.additionalServerCount; index++) {
+				this.additionalServers.add(ApacheGeodeServerProcess.startAdditionalServer(
+					ApacheGeodeServerProcess.CACHE_SERVER_PORT + index, serverJvmOptions(), serverArguments()));
+			}
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void printBucketDistribution() throws IOException {
+
+		System.out.printf("%n[autoRebalance=%1$s, iteration %2$d] Customers buckets:%3$s%n", this.autoRebalance,
+			this.iteration, this.clusterBucketDistribution.describe("/Customers"));
+	}
+
+	@TearDown(Level.Trial)
+	public void stopClientAndServers() throws IOException {
+
+		if (this.client != null) {
+			this.client.close();
+		}
+
+		if (this.clusterBucketDistribution != null) {
+			this.clusterBucketDistribution.close();
+		}
+
+		this.additionalServers.forEach(ApacheGeodeServerProcess::stop);
+
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Benchmark
+	public Customer findById() {
+		return this.customerRepository.findById(randomId()).orElse(null);
+	}
+
+	@Benchmark
+	public Customer save() {
+
+		long id = randomId();
+
+		return this.customerRepository.save(Customer.newCustomer(id, "Customer " + id));
+	}
+
+	private long randomId() {
+		return ThreadLocalRandom.current().nextLong(1, this.regionSize + 1L);
+	}
+}
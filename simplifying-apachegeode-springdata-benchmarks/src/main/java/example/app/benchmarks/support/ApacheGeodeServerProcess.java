@@ -0,0 +1,179 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import example.app.server.SpringDataApacheGeodeServerApplication;
+
+/**
+ * The {@link ApacheGeodeServerProcess} class launches the {@link SpringDataApacheGeodeServerApplication}
+ * in a separate JVM process using the {@literal locator-manager} profile, and waits for the embedded Locator
+ * and {@literal CacheServer} to accept connections.
+ *
+ * A separate process is required since Apache Geode does not allow a peer {@literal Cache}
+ * and a {@literal ClientCache} to coexist in the same JVM.
+ *
+ * @author John Blum
+ * @see java.lang.Process
+ * @see example.app.server.SpringDataApacheGeodeServerApplication
+ * @since 1.0.0
+ */
+public class ApacheGeodeServerProcess {
+
+	public static final int CACHE_SERVER_PORT = 40404;
+	public static final int JMX_MANAGER_PORT = 1099;
+	public static final int LOCATOR_PORT = 10334;
+
+	protected static final long STARTUP_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+
+	private final Process process;
+
+	public static ApacheGeodeServerProcess start(String... arguments) throws IOException {
+		return start(Collections.emptyList(), arguments);
+	}
+
+	public static ApacheGeodeServerProcess start(List<String> jvmOptions, String... arguments) throws IOException {
+
+		List<String> serverArguments = new ArrayList<>();
+
+		serverArguments.add("--spring.profiles.active=locator-manager");
+		serverArguments.add("--spring.data.gemfire.cache.server.port=" + CACHE_SERVER_PORT);
+		serverArguments.addAll(Arrays.asList(arguments));
+
+		ApacheGeodeServerProcess server = launch(jvmOptions, serverArguments);
+
+		server.waitForPort(LOCATOR_PORT);
+		server.waitForPort(CACHE_SERVER_PORT);
+
+		return server;
+	}
+
+	/**
+	 * Launches another server, without the {@literal locator-manager} profile, joining the cluster of the server
+	 * started with {@link #start(String...)} and listening for clients on the given port.
+	 */
+	public static ApacheGeodeServerProcess startAdditionalServer(int cacheServerPort, String... arguments)
+			throws IOException {
+
+		return startAdditionalServer(cacheServerPort, Collections.emptyList(), arguments);
+	}
+
+	public static ApacheGeodeServerProcess startAdditionalServer(int cacheServerPort, List<String> jvmOptions,
+			String... arguments) throws IOException {
+
+		List<String> serverArguments = new ArrayList<>();
+
+		serverArguments.add("--spring.data.gemfire.name=Server" + cacheServerPort);
+		serverArguments.add("--spring.data.gemfire.cache.server.port=" + cacheServerPort);
+		serverArguments.addAll(Arrays.asList(arguments));
+
+		ApacheGeodeServerProcess server = launch(jvmOptions, serverArguments);
+
+		server.waitForPort(cacheServerPort);
+
+		return server;
+	}
+
+	private static ApacheGeodeServerProcess launch(List<String> jvmOptions, List<String> arguments)
+			throws IOException {
+
+		File workingDirectory = Files.createTempDirectory("geode-server").toFile();
+
+		List<String> command = new ArrayList<>();
+
+		command.add(new File(new File(System.getProperty("java.home"), "bin"), "java").getAbsolutePath());
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("-Dgemfire.log-level=warning");
+		command.addAll(jvmOptions);
+		command.add(SpringDataApacheGeodeServerApplication.class.getName());
+		command.addAll(arguments);
+
+		Process process = new ProcessBuilder(command)
+			.directory(workingDirectory)
+			.redirectErrorStream(true)
+			.redirectOutput(new File(workingDirectory, "server.log"))
+			.start();
+
+		return new ApacheGeodeServerProcess(process);
+	}
+
+	private ApacheGeodeServerProcess(Process process) {
+		this.process = process;
+	}
+
+	private void waitForPort(int port) {
+
+		long timeout = System.currentTimeMillis() + STARTUP_TIMEOUT;
+
+		while (System.currentTimeMillis() < timeout) {
+
+			if (!this.process.isAlive()) {
+				throw new IllegalStateException(String.format("Apache Geode server process exited with [%d]",
+					this.process.exitValue()));
+			}
+
+			try (Socket socket = new Socket()) {
+				socket.connect(new InetSocketAddress("localhost", port), 500);
+				return;
+			}
+			catch (IOException ignore) {
+				pause(500L);
+			}
+		}
+
+		stop();
+
+		throw new IllegalStateException(String.format("Apache Geode server failed to listen on port [%d] in [%d] ms",
+			port, STARTUP_TIMEOUT));
+	}
+
+	private void pause(long milliseconds) {
+
+		try {
+			Thread.sleep(milliseconds);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public void stop() {
+
+		this.process.destroy();
+
+		try {
+			if (!this.process.waitFor(30, TimeUnit.SECONDS)) {
+				this.process.destroyForcibly();
+			}
+		}
+		catch (InterruptedException ignore) {
+			this.process.destroyForcibly();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.config.annotation.EnableClusterConfiguration;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.config.annotation.EnableIndexing;
+import org.springframework.data.gemfire.config.annotation.EnablePdx;
+import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
+
+import example.app.client.SpringDataApacheGeodeClientApplication;
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+import example.app.client.repo.support.OptimizedGemfireRepository;
+import example.app.client.search.EnableTextIndexing;
+import example.app.client.search.TextIndexingConfiguration;
+
+/**
+ * The {@link BenchmarkClientConfiguration} class configures an Apache Geode {@literal ClientCache} the same way
+ * as {@link SpringDataApacheGeodeClientApplication}, without the application's {@literal runner}, connecting to
+ * the server started by {@link ApacheGeodeServerProcess}.
+ *
+ * The cluster configuration is pushed without HTTP since the forked server does not include
+ * the Apache Geode Management REST API.  Benchmarks may override the configuration, for instance the settings
+ * of the client {@literal Pool}, with {@literal spring.data.gemfire.*} properties, and add configuration.
+ *
+ * @author John Blum
+ * @see example.app.benchmarks.support.ApacheGeodeServerProcess
+ * @see example.app.client.SpringDataApacheGeodeClientApplication
+ * @since 1.0.0
+ */
+@ClientCacheApplication(name = "BenchmarkClient", locators = {
+	@ClientCacheApplication.Locator(port = ApacheGeodeServerProcess.LOCATOR_PORT)
+})
+@EnableClusterConfiguration
+@EnableEntityDefinedRegions(basePackageClasses = Customer.class)
+@EnableGemfireRepositories(basePackageClasses = CustomerRepository.class,
+	repositoryBaseClass = OptimizedGemfireRepository.class)
+@EnableIndexing
+@EnablePdx(serializerBeanName = TextIndexingConfiguration.TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME)
+@EnableTextIndexing(basePackageClasses = Customer.class)
+public class BenchmarkClientConfiguration {
+
+	public static ConfigurableApplicationContext newClientApplicationContext() {
+		return newClientApplicationContext(Collections.emptyMap());
+	}
+
+	public static ConfigurableApplicationContext newClientApplicationContext(Map<String, Object> properties,
+			Class<?>... additionalConfigurations) {
+
+		AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+
+		applicationContext.getEnvironment().getPropertySources()
+			.addFirst(new MapPropertySource("benchmarkProperties", properties));
+
+		applicationContext.register(BenchmarkClientConfiguration.class);
+		applicationContext.register(additionalConfigurations);
+		applicationContext.refresh();
+
+		return applicationContext;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.util.SplittableRandom;
+
+import example.app.client.model.Customer;
+
+/**
+ * The {@link BenchmarkCustomers} class creates the {@link Customer Customers} loaded and saved by the benchmarks,
+ * with a name padded to the payload size under test.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @since 1.0.0
+ */
+public class BenchmarkCustomers {
+
+	protected static final String[] VOCABULARY = {
+		"account", "address", "balance", "billing", "city", "contact", "country", "credit", "customer", "delivery",
+		"email", "invoice", "item", "order", "payment", "phone", "postal", "price", "product", "quantity",
+		"shipping", "status", "street", "total"
+	};
+
+	/**
+	 * Returns a {@link Customer} named {@literal Customer <id>}, padded with {@literal x} to the payload size.
+	 */
+	public static Customer newCustomer(long id, int payloadSize) {
+		return newCustomer(id, "Customer ", payloadSize);
+	}
+
+	/**
+	 * Returns a {@link Customer} named with the given prefix followed by the identifier, padded with {@literal x}
+	 * to the payload size.
+	 */
+	public static Customer newCustomer(long id, String namePrefix, int payloadSize) {
+
+		StringBuilder name = new StringBuilder(namePrefix).append(id).append(' ');
+
+		while (name.length() < payloadSize) {
+			name.append('x');
+		}
+
+		return Customer.newCustomer(id, name.toString());
+	}
+
+	/**
+	 * Returns a {@link Customer} whose name of exactly the payload size is made of words drawn from a small
+	 * vocabulary, seeded by the identifier, giving values as compressible as typical business text.
+	 */
+	public static Customer newTextCustomer(long id, int payloadSize) {
+
+		SplittableRandom random = new SplittableRandom(id);
+
+		StringBuilder name = new StringBuilder("Customer ").append(id);
+
+		while (name.length() < payloadSize) {
+			name.append(' ').append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+		}
+
+		name.setLength(payloadSize);
+
+		return Customer.newCustomer(id, name.toString());
+	}
+}
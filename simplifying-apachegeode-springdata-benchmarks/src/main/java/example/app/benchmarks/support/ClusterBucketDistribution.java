@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.JMX;
+import javax.management.MBeanServerConnection;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import org.apache.geode.management.RegionMXBean;
+
+/**
+ * The {@link ClusterBucketDistribution} class reads the number of buckets, and of primary buckets, of a partitioned
+ * Region hosted by each server in the cluster through the {@link RegionMXBean RegionMXBeans} federated to
+ * the JMX Manager embedded in the first {@link ApacheGeodeServerProcess}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.management.RegionMXBean
+ * @see example.app.benchmarks.support.ApacheGeodeServerProcess
+ * @since 1.0.0
+ */
+public class ClusterBucketDistribution implements AutoCloseable {
+
+	protected static final String REGION_MEMBER_OBJECT_NAME = "GemFire:service=Region,name=%s,type=Member,member=*";
+
+	private final JMXConnector connector;
+
+	public static ClusterBucketDistribution connect() throws IOException {
+
+		JMXConnector connector = JMXConnectorFactory.connect(new JMXServiceURL(
+			String.format(ServerGarbageCollection.JMX_SERVICE_URL, ApacheGeodeServerProcess.JMX_MANAGER_PORT)));
+
+		return new ClusterBucketDistribution(connector);
+	}
+
+	private ClusterBucketDistribution(JMXConnector connector) {
+		this.connector = connector;
+	}
+
+	/**
+	 * Returns the number of buckets and primary buckets of the Region at the given path, keyed by member name.
+	 */
+	public Map<String, int[]> getBucketCounts(String regionPath) throws IOException {
+
+		try {
+
+			MBeanServerConnection connection = this.connector.getMBeanServerConnection();
+
+			Map<String, int[]> bucketCounts = new TreeMap<>();
+
+			for (ObjectName name : connection.queryNames(
+					ObjectName.getInstance(String.format(REGION_MEMBER_OBJECT_NAME, regionPath)), null)) {
+
+				RegionMXBean region = JMX.newMXBeanProxy(connection, name, RegionMXBean.class);
+
+				bucketCounts.put(name.getKeyProperty("member"),
+					new int[] { region.getBucketCount(), region.getPrimaryBucketCount() });
+			}
+
+			return bucketCounts;
+		}
+		catch (MalformedObjectNameException cause) {
+			throw new IllegalArgumentException(String.format("Invalid Region path [%s]", regionPath), cause);
+		}
+	}
+
+	/**
+	 * Returns a description of the buckets and primary buckets of the Region hosted by each member.
+	 */
+	public String describe(String regionPath) throws IOException {
+
+		StringBuilder description = new StringBuilder();
+
+		getBucketCounts(regionPath).forEach((member, counts) ->
+			description.append(String.format("%n  %1$s: %2$d buckets, %3$d primaries", member, counts[0], counts[1])));
+
+		return description.toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.connector.close();
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * The {@link ServerGarbageCollection} class reads the garbage collection count and time of the
+ * {@link ApacheGeodeServerProcess} through the platform {@link GarbageCollectorMXBean GarbageCollectorMXBeans}
+ * registered with the server's embedded JMX Manager.
+ *
+ * @author John Blum
+ * @see java.lang.management.GarbageCollectorMXBean
+ * @see example.app.benchmarks.support.ApacheGeodeServerProcess
+ * @since 1.0.0
+ */
+public class ServerGarbageCollection implements AutoCloseable {
+
+	protected static final String JMX_SERVICE_URL = "service:jmx:rmi:///jndi/rmi://localhost:%d/jmxrmi";
+
+	private final JMXConnector connector;
+
+	private final List<GarbageCollectorMXBean> garbageCollectors;
+
+	private long collectionCount;
+	private long collectionTime;
+
+	public static ServerGarbageCollection connect() throws IOException {
+
+		JMXConnector connector = JMXConnectorFactory.connect(new JMXServiceURL(
+			String.format(JMX_SERVICE_URL, ApacheGeodeServerProcess.JMX_MANAGER_PORT)));
+
+		return new ServerGarbageCollection(connector);
+	}
+
+	private ServerGarbageCollection(JMXConnector connector) throws IOException {
+
+		MBeanServerConnection connection = connector.getMBeanServerConnection();
+
+		this.connector = connector;
+		this.garbageCollectors =
+			ManagementFactory.getPlatformMXBeans(connection, GarbageCollectorMXBean.class);
+
+		reset();
+	}
+
+	/**
+	 * Starts counting collections from the current totals of the server JVM.
+	 */
+	public void reset() {
+		this.collectionCount = totalCollectionCount();
+		this.collectionTime = totalCollectionTime();
+	}
+
+	/**
+	 * Returns the number of collections since the last {@link #reset()}.
+	 */
+	public long getCollectionCount() {
+		return totalCollectionCount() - this.collectionCount;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, spent collecting garbage since the last {@link #reset()}.
+	 */
+	public long getCollectionTime() {
+		return totalCollectionTime() - this.collectionTime;
+	}
+
+	private long totalCollectionCount() {
+		return this.garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+	}
+
+	private long totalCollectionTime() {
+		return this.garbageCollectors.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+	}
+
+	@Override
+	public String toString() {
+
+		long collectionCount = getCollectionCount();
+		long collectionTime = getCollectionTime();
+
+		return String.format("%d collections in %d ms (%.2f ms/collection)", collectionCount, collectionTime,
+			collectionCount > 0 ? (double) collectionTime / collectionCount : 0.0d);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.connector.close();
+	}
+}
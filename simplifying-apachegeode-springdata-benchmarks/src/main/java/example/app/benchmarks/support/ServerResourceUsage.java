@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.benchmarks.support;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import com.sun.management.OperatingSystemMXBean;
+
+/**
+ * The {@link ServerResourceUsage} class reads the heap used and the CPU time consumed by the
+ * {@link ApacheGeodeServerProcess} through the platform {@link MemoryMXBean} and {@link OperatingSystemMXBean}
+ * registered with the server's embedded JMX Manager.
+ *
+ * @author John Blum
+ * @see java.lang.management.MemoryMXBean
+ * @see com.sun.management.OperatingSystemMXBean
+ * @see example.app.benchmarks.support.ApacheGeodeServerProcess
+ * @since 1.0.0
+ */
+public class ServerResourceUsage implements AutoCloseable {
+
+	private final JMXConnector connector;
+
+	private final MemoryMXBean memory;
+
+	private final OperatingSystemMXBean operatingSystem;
+
+	private long cpuTime;
+
+	public static ServerResourceUsage connect() throws IOException {
+
+		JMXConnector connector = JMXConnectorFactory.connect(new JMXServiceURL(
+			String.format(ServerGarbageCollection.JMX_SERVICE_URL, ApacheGeodeServerProcess.JMX_MANAGER_PORT)));
+
+		return new ServerResourceUsage(connector);
+	}
+
+	private ServerResourceUsage(JMXConnector connector) throws IOException {
+
+		MBeanServerConnection connection = connector.getMBeanServerConnection();
+
+		this.connector = connector;
+		this.memory = ManagementFactory.getPlatformMXBean(connection, MemoryMXBean.class);
+		this.operatingSystem = ManagementFactory.getPlatformMXBean(connection, OperatingSystemMXBean.class);
+
+		reset();
+	}
+
+	/**
+	 * Starts counting CPU time from the current total of the server JVM.
+	 */
+	public void reset() {
+		this.cpuTime = this.operatingSystem.getProcessCpuTime();
+	}
+
+	/**
+	 * Returns the CPU time, in nanoseconds, consumed by the server since the last {@link #reset()}.
+	 */
+	public long getCpuTime() {
+		return this.operatingSystem.getProcessCpuTime() - this.cpuTime;
+	}
+
+	/**
+	 * Collects garbage on the server and returns the number of bytes of heap still in use.
+	 */
+	public long getLiveHeapUsed() {
+
+		this.memory.gc();
+
+		return this.memory.getHeapMemoryUsage().getUsed();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.connector.close();
+	}
+}
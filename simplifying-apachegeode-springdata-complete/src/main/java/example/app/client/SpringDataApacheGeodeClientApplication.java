@@ -23,11 +23,14 @@ import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.client.ClientRegionShortcut;
 import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.Index;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
 import org.springframework.data.gemfire.config.annotation.EnableClusterConfiguration;
 import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
@@ -36,8 +39,31 @@ import org.springframework.data.gemfire.config.annotation.EnablePdx;
 import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
 import org.springframework.data.repository.CrudRepository;
 
+import example.app.client.cache.EnableNearCache;
+import example.app.client.cache.NearCache;
+import example.app.client.delta.EnableDeltaPropagation;
+import example.app.client.metrics.EnableRepositoryMetrics;
 import example.app.client.model.Customer;
+import example.app.client.pool.AdaptivePoolSizer;
+import example.app.client.pool.EnableAdaptivePool;
+import example.app.client.projection.EnableQueryProjections;
+import example.app.client.query.CachedQuery;
+import example.app.client.query.EnableQueryResultCache;
 import example.app.client.repo.CustomerRepository;
+import example.app.client.repo.reactive.ReactiveCustomerRepository;
+import example.app.client.repo.reactive.SchedulingReactiveCustomerRepository;
+import example.app.client.repo.support.OptimizedGemfireRepository;
+import example.app.client.schema.EnableIncrementalClusterConfiguration;
+import example.app.client.search.EnableTextIndexing;
+import example.app.client.search.TextIndexed;
+import example.app.client.search.TextIndexingConfiguration;
+import example.app.client.startup.StartupTimingReport;
+import example.app.client.view.ContinuousQueryView;
+import example.app.client.view.EnableContinuousQueryViews;
+import example.app.client.workload.KeyDistribution;
+import example.app.client.workload.WorkloadDriver;
+import example.app.expiration.EnableExpirationAndEviction;
+import example.app.metrics.EnableMetrics;
 
 /**
  * The {@link SpringDataApacheGeodeClientApplication} class is a simple Spring Boot, Apache Geode
@@ -59,11 +85,40 @@ import example.app.client.repo.CustomerRepository;
  *
  * I have also configured an Apache Geode OQL {@literal HASH} {@link Index} on the
  * {@link Customer#getName() Customer's name} field.  This is useful since we query for a {@link Customer} by name
- * using a OQL wildcard.
+ * using a OQL wildcard.  However, a wildcard at the beginning of the pattern prevents the query from using the
+ * {@link Index}, so the name is also {@link TextIndexed} for indexed suffix and contains searches, which requires
+ * the {@link Customer} to be serialized with the {@link EnablePdx#serializerBeanName() text indexing PdxSerializer}.
+ *
+ * The {@link Pool} keeps a minimum of {@literal 8} connections open, closing connections above the minimum only
+ * after a minute of inactivity, so that bursts of requests do not open and close connections over and over again,
+ * and is bounded to {@literal 64} connections.  Operations on partitioned {@link Region Regions} are sent directly
+ * to the server hosting the entry (single-hop).  Every setting can be overridden with the corresponding
+ * {@literal spring.data.gemfire.pool.*} property.  With the {@literal adaptive-pool} profile, the {@link Pool}
+ * is sized from the connection usage observed by the {@link AdaptivePoolSizer} on previous runs.
+ *
+ * Read-heavy applications may additionally keep a bounded, client-side near cache of a {@link Region} by annotating
+ * the entity with {@link NearCache}, or by naming the {@link Region} in the {@literal example.app.near-cache.regions}
+ * property, along with enabling subscriptions on the {@link Pool}.  The near cache is bounded by the entity's
+ * {@literal EvictionPolicy} when declared, and expiration policies apply to client {@link Region Regions}
+ * holding data locally, counting the expired and evicted entries as Micrometer metrics.
  *
  * All data access operations (CRUD + OQL Queries) are performed using SDG's Repository infrastructure.
  * Simply define a {@link CrudRepository} interface extension for {@link Customer} along with any application-specific
- * OQL queries, and you are up and running.
+ * OQL queries, and you are up and running.  The Repositories are based on the {@link OptimizedGemfireRepository},
+ * which, for instance, counts {@link Customer Customers} without querying the entire {@link Region}.
+ * The latency, result size and exceptions of every Repository method, along with the connection usage
+ * of the {@link Pool}, are published as Micrometer metrics.  Applications serving many concurrent requests
+ * can use the {@link ReactiveCustomerRepository} instead, which runs the blocking Apache Geode operations
+ * off the caller's thread, on no more threads than the {@link Pool} has connections.
+ * Frequently repeated queries may be declared as a {@link ContinuousQueryView}, kept in client memory and
+ * updated from Continuous Query events once subscriptions are enabled on the {@link Pool}.  Alternatively, the
+ * results of a {@link CachedQuery} are cached, also once subscriptions are enabled, until a {@link Region} entry
+ * event affects them.  Query methods returning projections select only the projected properties.  With the
+ * {@literal delta-propagation} profile, saving a {@link Customer} loaded through a Repository sends only its
+ * changed properties to a server started with the same profile.
+ *
+ * The Micrometer metrics are recorded in the application's {@literal MeterRegistry}, declared by
+ * {@link EnableMetrics}, and logged every {@literal example.app.metrics.report-interval} milliseconds.
  *
  * Finally, while I provide Gfsh scripts in the ${project.home}/etc/ directory, which configures a complete
  * Apache Geode cluster, it is possible just to setup a empty cluster (i.e. No Regions, No Indexes, No Anything)
@@ -71,7 +126,13 @@ import example.app.client.repo.CustomerRepository;
  * in the cluster for you!  How cool is that!
  *
  * However, you must have a full installation of Apache Geode installed on your machine for this to work.
- * This SDG feature makes use of several internal Apache Geode features.
+ * This SDG feature makes use of several internal Apache Geode features.  The definitions are only pushed
+ * when they differ from those pushed by the last start of the application, and the time spent in each
+ * phase of startup is printed in a {@link StartupTimingReport}.
+ *
+ * Instead of saving and querying a single {@link Customer}, the application generates a configurable load
+ * with the {@link WorkloadDriver} when run with the {@literal workload} profile, against a locator and server
+ * started with the {@literal locator-manager} profile.
  *
  * Happy coding!!
  *
@@ -84,27 +145,67 @@ import example.app.client.repo.CustomerRepository;
  * @see org.springframework.data.gemfire.config.annotation.EnableIndexing
  * @see org.springframework.data.gemfire.config.annotation.EnablePdx
  * @see org.springframework.data.gemfire.repository.config.EnableGemfireRepositories
+ * @see example.app.expiration.EnableExpirationAndEviction
+ * @see example.app.client.cache.EnableNearCache
+ * @see example.app.client.delta.EnableDeltaPropagation
+ * @see example.app.client.metrics.EnableRepositoryMetrics
+ * @see example.app.client.pool.EnableAdaptivePool
+ * @see example.app.client.projection.EnableQueryProjections
+ * @see example.app.client.query.EnableQueryResultCache
+ * @see example.app.client.repo.reactive.ReactiveCustomerRepository
+ * @see example.app.client.repo.support.OptimizedGemfireRepository
+ * @see example.app.client.schema.EnableIncrementalClusterConfiguration
+ * @see example.app.client.search.EnableTextIndexing
+ * @see example.app.client.startup.StartupTimingReport
+ * @see example.app.client.view.EnableContinuousQueryViews
+ * @see example.app.client.workload.WorkloadDriver
+ * @see example.app.metrics.EnableMetrics
  * @since 1.0.0
  */
 @SpringBootApplication
-@ClientCacheApplication(name = "SpringDataApacheGeodeClientApplication")
+@ClientCacheApplication(name = "SpringDataApacheGeodeClientApplication", idleTimeout = 60000L,
+	loadConditioningInterval = 300000, maxConnections = 64, minConnections = 8, prSingleHopEnabled = true,
+	readTimeout = 10000, threadLocalConnections = false)
 @EnableClusterConfiguration(useHttp = true)
+@EnableContinuousQueryViews
 @EnableEntityDefinedRegions(basePackageClasses = Customer.class)
-@EnableGemfireRepositories(basePackageClasses = CustomerRepository.class)
+@EnableExpirationAndEviction(basePackageClasses = Customer.class)
+@EnableGemfireRepositories(basePackageClasses = CustomerRepository.class,
+	repositoryBaseClass = OptimizedGemfireRepository.class)
+@EnableIncrementalClusterConfiguration
 @EnableIndexing
-@EnablePdx
+@EnableMetrics
+@EnablePdx(serializerBeanName = TextIndexingConfiguration.TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME)
+@EnableQueryProjections
+@EnableQueryResultCache
+@EnableNearCache(basePackageClasses = Customer.class)
+@EnableRepositoryMetrics
+@EnableTextIndexing(basePackageClasses = Customer.class)
 public class SpringDataApacheGeodeClientApplication {
 
 	public static void main(String[] args) {
 
 		new SpringApplicationBuilder(SpringDataApacheGeodeClientApplication.class).
 			web(WebApplicationType.NONE)
+			.listeners(new StartupTimingReport())
 			.build()
 			.run(args);
 	}
 
 	@Bean
 	@SuppressWarnings("unused")
+	ReactiveCustomerRepository reactiveCustomerRepository(ClientCache clientCache,
+			CustomerRepository customerRepository,
+			@Value("${example.app.repository.save-all.batch-size:1000}") int batchSize,
+			@Value("${example.app.repository.reactive.maximum-queued-requests:1000}") int maximumQueuedRequests) {
+
+		return new SchedulingReactiveCustomerRepository(customerRepository, batchSize,
+			clientCache.getDefaultPool().getMaxConnections(), maximumQueuedRequests);
+	}
+
+	@Bean
+	@Profile("!workload")
+	@SuppressWarnings("unused")
 	ApplicationRunner runner(CustomerRepository customerRepository) {
 
 		return args -> {
@@ -131,4 +232,49 @@ public class SpringDataApacheGeodeClientApplication {
 			System.err.printf("Customer was [%s]%n", queriedJonDoe);
 		};
 	}
+
+	@Configuration
+	@EnableAdaptivePool
+	@Profile("adaptive-pool")
+	@SuppressWarnings("unused")
+	static class AdaptivePoolProfileConfiguration { }
+
+	@Configuration
+	@EnableDeltaPropagation
+	@Profile("delta-propagation")
+	@SuppressWarnings("unused")
+	static class DeltaPropagationProfileConfiguration { }
+
+	@Configuration
+	@Profile("workload")
+	@SuppressWarnings("unused")
+	static class WorkloadConfiguration {
+
+		@Bean
+		ApplicationRunner workloadRunner(CustomerRepository customerRepository,
+				@Value("${example.app.workload.threads:16}") int threads,
+				@Value("${example.app.workload.rate:0}") long rate,
+				@Value("${example.app.workload.read-ratio:80}") int readRatio,
+				@Value("${example.app.workload.write-ratio:15}") int writeRatio,
+				@Value("${example.app.workload.query-ratio:5}") int queryRatio,
+				@Value("${example.app.workload.key-count:100000}") long keyCount,
+				@Value("${example.app.workload.key-distribution:UNIFORM}") KeyDistribution keyDistribution,
+				@Value("${example.app.workload.warmup-seconds:30}") long warmupSeconds,
+				@Value("${example.app.workload.duration-seconds:120}") long durationSeconds) {
+
+			return args -> WorkloadDriver.builder()
+				.customerRepository(customerRepository)
+				.threads(threads)
+				.rate(rate)
+				.readRatio(readRatio)
+				.writeRatio(writeRatio)
+				.queryRatio(queryRatio)
+				.keyCount(keyCount)
+				.keyDistribution(keyDistribution)
+				.warmupSeconds(warmupSeconds)
+				.durationSeconds(durationSeconds)
+				.build()
+				.run();
+		}
+	}
 }
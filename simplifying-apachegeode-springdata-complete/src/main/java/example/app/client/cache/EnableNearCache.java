@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableNearCache} annotation enables client-side near caching for entity-defined {@literal Regions}.
+ *
+ * A {@literal Region} is near cached when its entity, found in the {@link #basePackages()}
+ * or {@link #basePackageClasses()}, is annotated with {@link NearCache}, or when the {@literal Region} is named
+ * in the {@literal example.app.near-cache.regions} property.  Near cached {@literal Regions} register interest
+ * in all keys, without fetching values, so that updates on the servers invalidate stale entries; therefore,
+ * the client {@literal Pool} must have subscriptions enabled.
+ *
+ * @author John Blum
+ * @see example.app.client.cache.NearCache
+ * @see example.app.client.cache.NearCacheConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(NearCacheConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableNearCache {
+
+	/**
+	 * Packages scanned for {@link NearCache} annotated entities.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link NearCache} annotation declares that the client {@literal Region} to which the annotated entity
+ * is mapped should be a {@link ClientRegionShortcut#CACHING_PROXY}, bounded by LRU eviction, rather than
+ * the default {@link ClientRegionShortcut#PROXY}.
+ *
+ * Near caching must be enabled with {@link EnableNearCache}.
+ *
+ * @author John Blum
+ * @see example.app.client.cache.EnableNearCache
+ * @see org.apache.geode.cache.EvictionAttributes
+ * @see org.apache.geode.cache.client.ClientRegionShortcut#CACHING_PROXY
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface NearCache {
+
+	int DEFAULT_MAXIMUM_ENTRIES = EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM;
+
+	/**
+	 * Type of LRU eviction used to bound the near cache.
+	 *
+	 * Defaults to {@link EvictionType#ENTRY_COUNT}.
+	 */
+	EvictionType evictionType() default EvictionType.ENTRY_COUNT;
+
+	/**
+	 * Maximum number of entries kept in the near cache when using {@link EvictionType#ENTRY_COUNT}.
+	 */
+	int maximumEntries() default DEFAULT_MAXIMUM_ENTRIES;
+
+	enum EvictionType {
+
+		/**
+		 * Evicts the least recently used entry once the near cache holds {@link #maximumEntries()} entries.
+		 */
+		ENTRY_COUNT,
+
+		/**
+		 * Evicts least recently used entries once the JVM heap exceeds the {@literal ClientCache}
+		 * eviction heap percentage.
+		 *
+		 * @see org.springframework.data.gemfire.config.annotation.ClientCacheApplication#evictionHeapPercentage()
+		 */
+		HEAP_PERCENTAGE
+
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.util.ObjectSizer;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.ClassUtils;
+
+import example.app.expiration.ExpirationAndEvictionConfiguration;
+import example.app.model.EvictionPolicy;
+
+/**
+ * The {@link NearCacheConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableNearCache}, that turns the client {@literal Regions} of {@link NearCache} annotated entities,
+ * and {@literal Regions} named in the {@literal example.app.near-cache.regions} property,
+ * into {@link ClientRegionShortcut#CACHING_PROXY} {@literal Regions} bounded by LRU eviction.
+ *
+ * {@literal Regions} declared by property are configured with the {@literal example.app.near-cache.eviction-type}
+ * and {@literal example.app.near-cache.maximum-entries} properties.  Entities also declaring an {@link EvictionPolicy}
+ * are bounded by that policy instead.
+ *
+ * @author John Blum
+ * @see example.app.client.cache.EnableNearCache
+ * @see example.app.model.EvictionPolicy
+ * @see example.app.client.cache.NearCache
+ * @see example.app.client.cache.NearCacheRegions
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class NearCacheConfiguration implements EnvironmentAware, ImportAware {
+
+	protected static final String NEAR_CACHE_PROPERTY_PREFIX = "example.app.near-cache.";
+
+	private Environment environment;
+
+	private Map<String, NearCacheDefinition> nearCacheDefinitions;
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableNearCacheAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableNearCache.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(enableNearCacheAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableNearCacheAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	private synchronized Map<String, NearCacheDefinition> resolveNearCacheDefinitions() {
+
+		if (this.nearCacheDefinitions == null) {
+
+			Map<String, NearCacheDefinition> nearCacheDefinitions = new HashMap<>();
+
+			NearCache.EvictionType evictionType = this.environment.getProperty(
+				NEAR_CACHE_PROPERTY_PREFIX + "eviction-type", NearCache.EvictionType.class,
+					NearCache.EvictionType.ENTRY_COUNT);
+
+			int maximumEntries = this.environment.getProperty(NEAR_CACHE_PROPERTY_PREFIX + "maximum-entries",
+				Integer.class, NearCache.DEFAULT_MAXIMUM_ENTRIES);
+
+			Arrays.stream(this.environment.getProperty(NEAR_CACHE_PROPERTY_PREFIX + "regions", String[].class,
+				new String[0]))
+					.map(String::trim)
+					.filter(regionName -> !regionName.isEmpty())
+					.forEach(regionName -> nearCacheDefinitions.put(regionName,
+						new NearCacheDefinition(evictionType, maximumEntries)));
+
+			GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+			ClassPathScanningCandidateComponentProvider nearCacheEntityScanner =
+				new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+			nearCacheEntityScanner.addIncludeFilter(new AnnotationTypeFilter(NearCache.class));
+
+			for (String basePackage : this.basePackages) {
+				for (BeanDefinition nearCacheEntity : nearCacheEntityScanner.findCandidateComponents(basePackage)) {
+
+					Class<?> entityType = ClassUtils.resolveClassName(nearCacheEntity.getBeanClassName(),
+						ClassUtils.getDefaultClassLoader());
+
+					NearCache nearCache = AnnotationUtils.findAnnotation(entityType, NearCache.class);
+
+					EvictionPolicy evictionPolicy = AnnotationUtils.findAnnotation(entityType, EvictionPolicy.class);
+
+					NearCacheDefinition nearCacheDefinition = evictionPolicy == null
+						? new NearCacheDefinition(nearCache.evictionType(), nearCache.maximumEntries())
+						: new NearCacheDefinition(
+							ExpirationAndEvictionConfiguration.toEvictionAttributes(evictionPolicy));
+
+					nearCacheDefinitions.put(mappingContext.getRequiredPersistentEntity(entityType).getRegionName(),
+						nearCacheDefinition);
+				}
+			}
+
+			this.nearCacheDefinitions = Collections.unmodifiableMap(nearCacheDefinitions);
+		}
+
+		return this.nearCacheDefinitions;
+	}
+
+	@Bean
+	RegionConfigurer nearCacheRegionConfigurer() {
+
+		Map<String, NearCacheDefinition> nearCacheDefinitions = resolveNearCacheDefinitions();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
+
+				Optional.ofNullable(nearCacheDefinitions.get(beanName)).ifPresent(nearCacheDefinition -> {
+					bean.setShortcut(ClientRegionShortcut.CACHING_PROXY);
+					bean.setEvictionAttributes(nearCacheDefinition.toEvictionAttributes());
+					bean.setStatisticsEnabled(true);
+				});
+			}
+		};
+	}
+
+	@Bean
+	NearCacheRegions nearCacheRegions(GemFireCache gemfireCache) {
+		return new NearCacheRegions(gemfireCache, resolveNearCacheDefinitions().keySet());
+	}
+
+	private static class NearCacheDefinition {
+
+		private final EvictionAttributes evictionAttributes;
+
+		NearCacheDefinition(NearCache.EvictionType evictionType, int maximumEntries) {
+			this(NearCache.EvictionType.HEAP_PERCENTAGE.equals(evictionType)
+				? EvictionAttributes.createLRUHeapAttributes(ObjectSizer.DEFAULT, EvictionAction.LOCAL_DESTROY)
+				: EvictionAttributes.createLRUEntryAttributes(maximumEntries, EvictionAction.LOCAL_DESTROY));
+		}
+
+		NearCacheDefinition(EvictionAttributes evictionAttributes) {
+			this.evictionAttributes = evictionAttributes;
+		}
+
+		EvictionAttributes toEvictionAttributes() {
+			return this.evictionAttributes;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.cache;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link NearCacheRegions} class keeps near cached client {@link Region Regions} consistent with the servers
+ * by registering interest in all keys, and exposes the hit and miss counters of each near cache.
+ *
+ * Interest is registered without values so that the servers send invalidations, rather than updated values,
+ * for entries changed by other clients; the next read then fetches the current value.
+ *
+ * @author John Blum
+ * @see example.app.client.cache.NearCacheConfiguration
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.Region#registerInterestRegex(String, InterestResultPolicy, boolean, boolean)
+ * @since 1.0.0
+ */
+public class NearCacheRegions implements SmartInitializingSingleton {
+
+	protected static final String ALL_KEYS_REGEX = ".*";
+
+	private final GemFireCache gemfireCache;
+
+	private final Set<String> regionNames;
+
+	public NearCacheRegions(GemFireCache gemfireCache, Set<String> regionNames) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+		this.regionNames = Collections.unmodifiableSet(regionNames);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		this.regionNames.stream().map(this::resolveRegion).forEach(this::registerInterest);
+	}
+
+	private void registerInterest(Region<?, ?> region) {
+
+		Pool pool = PoolManager.find(region.getAttributes().getPoolName());
+
+		Assert.state(pool != null && pool.getSubscriptionEnabled(),
+			String.format("Near cached Region [%s] requires a Pool with subscriptions enabled", region.getFullPath()));
+
+		region.registerInterestRegex(ALL_KEYS_REGEX, InterestResultPolicy.NONE, false, false);
+	}
+
+	private Region<?, ?> resolveRegion(String regionName) {
+
+		Region<?, ?> region = this.gemfireCache.getRegion(regionName);
+
+		Assert.state(region != null, String.format("Near cached Region [%s] was not found", regionName));
+
+		return region;
+	}
+
+	public Set<String> getRegionNames() {
+		return this.regionNames;
+	}
+
+	public long getHitCount(String regionName) {
+		return getStatistics(regionName).getHitCount();
+	}
+
+	public long getMissCount(String regionName) {
+		return getStatistics(regionName).getMissCount();
+	}
+
+	public float getHitRatio(String regionName) {
+		return getStatistics(regionName).getHitRatio();
+	}
+
+	private CacheStatistics getStatistics(String regionName) {
+
+		Assert.isTrue(this.regionNames.contains(regionName),
+			String.format("Region [%s] is not near cached", regionName));
+
+		return resolveRegion(regionName).getStatistics();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.delta;
+
+import java.util.Arrays;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+
+/**
+ * The {@link DeltaPropagationConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableDeltaPropagation}, that adds the {@link DeltaTrackingInterceptor} to every Spring Data
+ * {@link Repository} bean managing a {@link DeltaTrackingEntity}.
+ *
+ * @author John Blum
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @see example.app.client.delta.DeltaTrackingInterceptor
+ * @see example.app.client.delta.EnableDeltaPropagation
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class DeltaPropagationConfiguration {
+
+	@Bean
+	static BeanPostProcessor deltaTrackingBeanPostProcessor() {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+				if (isDeltaTrackingEntityRepository(bean)) {
+
+					DeltaTrackingInterceptor interceptor = new DeltaTrackingInterceptor();
+
+					if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+						((Advised) bean).addAdvice(0, interceptor);
+						return bean;
+					}
+
+					ProxyFactory proxyFactory = new ProxyFactory(bean);
+
+					proxyFactory.addAdvice(interceptor);
+
+					return proxyFactory.getProxy();
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	static boolean isDeltaTrackingEntityRepository(Object bean) {
+
+		return bean instanceof Repository && Arrays.stream(AopProxyUtils.proxiedUserInterfaces(bean))
+			.filter(Repository.class::isAssignableFrom)
+			.findFirst()
+			.map(AbstractRepositoryMetadata::getMetadata)
+			.filter(metadata -> DeltaTrackingEntity.class.isAssignableFrom(metadata.getDomainType()))
+			.isPresent();
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.delta;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.Delta;
+import org.apache.geode.InvalidDeltaException;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * The {@link DeltaTrackingEntity} class is an abstract base class for mapped entities implementing
+ * Apache Geode's {@link Delta} interface, so that saving an entity sends only the persistent properties
+ * changed since the entity was loaded, or last saved, through a Spring Data Repository.
+ *
+ * Changes are detected by comparing the current value of each persistent property, other than the identifier,
+ * with the value recorded when the entity was {@link #markClean() marked clean} by the
+ * {@link DeltaTrackingInterceptor}.  The comparison is shallow, therefore mutable property values
+ * (e.g. collections) must be replaced rather than modified in place for the change to be detected.
+ * Entities that were never marked clean, such as new entities, have no delta and are sent whole.
+ * The clean state belongs to a single caller, so an entity held in client memory and returned to several callers,
+ * for instance by a near cache, is only tracked for the first caller; the others receive tracked copies.
+ *
+ * Apache Geode applies the delta to the deserialized value held by the server, which requires the entity class
+ * on the server's classpath and a server that does not read PDX serialized values as {@literal PdxInstances}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.Delta
+ * @see example.app.client.delta.DeltaTrackingInterceptor
+ * @see example.app.client.delta.EnableDeltaPropagation
+ * @since 1.0.0
+ */
+public abstract class DeltaTrackingEntity implements Delta {
+
+	private static final GemfireMappingContext MAPPING_CONTEXT = new GemfireMappingContext();
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<DeltaTrackingEntity, Map> CLEAN_PROPERTY_VALUES =
+		AtomicReferenceFieldUpdater.newUpdater(DeltaTrackingEntity.class, Map.class, "cleanPropertyValues");
+
+	@Transient
+	private transient volatile Map<String, Object> cleanPropertyValues;
+
+	/**
+	 * Records the current values of the entity's persistent properties as its clean state.
+	 */
+	void markClean() {
+		this.cleanPropertyValues = getTrackedPropertyValues();
+	}
+
+	/**
+	 * Records the current values of the entity's persistent properties as its clean state, unless the entity
+	 * is already tracked, in which case its changes belong to the caller that first received it.
+	 *
+	 * @return {@literal true} if the entity was marked clean; {@literal false} if it was already tracked.
+	 */
+	boolean markCleanIfUntracked() {
+		return CLEAN_PROPERTY_VALUES.compareAndSet(this, null, getTrackedPropertyValues());
+	}
+
+	private Map<String, Object> getTrackedPropertyValues() {
+
+		Map<String, Object> propertyValues = new HashMap<>();
+
+		PersistentPropertyAccessor accessor = getPersistentEntity().getPropertyAccessor(this);
+
+		doWithTrackedProperties(property -> propertyValues.put(property.getName(), accessor.getProperty(property)));
+
+		return propertyValues;
+	}
+
+	boolean isTracked() {
+		return this.cleanPropertyValues != null;
+	}
+
+	private GemfirePersistentEntity<?> getPersistentEntity() {
+		return MAPPING_CONTEXT.getRequiredPersistentEntity(getClass());
+	}
+
+	private void doWithTrackedProperties(PropertyHandler<GemfirePersistentProperty> handler) {
+
+		getPersistentEntity().doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+			if (!property.isIdProperty()) {
+				handler.doWithPersistentProperty(property);
+			}
+		});
+	}
+
+	private Map<String, Object> getChangedPropertyValues() {
+
+		Map<String, Object> cleanPropertyValues = this.cleanPropertyValues;
+
+		Map<String, Object> changedPropertyValues = new LinkedHashMap<>();
+
+		if (cleanPropertyValues != null) {
+
+			PersistentPropertyAccessor accessor = getPersistentEntity().getPropertyAccessor(this);
+
+			doWithTrackedProperties(property -> {
+
+				Object value = accessor.getProperty(property);
+
+				if (!ObjectUtils.nullSafeEquals(value, cleanPropertyValues.get(property.getName()))) {
+					changedPropertyValues.put(property.getName(), value);
+				}
+			});
+		}
+
+		return changedPropertyValues;
+	}
+
+	@Override
+	public boolean hasDelta() {
+		return !getChangedPropertyValues().isEmpty();
+	}
+
+	@Override
+	public void toDelta(DataOutput out) throws IOException {
+
+		Map<String, Object> changedPropertyValues = getChangedPropertyValues();
+
+		out.writeInt(changedPropertyValues.size());
+
+		for (Map.Entry<String, Object> changedPropertyValue : changedPropertyValues.entrySet()) {
+			DataSerializer.writeString(changedPropertyValue.getKey(), out);
+			DataSerializer.writeObject(changedPropertyValue.getValue(), out);
+		}
+	}
+
+	@Override
+	public void fromDelta(DataInput in) throws IOException {
+
+		GemfirePersistentEntity<?> entity = getPersistentEntity();
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(this);
+
+		try {
+			for (int count = in.readInt(); count > 0; count--) {
+
+				String propertyName = DataSerializer.readString(in);
+
+				GemfirePersistentProperty property = entity.getPersistentProperty(propertyName);
+
+				if (property == null) {
+					throw new InvalidDeltaException(String.format(
+						"Property [%1$s] is not a persistent property of [%2$s]", propertyName,
+							entity.getType().getName()));
+				}
+
+				accessor.setProperty(property, DataSerializer.readObject(in));
+			}
+		}
+		catch (ClassNotFoundException cause) {
+			throw new InvalidDeltaException(cause);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.delta;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import example.app.client.repo.support.EntityCopier;
+
+/**
+ * The {@link DeltaTrackingInterceptor} class is an AOP Alliance {@link MethodInterceptor} marking every
+ * {@link DeltaTrackingEntity} returned by a Spring Data Repository method clean, so that the entity tracks
+ * the changes made to it from then on.
+ *
+ * Entities are returned by both the finder methods and the {@literal save} methods, therefore an entity is
+ * marked clean when it is loaded and again once it has been saved successfully.  Entities returned in a
+ * {@link Stream} are marked clean as the {@link Stream} is consumed.
+ *
+ * An entity returned by a finder method that is already tracked is shared with another caller, for instance
+ * because it is held by a near cache, so the caller receives a copy of the entity, tracked from then on,
+ * rather than the shared entity.  Otherwise, the changes made by one caller would be sent by the other.
+ *
+ * @author John Blum
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @since 1.0.0
+ */
+public class DeltaTrackingInterceptor implements MethodInterceptor {
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Object result = invocation.proceed();
+
+		if (!isSave(invocation)) {
+			return track(result);
+		}
+
+		if (result instanceof Stream) {
+			return ((Stream<?>) result).peek(this::markClean);
+		}
+
+		markClean(result);
+
+		return result;
+	}
+
+	private boolean isSave(MethodInvocation invocation) {
+		return invocation.getMethod().getName().startsWith("save");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object track(Object result) {
+
+		if (result instanceof DeltaTrackingEntity) {
+
+			DeltaTrackingEntity entity = (DeltaTrackingEntity) result;
+
+			if (entity.markCleanIfUntracked()) {
+				return entity;
+			}
+
+			DeltaTrackingEntity copy = EntityCopier.copy(entity);
+
+			copy.markClean();
+
+			return copy;
+		}
+		else if (result instanceof Optional) {
+			return ((Optional<?>) result).map(this::track);
+		}
+		else if (result instanceof Stream) {
+			return ((Stream<?>) result).map(this::track);
+		}
+		else if (result instanceof Slice) {
+			return ((Slice<Object>) result).map(this::track);
+		}
+		else if (result instanceof List) {
+			return ((List<?>) result).stream().map(this::track).collect(Collectors.toCollection(ArrayList::new));
+		}
+		else if (result instanceof Set) {
+			return ((Set<?>) result).stream().map(this::track).collect(Collectors.toCollection(LinkedHashSet::new));
+		}
+		else if (result instanceof Map) {
+
+			Map<Object, Object> map = new LinkedHashMap<>();
+
+			((Map<?, ?>) result).forEach((key, value) -> map.put(key, track(value)));
+
+			return map;
+		}
+		else if (result instanceof Object[]) {
+
+			Object[] array = ((Object[]) result).clone();
+
+			for (int index = 0; index < array.length; index++) {
+				array[index] = track(array[index]);
+			}
+
+			return array;
+		}
+		else if (result instanceof Iterable) {
+			// the elements of other Iterables cannot be replaced, so shared entities are left to their first caller
+			((Iterable<?>) result).forEach(element -> {
+				if (element instanceof DeltaTrackingEntity) {
+					((DeltaTrackingEntity) element).markCleanIfUntracked();
+				}
+			});
+		}
+
+		return result;
+	}
+
+	private void markClean(Object result) {
+
+		if (result instanceof DeltaTrackingEntity) {
+			((DeltaTrackingEntity) result).markClean();
+		}
+		else if (result instanceof Optional) {
+			((Optional<?>) result).ifPresent(this::markClean);
+		}
+		else if (result instanceof Iterable) {
+			((Iterable<?>) result).forEach(this::markClean);
+		}
+		else if (result instanceof Map) {
+			((Map<?, ?>) result).values().forEach(this::markClean);
+		}
+		else if (result instanceof Object[]) {
+			for (Object element : (Object[]) result) {
+				markClean(element);
+			}
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.delta;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableDeltaPropagation} annotation enables tracking the changes made to {@link DeltaTrackingEntity}
+ * entities loaded through Spring Data Repositories, so that saving an updated entity sends only the changed
+ * properties to the servers, and on to the redundant copies, using Apache Geode's delta propagation.
+ *
+ * The servers must be able to deserialize the entities to apply the deltas; when a delta cannot be applied,
+ * for instance because the entry no longer exists on the server, Apache Geode sends the whole entity instead.
+ *
+ * @author John Blum
+ * @see example.app.client.delta.DeltaPropagationConfiguration
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(DeltaPropagationConfiguration.class)
+public @interface EnableDeltaPropagation {
+
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.distributed.DistributedSystem;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link PoolMetrics} class is a Micrometer {@link MeterBinder} publishing the connection usage
+ * and connection wait time of every client {@literal Pool}, as recorded by Apache Geode's {@literal PoolStats}.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @see org.apache.geode.Statistics
+ * @since 1.0.0
+ */
+public class PoolMetrics implements MeterBinder {
+
+	protected static final String POOL_STATISTICS_TYPE_NAME = "PoolStats";
+
+	private final GemFireCache gemfireCache;
+
+	public PoolMetrics(GemFireCache gemfireCache) {
+		this.gemfireCache = gemfireCache;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		DistributedSystem distributedSystem = this.gemfireCache.getDistributedSystem();
+
+		StatisticsType poolStatisticsType = distributedSystem.findType(POOL_STATISTICS_TYPE_NAME);
+
+		if (poolStatisticsType != null) {
+			for (Statistics poolStatistics : distributedSystem.findStatisticsByType(poolStatisticsType)) {
+
+				String poolName = poolStatistics.getTextId();
+
+				Gauge.builder("geode.pool.connections", poolStatistics,
+						statistics -> statistics.get("connections").doubleValue())
+					.description("Current number of connections")
+					.tag("pool", poolName)
+					.register(registry);
+
+				Gauge.builder("geode.pool.connections.pooled", poolStatistics,
+						statistics -> statistics.get("poolConnections").doubleValue())
+					.description("Current number of pooled connections")
+					.tag("pool", poolName)
+					.register(registry);
+
+				Gauge.builder("geode.pool.connections.waiting", poolStatistics,
+						statistics -> statistics.get("connectionWaitsInProgress").doubleValue())
+					.description("Current number of threads waiting for a connection")
+					.tag("pool", poolName)
+					.register(registry);
+
+				Gauge.builder("geode.pool.operations.active", poolStatistics,
+						statistics -> statistics.get("clientOpsInProgress").doubleValue())
+					.description("Current number of client operations in progress")
+					.tag("pool", poolName)
+					.register(registry);
+
+				FunctionCounter.builder("geode.pool.connections.created", poolStatistics,
+						statistics -> statistics.get("connects").doubleValue())
+					.description("Total number of connections created")
+					.tag("pool", poolName)
+					.register(registry);
+
+				FunctionTimer.builder("geode.pool.connection.wait", poolStatistics,
+						statistics -> statistics.get("connectionWaits").longValue(),
+						statistics -> statistics.get("connectionWaitTime").doubleValue(), TimeUnit.NANOSECONDS)
+					.description("Time spent waiting for a connection from the pool")
+					.tag("pool", poolName)
+					.register(registry);
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.metrics;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link RepositoryMetricsConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableRepositoryMetrics}, that adds the {@link RepositoryMetricsInterceptor} to every Spring Data
+ * {@link Repository} bean and binds the {@link PoolMetrics}.
+ *
+ * @author John Blum
+ * @see example.app.client.metrics.EnableRepositoryMetrics
+ * @see example.app.client.metrics.PoolMetrics
+ * @see example.app.client.metrics.RepositoryMetricsInterceptor
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class RepositoryMetricsConfiguration {
+
+	static Supplier<MeterRegistry> meterRegistrySupplier(ObjectProvider<MeterRegistry> meterRegistry) {
+		return () -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+	}
+
+	static String resolveRepositoryName(Object repository) {
+
+		return Arrays.stream(AopProxyUtils.proxiedUserInterfaces(repository))
+			.filter(Repository.class::isAssignableFrom)
+			.findFirst()
+			.map(Class::getSimpleName)
+			.orElseGet(() -> ClassUtils.getUserClass(repository).getSimpleName());
+	}
+
+	@Bean
+	static BeanPostProcessor repositoryMetricsBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+
+		Supplier<MeterRegistry> meterRegistrySupplier = meterRegistrySupplier(meterRegistry);
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+				if (bean instanceof Repository) {
+
+					RepositoryMetricsInterceptor repositoryMetricsInterceptor =
+						new RepositoryMetricsInterceptor(meterRegistrySupplier, resolveRepositoryName(bean));
+
+					if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+						((Advised) bean).addAdvice(0, repositoryMetricsInterceptor);
+						return bean;
+					}
+
+					ProxyFactory proxyFactory = new ProxyFactory(bean);
+
+					proxyFactory.addAdvice(repositoryMetricsInterceptor);
+
+					return proxyFactory.getProxy();
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	SmartInitializingSingleton poolMetricsBinder(GemFireCache gemfireCache,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return () -> new PoolMetrics(gemfireCache).bindTo(meterRegistrySupplier(meterRegistry).get());
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.metrics;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link RepositoryMetricsInterceptor} class is an AOP Alliance {@link MethodInterceptor} recording the latency,
+ * result size and exceptions of every invocation of a Spring Data Repository method in a {@link MeterRegistry}.
+ *
+ * Latencies are published with the 50th, 99th and 99.9th percentiles along with a percentile histogram.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @since 1.0.0
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+	public static final String REPOSITORY_EXCEPTIONS_METRIC_NAME = "repository.exceptions";
+	public static final String REPOSITORY_INVOCATIONS_METRIC_NAME = "repository.invocations";
+	public static final String REPOSITORY_RESULTS_METRIC_NAME = "repository.results";
+
+	private volatile MeterRegistry meterRegistry;
+
+	private final String repositoryName;
+
+	private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+	public RepositoryMetricsInterceptor(Supplier<MeterRegistry> meterRegistrySupplier, String repositoryName) {
+		this.meterRegistrySupplier = meterRegistrySupplier;
+		this.repositoryName = repositoryName;
+	}
+
+	private MeterRegistry getMeterRegistry() {
+
+		if (this.meterRegistry == null) {
+			this.meterRegistry = this.meterRegistrySupplier.get();
+		}
+
+		return this.meterRegistry;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		MeterRegistry meterRegistry = getMeterRegistry();
+
+		String methodName = invocation.getMethod().getName();
+
+		String exceptionName = "none";
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		try {
+
+			Object result = invocation.proceed();
+
+			recordResultSize(meterRegistry, methodName, invocation.getMethod().getReturnType(), result);
+
+			return result;
+		}
+		catch (Throwable cause) {
+
+			exceptionName = cause.getClass().getSimpleName();
+
+			Counter.builder(REPOSITORY_EXCEPTIONS_METRIC_NAME)
+				.description("Number of exceptions thrown by Repository methods")
+				.tags("repository", this.repositoryName, "method", methodName, "exception", exceptionName)
+				.register(meterRegistry)
+				.increment();
+
+			throw cause;
+		}
+		finally {
+			sample.stop(Timer.builder(REPOSITORY_INVOCATIONS_METRIC_NAME)
+				.description("Latency of Repository method invocations")
+				.tags("repository", this.repositoryName, "method", methodName, "exception", exceptionName)
+				.publishPercentiles(0.5d, 0.99d, 0.999d)
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+		}
+	}
+
+	private void recordResultSize(MeterRegistry meterRegistry, String methodName, Class<?> returnType, Object result) {
+
+		if (isEntityResult(returnType, result)) {
+			DistributionSummary.builder(REPOSITORY_RESULTS_METRIC_NAME)
+				.description("Number of entities returned by Repository methods")
+				.tags("repository", this.repositoryName, "method", methodName)
+				.register(meterRegistry)
+				.record(sizeOf(result));
+		}
+	}
+
+	private boolean isEntityResult(Class<?> returnType, Object result) {
+
+		return !(returnType.isPrimitive()
+			|| Number.class.isAssignableFrom(returnType)
+			|| Boolean.class.equals(returnType)
+			|| Void.class.equals(returnType)
+			|| result instanceof BaseStream
+			|| (result instanceof Iterable && !(result instanceof Collection || result instanceof Slice)));
+	}
+
+	private int sizeOf(Object result) {
+
+		return result == null ? 0
+			: result instanceof Collection ? ((Collection<?>) result).size()
+			: result instanceof Map ? ((Map<?, ?>) result).size()
+			: result instanceof Slice ? ((Slice<?>) result).getNumberOfElements()
+			: result instanceof Optional ? (((Optional<?>) result).isPresent() ? 1 : 0)
+			: result.getClass().isArray() ? Array.getLength(result)
+			: 1;
+	}
+}
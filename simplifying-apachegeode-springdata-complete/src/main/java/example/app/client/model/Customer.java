@@ -17,33 +17,61 @@
 package example.app.client.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 import org.springframework.data.gemfire.mapping.annotation.Indexed;
 import org.springframework.data.gemfire.mapping.annotation.Region;
 
+import example.app.client.delta.DeltaTrackingEntity;
+import example.app.client.search.TextIndexed;
+import example.app.model.Compressed;
+import example.app.model.EvictionPolicy;
+import example.app.model.Partitioned;
+import example.app.model.WriteBehind;
+
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 /**
  * The {@link Customer} class is an Abstract Data Type (ADT) modeling a customer.
  *
+ * A {@link Customer} loaded through a Repository tracks its changes, so that only the changed properties
+ * are sent to the servers when it is saved with delta propagation enabled.
+ *
+ * Under heap pressure, the least recently used {@link Customer Customers} overflow to disk, bounding the size
+ * of the {@literal Customers} Region in memory.
+ *
  * @author John Blum
  * @see org.springframework.data.annotation.Id
  * @see org.springframework.data.gemfire.mapping.annotation.Region
  * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+ * @see example.app.model.EvictionPolicy
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @see example.app.client.search.TextIndexed
+ * @see example.app.model.Compressed
+ * @see example.app.model.Partitioned
+ * @see example.app.model.WriteBehind
  * @see lombok
  * @since 1.0.0
  */
+@Compressed
 @Data
+@EqualsAndHashCode(callSuper = false)
+@EvictionPolicy(type = EvictionPolicyType.HEAP_PERCENTAGE, action = EvictionActionType.OVERFLOW_TO_DISK)
+@Partitioned(redundantCopies = 1)
 @Region("Customers")
 @RequiredArgsConstructor(staticName = "newCustomer")
-public class Customer {
+@WriteBehind
+public class Customer extends DeltaTrackingEntity {
 
 	@Id @NonNull
 	private Long id;
 
 	@NonNull
 	@Indexed
+	@TextIndexed
 	private String name;
 
 }
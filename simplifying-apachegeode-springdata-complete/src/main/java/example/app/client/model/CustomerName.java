@@ -0,0 +1,32 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.model;
+
+/**
+ * The {@link CustomerName} interface is a closed Spring Data projection of a {@link Customer} exposing only
+ * the {@link Customer Customer's} name.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.projection.EnableQueryProjections
+ * @since 1.0.0
+ */
+public interface CustomerName {
+
+	String getName();
+
+}
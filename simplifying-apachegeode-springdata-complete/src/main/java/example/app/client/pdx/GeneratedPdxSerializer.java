@@ -0,0 +1,426 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.pdx;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializationException;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import example.app.client.search.TextIndexed;
+import example.app.client.search.TextIndexingPdxSerializer;
+
+/**
+ * The {@link GeneratedPdxSerializer} class is a {@link PdxSerializer} that generates a dedicated serializer
+ * for each mapped entity type the first time the type is serialized or deserialized.
+ *
+ * The generated serializer reads and writes the entity's persistent properties through its public getters
+ * and setters and its persistence constructor, bound once with {@link LambdaMetafactory} and method handles,
+ * instead of resolving mapping metadata and accessing the properties reflectively on every call.
+ * {@literal int} and {@literal long} properties are read and written without boxing.  The PDX fields written are
+ * the same as those written by SDG's {@literal MappingPdxSerializer}, including the identity field.
+ *
+ * When text indexing is enabled, the reversed value and the n-grams of every {@link TextIndexed} property are
+ * written along with the property, as the {@link TextIndexingPdxSerializer} does, from the value already read
+ * by the generated accessor.
+ *
+ * Types without public accessors for all of their persistent properties, and types that are not entities,
+ * are handled by the fallback {@link PdxSerializer}; the fallback is logged once for each entity type.
+ *
+ * @author John Blum
+ * @see java.lang.invoke.LambdaMetafactory
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 1.0.0
+ */
+public class GeneratedPdxSerializer implements PdxSerializer {
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private final boolean textIndexing;
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<Class<?>, Optional<EntitySerializer>> entitySerializers = new ConcurrentHashMap<>();
+
+	private final PdxSerializer fallbackPdxSerializer;
+
+	public GeneratedPdxSerializer(PdxSerializer fallbackPdxSerializer) {
+		this(fallbackPdxSerializer, false);
+	}
+
+	public GeneratedPdxSerializer(PdxSerializer fallbackPdxSerializer, boolean textIndexing) {
+
+		Assert.notNull(fallbackPdxSerializer, "Fallback PdxSerializer is required");
+
+		this.fallbackPdxSerializer = fallbackPdxSerializer;
+		this.textIndexing = textIndexing;
+	}
+
+	@Override
+	public boolean toData(Object value, PdxWriter pdxWriter) {
+
+		Optional<EntitySerializer> entitySerializer = resolveEntitySerializer(value.getClass());
+
+		if (entitySerializer.isPresent()) {
+			entitySerializer.get().write(value, pdxWriter);
+			return true;
+		}
+
+		return this.fallbackPdxSerializer.toData(value, pdxWriter);
+	}
+
+	@Override
+	public Object fromData(Class<?> type, PdxReader pdxReader) {
+
+		return resolveEntitySerializer(type)
+			.map(entitySerializer -> entitySerializer.read(pdxReader))
+			.orElseGet(() -> this.fallbackPdxSerializer.fromData(type, pdxReader));
+	}
+
+	private Optional<EntitySerializer> resolveEntitySerializer(Class<?> type) {
+		return this.entitySerializers.computeIfAbsent(type, this::generateEntitySerializer);
+	}
+
+	private Optional<EntitySerializer> generateEntitySerializer(Class<?> type) {
+
+		try {
+
+			PersistentEntity<?, ? extends PersistentProperty<?>> entity = this.mappingContext.getPersistentEntity(type);
+
+			return entity != null
+				? Optional.of(EntitySerializer.generate(entity, this.textIndexing))
+				: Optional.empty();
+		}
+		catch (MappingException | UnsupportedEntityException cause) {
+
+			this.logger.info(String.format("Serializing [%1$s] with the fallback PdxSerializer; %2$s",
+				type.getName(), cause.getMessage()));
+
+			return Optional.empty();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T lambda(Class<T> functionalInterface, String methodName, MethodType methodType,
+			MethodHandle implementation, MethodType instantiatedMethodType) throws LambdaConversionException {
+
+		CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName,
+			MethodType.methodType(functionalInterface), methodType, implementation, instantiatedMethodType);
+
+		try {
+			return (T) callSite.getTarget().invoke();
+		}
+		catch (Throwable cause) {
+			throw new IllegalStateException(String.format("Failed to create [%s]", functionalInterface.getName()),
+				cause);
+		}
+	}
+
+	@FunctionalInterface
+	interface PropertyWriter {
+		void write(Object entity, PdxWriter pdxWriter);
+	}
+
+	@FunctionalInterface
+	interface PropertyReader {
+		void read(Object entity, PdxReader pdxReader);
+	}
+
+	/**
+	 * Thrown when an entity type cannot be serialized by a generated serializer.
+	 */
+	static class UnsupportedEntityException extends Exception {
+
+		UnsupportedEntityException(String message) {
+			super(message);
+		}
+
+		UnsupportedEntityException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	/**
+	 * Serializer generated for a single entity type.
+	 */
+	static class EntitySerializer {
+
+		private final MethodHandle constructor;
+
+		private final PropertyReader[] propertyReaders;
+
+		private final PropertyWriter[] propertyWriters;
+
+		private final String[] constructorPropertyNames;
+
+		static EntitySerializer generate(PersistentEntity<?, ? extends PersistentProperty<?>> entity,
+				boolean textIndexing) throws UnsupportedEntityException {
+
+			if (!Modifier.isPublic(entity.getType().getModifiers())) {
+				throw new UnsupportedEntityException("the type is not public");
+			}
+
+			PreferredConstructor<?, ?> preferredConstructor = entity.getPersistenceConstructor();
+
+			if (preferredConstructor == null) {
+				throw new UnsupportedEntityException("the type has no persistence constructor");
+			}
+
+			List<String> constructorPropertyNames = new ArrayList<>();
+
+			for (PreferredConstructor.Parameter<?, ?> parameter : preferredConstructor.getParameters()) {
+
+				PersistentProperty<?> property = entity.getPersistentProperty(String.valueOf(parameter.getName()));
+
+				if (property == null) {
+					throw new UnsupportedEntityException(String.format(
+						"constructor parameter [%s] is not a persistent property", parameter.getName()));
+				}
+
+				constructorPropertyNames.add(property.getName());
+			}
+
+			List<PropertyReader> propertyReaders = new ArrayList<>();
+			List<PropertyWriter> propertyWriters = new ArrayList<>();
+
+			try {
+
+				for (PersistentProperty<?> property : entity) {
+
+					Method getter = property.getGetter();
+
+					if (getter == null || !Modifier.isPublic(getter.getModifiers())) {
+						throw new UnsupportedEntityException(String.format(
+							"property [%s] has no public getter", property.getName()));
+					}
+
+					propertyWriters.add(newPropertyWriter(property, getter, textIndexing));
+
+					if (!constructorPropertyNames.contains(property.getName())) {
+
+						Method setter = property.getSetter();
+
+						if (setter == null || !Modifier.isPublic(setter.getModifiers())) {
+							throw new UnsupportedEntityException(String.format(
+								"property [%s] has no public setter", property.getName()));
+						}
+
+						propertyReaders.add(newPropertyReader(property, setter));
+					}
+				}
+
+				Constructor<?> constructor = preferredConstructor.getConstructor();
+
+				constructor.setAccessible(true);
+
+				MethodHandle constructorHandle = LOOKUP.unreflectConstructor(constructor)
+					.asSpreader(Object[].class, constructor.getParameterCount())
+					.asType(MethodType.methodType(Object.class, Object[].class));
+
+				return new EntitySerializer(constructorHandle, constructorPropertyNames,
+					propertyReaders, propertyWriters);
+			}
+			catch (IllegalAccessException | LambdaConversionException cause) {
+				throw new UnsupportedEntityException(String.format("the accessors could not be bound: %s", cause),
+					cause);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static PropertyWriter newPropertyWriter(PersistentProperty<?> property, Method getter,
+				boolean textIndexing) throws IllegalAccessException, LambdaConversionException {
+
+			String name = property.getName();
+
+			Class<?> entityType = getter.getDeclaringClass();
+			Class<?> type = getter.getReturnType();
+
+			MethodHandle getterHandle = LOOKUP.unreflect(getter);
+
+			PropertyWriter propertyWriter;
+
+			if (long.class.equals(type)) {
+
+				ToLongFunction<Object> accessor = lambda(ToLongFunction.class, "applyAsLong",
+					MethodType.methodType(long.class, Object.class), getterHandle,
+					MethodType.methodType(long.class, entityType));
+
+				propertyWriter = (entity, pdxWriter) -> pdxWriter.writeLong(name, accessor.applyAsLong(entity));
+			}
+			else if (int.class.equals(type)) {
+
+				ToIntFunction<Object> accessor = lambda(ToIntFunction.class, "applyAsInt",
+					MethodType.methodType(int.class, Object.class), getterHandle,
+					MethodType.methodType(int.class, entityType));
+
+				propertyWriter = (entity, pdxWriter) -> pdxWriter.writeInt(name, accessor.applyAsInt(entity));
+			}
+			else {
+
+				Function<Object, Object> accessor = lambda(Function.class, "apply",
+					MethodType.methodType(Object.class, Object.class), getterHandle,
+					MethodType.methodType(ClassUtils.resolvePrimitiveIfNecessary(type), entityType));
+
+				Class<Object> fieldType = (Class<Object>) type;
+
+				TextIndexed textIndexed = textIndexing && String.class.equals(type)
+					? property.findAnnotation(TextIndexed.class)
+					: null;
+
+				if (textIndexed != null) {
+
+					int gramSize = textIndexed.gramSize();
+
+					propertyWriter = (entity, pdxWriter) -> {
+
+						String value = (String) accessor.apply(entity);
+
+						pdxWriter.writeString(name, value);
+						TextIndexingPdxSerializer.writeTextIndexedFields(pdxWriter, name, value, gramSize);
+					};
+				}
+				else {
+					propertyWriter = String.class.equals(type)
+						? (entity, pdxWriter) -> pdxWriter.writeString(name, (String) accessor.apply(entity))
+						: (entity, pdxWriter) -> pdxWriter.writeField(name, accessor.apply(entity), fieldType);
+				}
+			}
+
+			if (property.isIdProperty()) {
+
+				PropertyWriter valueWriter = propertyWriter;
+
+				propertyWriter = (entity, pdxWriter) -> {
+					valueWriter.write(entity, pdxWriter);
+					pdxWriter.markIdentityField(name);
+				};
+			}
+
+			return propertyWriter;
+		}
+
+		@SuppressWarnings("unchecked")
+		private static PropertyReader newPropertyReader(PersistentProperty<?> property, Method setter)
+				throws IllegalAccessException, LambdaConversionException {
+
+			String name = property.getName();
+
+			Class<?> entityType = setter.getDeclaringClass();
+			Class<?> type = setter.getParameterTypes()[0];
+
+			MethodHandle setterHandle = LOOKUP.unreflect(setter);
+
+			if (long.class.equals(type)) {
+
+				ObjLongConsumer<Object> mutator = lambda(ObjLongConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, long.class), setterHandle,
+					MethodType.methodType(void.class, entityType, long.class));
+
+				return (entity, pdxReader) -> mutator.accept(entity, pdxReader.readLong(name));
+			}
+			else if (int.class.equals(type)) {
+
+				ObjIntConsumer<Object> mutator = lambda(ObjIntConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, int.class), setterHandle,
+					MethodType.methodType(void.class, entityType, int.class));
+
+				return (entity, pdxReader) -> mutator.accept(entity, pdxReader.readInt(name));
+			}
+			else {
+
+				BiConsumer<Object, Object> mutator = lambda(BiConsumer.class, "accept",
+					MethodType.methodType(void.class, Object.class, Object.class), setterHandle,
+					MethodType.methodType(void.class, entityType, ClassUtils.resolvePrimitiveIfNecessary(type)));
+
+				return (entity, pdxReader) -> mutator.accept(entity, pdxReader.readField(name));
+			}
+		}
+
+		private EntitySerializer(MethodHandle constructor, List<String> constructorPropertyNames,
+				List<PropertyReader> propertyReaders, List<PropertyWriter> propertyWriters) {
+
+			this.constructor = constructor;
+			this.constructorPropertyNames = constructorPropertyNames.toArray(new String[0]);
+			this.propertyReaders = propertyReaders.toArray(new PropertyReader[0]);
+			this.propertyWriters = propertyWriters.toArray(new PropertyWriter[0]);
+		}
+
+		Object read(PdxReader pdxReader) {
+
+			Object[] constructorArguments = new Object[this.constructorPropertyNames.length];
+
+			for (int index = 0; index < constructorArguments.length; index++) {
+				constructorArguments[index] = pdxReader.readField(this.constructorPropertyNames[index]);
+			}
+
+			Object entity;
+
+			try {
+				entity = (Object) this.constructor.invokeExact(constructorArguments);
+			}
+			catch (Throwable cause) {
+				throw new PdxSerializationException("Failed to construct entity", cause);
+			}
+
+			for (PropertyReader propertyReader : this.propertyReaders) {
+				propertyReader.read(entity, pdxReader);
+			}
+
+			return entity;
+		}
+
+		void write(Object entity, PdxWriter pdxWriter) {
+
+			for (PropertyWriter propertyWriter : this.propertyWriters) {
+				propertyWriter.write(entity, pdxWriter);
+			}
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.pool;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link AdaptivePoolConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableAdaptivePool}, that creates the {@literal DEFAULT} {@link Pool} with the sizes saved by
+ * the {@link AdaptivePoolSizer} on a previous run and starts the {@link AdaptivePoolSizer}, publishing
+ * its recommendations as Micrometer metrics.
+ *
+ * @author John Blum
+ * @see example.app.client.pool.AdaptivePoolSizer
+ * @see example.app.client.pool.EnableAdaptivePool
+ * @see org.springframework.data.gemfire.config.annotation.ClientCacheConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class AdaptivePoolConfiguration implements EnvironmentAware, ImportAware {
+
+	protected static final String ADAPTIVE_POOL_PROPERTY_PREFIX = "example.app.pool.adaptive.";
+
+	private AnnotationAttributes enableAdaptivePoolAttributes;
+
+	private Environment environment;
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+		this.enableAdaptivePoolAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableAdaptivePool.class.getName()));
+	}
+
+	private <T> T resolveProperty(String propertyName, String attributeName, Class<T> type) {
+		return this.environment.getProperty(ADAPTIVE_POOL_PROPERTY_PREFIX + propertyName, type,
+			type.cast(this.enableAdaptivePoolAttributes.get(attributeName)));
+	}
+
+	private Path resolveStateFile() {
+		return Paths.get(resolveProperty("state-file", "stateFile", String.class));
+	}
+
+	@Bean
+	ClientCacheConfigurer adaptivePoolClientCacheConfigurer() {
+
+		Path stateFile = resolveStateFile();
+
+		return (beanName, bean) -> AdaptivePoolSizer.loadRecommendation(stateFile).ifPresent(recommendation -> {
+			bean.setMinConnections(Integer.valueOf(
+				recommendation.getProperty(AdaptivePoolSizer.MINIMUM_CONNECTIONS_PROPERTY)));
+			bean.setMaxConnections(Integer.valueOf(
+				recommendation.getProperty(AdaptivePoolSizer.MAXIMUM_CONNECTIONS_PROPERTY)));
+		});
+	}
+
+	@Bean
+	AdaptivePoolSizer adaptivePoolSizer(GemFireCache gemfireCache, ObjectProvider<MeterRegistry> meterRegistry) {
+
+		Pool pool = ((ClientCache) gemfireCache).getDefaultPool();
+
+		Assert.state(pool != null, "Adaptive sizing requires the DEFAULT Pool");
+
+		AdaptivePoolSizer adaptivePoolSizer = new AdaptivePoolSizer(pool, gemfireCache.getDistributedSystem(),
+			resolveStateFile(), resolveProperty("maximum-wait-time", "maximumWaitTime", Long.class),
+			resolveProperty("maximum-connections-limit", "maximumConnectionsLimit", Integer.class),
+			resolveProperty("resize-interval", "resizeInterval", Long.class));
+
+		MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+
+		Gauge.builder("geode.pool.connections.recommended.minimum", adaptivePoolSizer,
+				AdaptivePoolSizer::getRecommendedMinimumConnections)
+			.description("Minimum number of connections recommended for the Pool")
+			.tag("pool", pool.getName())
+			.register(registry);
+
+		Gauge.builder("geode.pool.connections.recommended.maximum", adaptivePoolSizer,
+				AdaptivePoolSizer::getRecommendedMaximumConnections)
+			.description("Maximum number of connections recommended for the Pool")
+			.tag("pool", pool.getName())
+			.register(registry);
+
+		return adaptivePoolSizer;
+	}
+}
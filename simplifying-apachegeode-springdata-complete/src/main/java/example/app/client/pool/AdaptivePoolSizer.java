@@ -0,0 +1,247 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.pool;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.distributed.DistributedSystem;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AdaptivePoolSizer} class observes the connection usage and connection wait time of a {@link Pool},
+ * as recorded by Apache Geode's {@literal PoolStats}, and recommends the minimum and maximum number of connections
+ * the {@link Pool} should be created with.
+ *
+ * Every resize interval, the maximum is doubled, up to a limit, when operations waited longer than the maximum
+ * wait time on average for a connection, or halved towards twice the peak number of connections in use when
+ * no operation waited.  The minimum follows the peak number of connections in use, so that connections needed
+ * by bursts are not closed and opened again after every idle timeout.  Recommendations are saved to
+ * the state file.
+ *
+ * @author John Blum
+ * @see example.app.client.pool.EnableAdaptivePool
+ * @see org.apache.geode.cache.client.Pool
+ * @since 1.0.0
+ */
+public class AdaptivePoolSizer implements InitializingBean, DisposableBean {
+
+	public static final String MAXIMUM_CONNECTIONS_PROPERTY = "max-connections";
+	public static final String MINIMUM_CONNECTIONS_PROPERTY = "min-connections";
+
+	protected static final String POOL_STATISTICS_TYPE_NAME = "PoolStats";
+
+	private final AtomicInteger peakConnections = new AtomicInteger(0);
+
+	private final DistributedSystem distributedSystem;
+
+	private final int maximumConnectionsLimit;
+
+	private volatile int recommendedMaximumConnections;
+	private volatile int recommendedMinimumConnections;
+
+	private long connectionWaits;
+	private long connectionWaitTime;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final long maximumWaitTimeNanos;
+	private final long resizeIntervalSeconds;
+
+	private final Path stateFile;
+
+	private final Pool pool;
+
+	private ScheduledExecutorService scheduler;
+
+	private Statistics poolStatistics;
+
+	public AdaptivePoolSizer(Pool pool, DistributedSystem distributedSystem, Path stateFile,
+			long maximumWaitTime, int maximumConnectionsLimit, long resizeInterval) {
+
+		Assert.notNull(pool, "Pool is required");
+		Assert.notNull(distributedSystem, "DistributedSystem is required");
+		Assert.notNull(stateFile, "State file is required");
+		Assert.isTrue(resizeInterval > 0, "Resize interval must be greater than 0");
+
+		this.pool = pool;
+		this.distributedSystem = distributedSystem;
+		this.stateFile = stateFile;
+		this.maximumWaitTimeNanos = TimeUnit.MILLISECONDS.toNanos(maximumWaitTime);
+		this.maximumConnectionsLimit = maximumConnectionsLimit;
+		this.resizeIntervalSeconds = resizeInterval;
+		this.recommendedMaximumConnections = pool.getMaxConnections();
+		this.recommendedMinimumConnections = pool.getMinConnections();
+	}
+
+	/**
+	 * Loads the sizes recommended by a previous run of the application.
+	 *
+	 * @param stateFile file in which the recommended sizes were saved.
+	 * @return the recommended sizes, keyed by {@link #MINIMUM_CONNECTIONS_PROPERTY}
+	 * and {@link #MAXIMUM_CONNECTIONS_PROPERTY}, or {@link Optional#empty()} if none were saved, or the state file
+	 * could not be read.
+	 */
+	public static Optional<Properties> loadRecommendation(Path stateFile) {
+
+		if (Files.isReadable(stateFile)) {
+			try (Reader reader = Files.newBufferedReader(stateFile)) {
+
+				Properties recommendation = new Properties();
+
+				recommendation.load(reader);
+
+				Integer.parseInt(recommendation.getProperty(MINIMUM_CONNECTIONS_PROPERTY));
+				Integer.parseInt(recommendation.getProperty(MAXIMUM_CONNECTIONS_PROPERTY));
+
+				return Optional.of(recommendation);
+			}
+			// a malformed escape or a missing or non-numeric size is reported as an IllegalArgumentException
+			catch (IOException | IllegalArgumentException cause) {
+				LogFactory.getLog(AdaptivePoolSizer.class).warn(String.format(
+					"Failed to load the recommended Pool sizes from [%s]; using the configured sizes", stateFile),
+						cause);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	public int getRecommendedMaximumConnections() {
+		return this.recommendedMaximumConnections;
+	}
+
+	public int getRecommendedMinimumConnections() {
+		return this.recommendedMinimumConnections;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		StatisticsType poolStatisticsType = this.distributedSystem.findType(POOL_STATISTICS_TYPE_NAME);
+
+		if (poolStatisticsType != null) {
+			for (Statistics poolStatistics : this.distributedSystem.findStatisticsByType(poolStatisticsType)) {
+				if (this.pool.getName().equals(poolStatistics.getTextId())) {
+					this.poolStatistics = poolStatistics;
+				}
+			}
+		}
+
+		if (this.poolStatistics != null) {
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, "AdaptivePoolSizer");
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.scheduler.scheduleAtFixedRate(this::samplePeakConnections, 1L, 1L, TimeUnit.SECONDS);
+
+			this.scheduler.scheduleAtFixedRate(this::resize, this.resizeIntervalSeconds, this.resizeIntervalSeconds,
+				TimeUnit.SECONDS);
+		}
+	}
+
+	private void samplePeakConnections() {
+		this.peakConnections.accumulateAndGet(this.poolStatistics.get("connections").intValue(), Math::max);
+	}
+
+	synchronized void resize() {
+
+		long connectionWaits = this.poolStatistics.get("connectionWaits").longValue();
+		long connectionWaitTime = this.poolStatistics.get("connectionWaitTime").longValue();
+
+		long intervalConnectionWaits = connectionWaits - this.connectionWaits;
+		long intervalConnectionWaitTime = connectionWaitTime - this.connectionWaitTime;
+
+		this.connectionWaits = connectionWaits;
+		this.connectionWaitTime = connectionWaitTime;
+
+		int peakConnections = Math.max(this.peakConnections.getAndSet(0), 1);
+
+		// a maximum of -1 means the number of connections is unbounded
+		int maximumConnections = this.recommendedMaximumConnections;
+
+		if (maximumConnections > 0) {
+			if (intervalConnectionWaits > 0
+					&& intervalConnectionWaitTime / intervalConnectionWaits > this.maximumWaitTimeNanos) {
+
+				maximumConnections = Math.min(maximumConnections * 2, this.maximumConnectionsLimit);
+			}
+			else if (intervalConnectionWaits == 0 && peakConnections * 2 < maximumConnections) {
+				maximumConnections = Math.max(maximumConnections / 2, peakConnections * 2);
+			}
+		}
+
+		int minimumConnections = maximumConnections > 0
+			? Math.min(peakConnections, maximumConnections)
+			: Math.min(peakConnections, this.maximumConnectionsLimit);
+
+		if (maximumConnections != this.recommendedMaximumConnections
+				|| minimumConnections != this.recommendedMinimumConnections) {
+
+			this.recommendedMaximumConnections = maximumConnections;
+			this.recommendedMinimumConnections = minimumConnections;
+
+			saveRecommendation();
+		}
+	}
+
+	private void saveRecommendation() {
+
+		Properties recommendation = new Properties();
+
+		recommendation.setProperty(MINIMUM_CONNECTIONS_PROPERTY, String.valueOf(this.recommendedMinimumConnections));
+		recommendation.setProperty(MAXIMUM_CONNECTIONS_PROPERTY, String.valueOf(this.recommendedMaximumConnections));
+
+		try (Writer writer = Files.newBufferedWriter(this.stateFile)) {
+			recommendation.store(writer, String.format("Recommended sizes of Pool [%s]", this.pool.getName()));
+		}
+		catch (IOException cause) {
+			this.logger.warn(String.format("Failed to save the recommended sizes of Pool [%1$s] to [%2$s]",
+				this.pool.getName(), this.stateFile), cause);
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.scheduler != null) {
+			this.scheduler.shutdownNow();
+		}
+	}
+}
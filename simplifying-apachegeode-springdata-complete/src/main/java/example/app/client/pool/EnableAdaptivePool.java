@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.pool;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableAdaptivePool} annotation sizes the {@literal DEFAULT} client {@literal Pool} from the connection
+ * usage and connection wait time observed while the application runs.
+ *
+ * An Apache Geode {@literal Pool} cannot be resized once created, so the minimum and maximum number of connections
+ * recommended by the {@link AdaptivePoolSizer} are saved to the {@link #stateFile()} and applied to the
+ * {@literal Pool} the next time the application starts, taking precedence over the configured sizes.
+ *
+ * Every attribute can be overridden with the corresponding {@literal example.app.pool.adaptive.*} property
+ * (e.g. {@literal example.app.pool.adaptive.maximum-wait-time}).
+ *
+ * @author John Blum
+ * @see example.app.client.pool.AdaptivePoolConfiguration
+ * @see example.app.client.pool.AdaptivePoolSizer
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(AdaptivePoolConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableAdaptivePool {
+
+	/**
+	 * Average time, in milliseconds, that operations may wait for a connection before the maximum number
+	 * of connections is raised.
+	 *
+	 * Defaults to {@literal 5}.
+	 */
+	long maximumWaitTime() default 5L;
+
+	/**
+	 * Upper bound, never exceeded, of the recommended maximum number of connections.
+	 *
+	 * Defaults to {@literal 512}.
+	 */
+	int maximumConnectionsLimit() default 512;
+
+	/**
+	 * Number of seconds over which connection usage is observed before the sizes are adjusted.
+	 *
+	 * Defaults to {@literal 60}.
+	 */
+	long resizeInterval() default 60L;
+
+	/**
+	 * File in which the recommended sizes are saved.
+	 *
+	 * Defaults to {@literal adaptive-pool.properties} in the application's working directory.
+	 */
+	String stateFile() default "adaptive-pool.properties";
+
+}
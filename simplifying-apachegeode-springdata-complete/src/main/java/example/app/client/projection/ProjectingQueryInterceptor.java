@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.projection;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.query.SelectResults;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+import example.app.client.repo.support.RepositoryAdvice;
+
+/**
+ * The {@link ProjectingQueryInterceptor} class is an AOP Alliance {@link MethodInterceptor} answering invocations
+ * of Spring Data Repository query methods returning projections with a {@link ProjectionQuery}, selecting only
+ * the properties read by the projection.
+ *
+ * The servers then send, and the client deserializes, only the selected properties rather than the entire entity.
+ * Both statically declared projection types (e.g. {@literal List<CustomerName> findNamesByNameLike(String)}) and
+ * dynamic projections, where the projection type is passed as the last argument (e.g.
+ * {@literal <T> List<T> findProjectedByNameLike(String, Class<T>)}), are supported.
+ *
+ * @author John Blum
+ * @see example.app.client.projection.ProjectionQuery
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.springframework.data.projection.ProjectionFactory
+ * @since 1.0.0
+ */
+public class ProjectingQueryInterceptor implements MethodInterceptor {
+
+	protected static final Pattern QUERY_METHOD_PATTERN =
+		Pattern.compile("^(find|read|get|query|stream)(\\p{Lu}.*?)??By");
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private volatile GemfireTemplate template;
+
+	private final Map<Method, Boolean> projectionQueryMethods = new ConcurrentHashMap<>();
+
+	private final Map<Method, Map<Class<?>, ProjectionQuery>> projectionQueries = new ConcurrentHashMap<>();
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private final RepositoryMetadata repositoryMetadata;
+
+	private final Supplier<GemFireCache> gemfireCacheSupplier;
+
+	public ProjectingQueryInterceptor(Supplier<GemFireCache> gemfireCacheSupplier,
+			RepositoryMetadata repositoryMetadata) {
+
+		this.gemfireCacheSupplier = gemfireCacheSupplier;
+		this.repositoryMetadata = repositoryMetadata;
+		this.entity = new GemfireMappingContext().getRequiredPersistentEntity(repositoryMetadata.getDomainType());
+	}
+
+	/**
+	 * Determines whether the given method of a Repository is a derived query method returning projections.
+	 */
+	static boolean isProjectionQueryMethod(Method method, RepositoryMetadata repositoryMetadata) {
+
+		if (method.getDeclaringClass().getName().startsWith("org.springframework.data.")
+				|| AnnotationUtils.findAnnotation(method, Query.class) != null
+				|| !QUERY_METHOD_PATTERN.matcher(method.getName()).find()) {
+
+			return false;
+		}
+
+		if (hasDynamicProjection(method)) {
+			return true;
+		}
+
+		Class<?> returnedType = repositoryMetadata.getReturnedDomainClass(method);
+
+		return !(returnedType.isAssignableFrom(repositoryMetadata.getDomainType())
+			|| BeanUtils.isSimpleProperty(returnedType));
+	}
+
+	static boolean hasDynamicProjection(Method method) {
+		return Arrays.asList(method.getParameterTypes()).contains(Class.class);
+	}
+
+	/**
+	 * Derives the {@link ProjectionQuery} of every statically declared projection query method, failing fast
+	 * on unsupported methods and projections.
+	 */
+	void validate(Class<?> repositoryInterface) {
+
+		for (Method method : repositoryInterface.getMethods()) {
+			if (isProjectionQueryMethod(method, this.repositoryMetadata) && !hasDynamicProjection(method)) {
+				resolveProjectionQuery(method, this.repositoryMetadata.getReturnedDomainClass(method));
+			}
+		}
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		if (this.projectionQueryMethods.computeIfAbsent(method,
+				it -> isProjectionQueryMethod(it, this.repositoryMetadata))) {
+
+			Object[] arguments = invocation.getArguments();
+
+			ProjectionQuery projectionQuery = resolveProjectionQuery(method, resolveProjectionType(method, arguments));
+
+			SelectResults<?> results = getTemplate().find(projectionQuery.getQuery(), projectionQuery.bind(arguments));
+
+			return RepositoryAdvice.adaptQueryResults(method, projectionQuery.convert(results.asList()));
+		}
+
+		return invocation.proceed();
+	}
+
+	private Class<?> resolveProjectionType(Method method, Object[] arguments) {
+
+		if (hasDynamicProjection(method)) {
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			for (int index = parameterTypes.length - 1; index >= 0; index--) {
+				if (Class.class.equals(parameterTypes[index])) {
+					return arguments[index] != null ? (Class<?>) arguments[index] : this.entity.getType();
+				}
+			}
+		}
+
+		return this.repositoryMetadata.getReturnedDomainClass(method);
+	}
+
+	private ProjectionQuery resolveProjectionQuery(Method method, Class<?> projectionType) {
+
+		return this.projectionQueries.computeIfAbsent(method, it -> new ConcurrentHashMap<>())
+			.computeIfAbsent(projectionType, type ->
+				ProjectionQuery.of(method, type, this.entity, this.projectionFactory));
+	}
+
+	private GemfireTemplate getTemplate() {
+
+		if (this.template == null) {
+			this.template = new GemfireTemplate(this.gemfireCacheSupplier.get().getRegion(this.entity.getRegionName()));
+		}
+
+		return this.template;
+	}
+
+}
@@ -0,0 +1,384 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.projection;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.query.Struct;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.model.PreferredConstructorDiscoverer;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+import example.app.client.search.TextIndexSupport;
+
+/**
+ * The {@link ProjectionQuery} class is the OQL query derived from the name of a Spring Data Repository query method
+ * returning a projection of the entity, selecting only the properties read by the projection, along with
+ * the conversion of the query results into projections.
+ *
+ * Closed interface projections select the properties of their accessor methods.  DTO projections select
+ * the properties named by the parameters of their persistence constructor.  Open interface projections, which
+ * evaluate SpEL expressions against the entity, and the entity type itself, select the entire entity.
+ *
+ * Derived queries are supported for the usual comparison, {@literal LIKE}, {@literal IN}, {@literal NULL}
+ * and {@literal boolean} predicates, along with {@literal Distinct} and {@literal First}/{@literal Top} limits.
+ * Ordering, paging and case-insensitive predicates are not supported.
+ *
+ * @author John Blum
+ * @see example.app.client.projection.ProjectingQueryInterceptor
+ * @see org.springframework.data.projection.ProjectionInformation
+ * @see org.springframework.data.repository.query.parser.PartTree
+ * @since 1.0.0
+ */
+public class ProjectionQuery {
+
+	protected static final String ENTITY_ALIAS = "x";
+
+	private final Class<?> projectionType;
+
+	private final Function<Object, Object> converter;
+
+	private final List<ArgumentBinding> argumentBindings = new ArrayList<>();
+
+	private final List<String> properties;
+
+	private final String query;
+
+	/**
+	 * Derives the {@link ProjectionQuery} of the given query method, returning the given projection type,
+	 * against the given entity.
+	 *
+	 * @throws IllegalStateException if the method or the projection is not supported.
+	 */
+	public static ProjectionQuery of(Method method, Class<?> projectionType, GemfirePersistentEntity<?> entity,
+			ProjectionFactory projectionFactory) {
+
+		return new ProjectionQuery(method, projectionType, entity, projectionFactory);
+	}
+
+	private ProjectionQuery(Method method, Class<?> projectionType, GemfirePersistentEntity<?> entity,
+			ProjectionFactory projectionFactory) {
+
+		this.projectionType = projectionType;
+
+		PartTree partTree = new PartTree(method.getName(), entity.getType());
+
+		assertSupported(method, partTree);
+
+		if (projectionType.isAssignableFrom(entity.getType())) {
+			this.properties = Collections.emptyList();
+			this.converter = Function.identity();
+		}
+		else if (projectionType.isInterface()) {
+
+			ProjectionInformation projectionInformation = projectionFactory.getProjectionInformation(projectionType);
+
+			if (projectionInformation.isClosed()) {
+				this.properties = projectionInformation.getInputProperties().stream()
+					.map(PropertyDescriptor::getName)
+					.distinct()
+					.collect(Collectors.toList());
+				this.converter = values -> projectionFactory.createProjection(projectionType, toMap(values));
+			}
+			else {
+				this.properties = Collections.emptyList();
+				this.converter = value -> projectionFactory.createProjection(projectionType, value);
+			}
+		}
+		else {
+
+			PreferredConstructor<?, ?> constructor = PreferredConstructorDiscoverer.discover(projectionType);
+
+			if (constructor == null) {
+				throw new IllegalStateException(String.format("No constructor found for DTO projection [%s]",
+					projectionType.getName()));
+			}
+
+			this.properties = new ArrayList<>();
+
+			for (PreferredConstructor.Parameter<?, ?> parameter : constructor.getParameters()) {
+
+				if (parameter.getName() == null) {
+					throw new IllegalStateException(String.format(
+						"Constructor parameter names of DTO projection [%s] are not available;"
+							+ " compile with debug information or -parameters", projectionType.getName()));
+				}
+
+				this.properties.add(parameter.getName());
+			}
+
+			this.converter = values -> {
+
+				Map<String, Object> properties = toMap(values);
+
+				return BeanUtils.instantiateClass(constructor.getConstructor(),
+					this.properties.stream().map(properties::get).toArray());
+			};
+		}
+
+		this.properties.stream()
+			.filter(property -> entity.getPersistentProperty(property) == null)
+			.findFirst()
+			.ifPresent(property -> {
+				throw new IllegalStateException(String.format("Projection [%1$s] reads property [%2$s],"
+					+ " which is not a property of entity [%3$s]", projectionType.getName(), property,
+						entity.getType().getName()));
+			});
+
+		this.query = buildQuery(method, partTree, entity);
+	}
+
+	private void assertSupported(Method method, PartTree partTree) {
+
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			if (Sort.class.isAssignableFrom(parameterType) || Pageable.class.isAssignableFrom(parameterType)) {
+				throw new IllegalStateException(String.format("Sorting and paging are not supported"
+					+ " by projection query method [%s]", method));
+			}
+		}
+
+		if (partTree.isCountProjection() || partTree.isExistsProjection() || partTree.isDelete()
+				|| partTree.getSort().isSorted()) {
+
+			throw new IllegalStateException(String.format("Query method [%s] is not a supported projection query",
+				method));
+		}
+	}
+
+	private String buildQuery(Method method, PartTree partTree, GemfirePersistentEntity<?> entity) {
+
+		StringBuilder query = new StringBuilder("SELECT ");
+
+		if (partTree.isDistinct()) {
+			query.append("DISTINCT ");
+		}
+
+		query.append(this.properties.isEmpty() ? ENTITY_ALIAS
+			: this.properties.stream().map(property -> ENTITY_ALIAS + "." + property).collect(Collectors.joining(", ")));
+
+		query.append(" FROM /").append(entity.getRegionName()).append(' ').append(ENTITY_ALIAS);
+
+		if (partTree.hasPredicate()) {
+
+			List<Integer> argumentIndexes = resolveArgumentIndexes(method);
+
+			String predicate = partTree.stream()
+				.map(orPart -> orPart.stream()
+					.map(part -> toPredicate(method, part, argumentIndexes))
+					.collect(Collectors.joining(" AND ", "(", ")")))
+				.collect(Collectors.joining(" OR "));
+
+			query.append(" WHERE ").append(predicate);
+		}
+
+		if (partTree.isLimiting()) {
+			query.append(" LIMIT ").append(partTree.getMaxResults());
+		}
+
+		return query.toString();
+	}
+
+	private List<Integer> resolveArgumentIndexes(Method method) {
+
+		List<Integer> argumentIndexes = new ArrayList<>();
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int index = 0; index < parameterTypes.length; index++) {
+			// the dynamic projection type is not an argument of the query
+			if (!Class.class.equals(parameterTypes[index])) {
+				argumentIndexes.add(index);
+			}
+		}
+
+		return argumentIndexes;
+	}
+
+	private String toPredicate(Method method, Part part, List<Integer> argumentIndexes) {
+
+		if (!Part.IgnoreCaseType.NEVER.equals(part.shouldIgnoreCase())) {
+			throw new IllegalStateException(String.format("Case-insensitive predicate [%1$s] is not supported"
+				+ " by projection query method [%2$s]", part, method));
+		}
+
+		String path = ENTITY_ALIAS + "." + part.getProperty().toDotPath();
+
+		switch (part.getType()) {
+			case SIMPLE_PROPERTY:
+				return path + " = " + bind(argumentIndexes, Function.identity());
+			case NEGATING_SIMPLE_PROPERTY:
+				return path + " != " + bind(argumentIndexes, Function.identity());
+			case GREATER_THAN:
+			case AFTER:
+				return path + " > " + bind(argumentIndexes, Function.identity());
+			case GREATER_THAN_EQUAL:
+				return path + " >= " + bind(argumentIndexes, Function.identity());
+			case LESS_THAN:
+			case BEFORE:
+				return path + " < " + bind(argumentIndexes, Function.identity());
+			case LESS_THAN_EQUAL:
+				return path + " <= " + bind(argumentIndexes, Function.identity());
+			case BETWEEN:
+				return path + " >= " + bind(argumentIndexes, Function.identity())
+					+ " AND " + path + " <= " + bind(argumentIndexes, Function.identity());
+			case IS_NULL:
+				return path + " = NULL";
+			case IS_NOT_NULL:
+				return path + " != NULL";
+			case TRUE:
+				return path + " = true";
+			case FALSE:
+				return path + " = false";
+			case LIKE:
+				return path + " LIKE " + bind(argumentIndexes, Function.identity());
+			case NOT_LIKE:
+				return "NOT (" + path + " LIKE " + bind(argumentIndexes, Function.identity()) + ")";
+			case STARTING_WITH:
+				return path + " LIKE " + bind(argumentIndexes, value -> escapeLike(value) + "%");
+			case ENDING_WITH:
+				return path + " LIKE " + bind(argumentIndexes, value -> "%" + escapeLike(value));
+			case CONTAINING:
+				return path + " LIKE " + bind(argumentIndexes, value -> "%" + escapeLike(value) + "%");
+			case NOT_CONTAINING:
+				return "NOT (" + path + " LIKE " + bind(argumentIndexes, value -> "%" + escapeLike(value) + "%")
+					+ ")";
+			case IN:
+				return path + " IN " + bind(argumentIndexes, Function.identity());
+			case NOT_IN:
+				return "NOT (" + path + " IN " + bind(argumentIndexes, Function.identity()) + ")";
+			default:
+				throw new IllegalStateException(String.format("Predicate [%1$s] is not supported"
+					+ " by projection query method [%2$s]", part, method));
+		}
+	}
+
+	// wildcards in the argument are matched literally, as by the derived query
+	private static String escapeLike(Object value) {
+		return TextIndexSupport.escapeLike(String.valueOf(value));
+	}
+
+	private String bind(List<Integer> argumentIndexes, Function<Object, Object> transformer) {
+
+		// every placeholder consumes the next query method argument
+		int argument = this.argumentBindings.size();
+
+		if (argument >= argumentIndexes.size()) {
+			throw new IllegalStateException(String.format("Query method declares [%d] arguments; more are required",
+				argumentIndexes.size()));
+		}
+
+		this.argumentBindings.add(new ArgumentBinding(argumentIndexes.get(argument), transformer));
+
+		return "$" + this.argumentBindings.size();
+	}
+
+	private Map<String, Object> toMap(Object values) {
+
+		Map<String, Object> map = new HashMap<>();
+
+		if (this.properties.size() == 1) {
+			map.put(this.properties.get(0), values);
+		}
+		else {
+
+			Object[] fieldValues = ((Struct) values).getFieldValues();
+
+			for (int index = 0; index < this.properties.size(); index++) {
+				map.put(this.properties.get(index), fieldValues[index]);
+			}
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns the OQL query, with a {@literal $n} placeholder for each argument.
+	 */
+	public String getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Returns the type of the projections returned by the query method.
+	 */
+	public Class<?> getProjectionType() {
+		return this.projectionType;
+	}
+
+	/**
+	 * Returns the names of the selected properties, or an empty {@link List} when the entire entity is selected.
+	 */
+	public List<String> getProperties() {
+		return Collections.unmodifiableList(this.properties);
+	}
+
+	/**
+	 * Returns the number of {@literal $n} placeholders in the query.
+	 */
+	public int getArgumentCount() {
+		return this.argumentBindings.size();
+	}
+
+	/**
+	 * Binds the query method arguments to the query's {@literal $n} placeholders.
+	 */
+	public Object[] bind(Object[] arguments) {
+		return this.argumentBindings.stream().map(binding -> binding.bind(arguments)).toArray();
+	}
+
+	/**
+	 * Converts the query results into projections.
+	 */
+	public List<Object> convert(Collection<?> results) {
+		return results.stream().map(this.converter).collect(Collectors.toList());
+	}
+
+	private static class ArgumentBinding {
+
+		private final int index;
+
+		private final Function<Object, Object> transformer;
+
+		ArgumentBinding(int index, Function<Object, Object> transformer) {
+			this.index = index;
+			this.transformer = transformer;
+		}
+
+		Object bind(Object[] arguments) {
+
+			Object argument = arguments[this.index];
+
+			return argument == null ? null : this.transformer.apply(argument);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.projection;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+
+import example.app.client.repo.support.RepositoryAdvice;
+
+/**
+ * The {@link QueryProjectionConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableQueryProjections}, that adds the {@link ProjectingQueryInterceptor} to every Spring Data
+ * {@link Repository} bean declaring query methods that return projections.
+ *
+ * The projection queries are derived when the {@link Repository} bean is initialized, so that unsupported
+ * query methods and projections fail on startup.
+ *
+ * @author John Blum
+ * @see example.app.client.projection.EnableQueryProjections
+ * @see example.app.client.projection.ProjectingQueryInterceptor
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class QueryProjectionConfiguration {
+
+	@Bean
+	static BeanPostProcessor queryProjectionBeanPostProcessor(ObjectProvider<GemFireCache> gemfireCache) {
+
+		Supplier<GemFireCache> gemfireCacheSupplier = gemfireCache::getObject;
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+				Class<?> repositoryInterface = bean instanceof Repository
+					? Arrays.stream(AopProxyUtils.proxiedUserInterfaces(bean))
+						.filter(Repository.class::isAssignableFrom)
+						.findFirst()
+						.orElse(null)
+					: null;
+
+				RepositoryMetadata repositoryMetadata = repositoryInterface != null
+					? AbstractRepositoryMetadata.getMetadata(repositoryInterface)
+					: null;
+
+				if (repositoryMetadata != null && hasProjections(repositoryInterface, repositoryMetadata)) {
+
+					ProjectingQueryInterceptor interceptor =
+						new ProjectingQueryInterceptor(gemfireCacheSupplier, repositoryMetadata);
+
+					interceptor.validate(repositoryInterface);
+
+					// replaces Spring Data's query execution for projection query methods
+					return RepositoryAdvice.addQueryMethodInterceptor(bean, interceptor);
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	private static boolean hasProjections(Class<?> repositoryInterface, RepositoryMetadata repositoryMetadata) {
+
+		return Arrays.stream(repositoryInterface.getMethods())
+			.anyMatch(method -> ProjectingQueryInterceptor.isProjectionQueryMethod(method, repositoryMetadata));
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link CachedQuery} annotation declares that the results of the annotated Spring Data Repository query method
+ * are cached in client memory, keyed by the method arguments.
+ *
+ * The query run by the method is the {@link #value() OQL query} of this annotation when declared, otherwise
+ * the query declared with Spring Data Geode's {@literal @Query} annotation, or else the query derived from
+ * the method name.  A declared query must select the entities of a single {@literal Region}
+ * (e.g. {@literal SELECT * FROM /Customers WHERE name LIKE $1}).  A cached result is invalidated when an entity
+ * it contains changes, or when a created or updated entity matches the query.
+ * Results are also bounded by the {@link #maximumEntries() number of cached results} and
+ * their {@link #timeToLive() time-to-live}.
+ *
+ * The cache must be enabled with {@link EnableQueryResultCache}.
+ *
+ * @author John Blum
+ * @see example.app.client.query.EnableQueryResultCache
+ * @see example.app.client.query.QueryResultCache
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@SuppressWarnings("unused")
+public @interface CachedQuery {
+
+	int DEFAULT_MAXIMUM_ENTRIES = 1000;
+
+	long DEFAULT_TIME_TO_LIVE = 60L;
+
+	/**
+	 * OQL query selecting the entities returned by the annotated method; only needed when the query
+	 * can neither be derived from the method name nor is declared with {@literal @Query}.
+	 */
+	String value() default "";
+
+	/**
+	 * Maximum number of results, one per distinct set of method arguments, cached for the annotated method.
+	 * The least recently used result is evicted first.
+	 */
+	int maximumEntries() default DEFAULT_MAXIMUM_ENTRIES;
+
+	/**
+	 * Time, in seconds, after which a cached result expires, even if it has not been invalidated by an event.
+	 */
+	long timeToLive() default DEFAULT_TIME_TO_LIVE;
+
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableQueryResultCache} annotation enables caching the results of Spring Data Repository query methods
+ * annotated with {@link CachedQuery}.
+ *
+ * Cached results are invalidated by the writes of this client, and by the writes of other clients received
+ * from a CQ.  Results are therefore only cached when subscriptions are enabled on the client {@literal Pool}
+ * (e.g. with {@literal spring.data.gemfire.pool.subscription-enabled=true}); otherwise the annotated methods
+ * query the servers on every invocation, and a warning is logged.
+ *
+ * @author John Blum
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.query.QueryResultCacheConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(QueryResultCacheConfiguration.class)
+public @interface EnableQueryResultCache {
+
+}
@@ -0,0 +1,259 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link PagedQueryTemplate} class runs OQL queries returning a {@link Page}, a {@link Slice}
+ * or a {@link Stream} of entities while holding only a bounded number of entities in memory.
+ *
+ * Queries first select the ids of the matching entities, ordered and limited on the servers, and then fetch
+ * the entities of the requested page, or of the next chunk of the {@link Stream}, in a single {@literal getAll}.
+ * Entities are therefore only transferred and deserialized when the page or chunk is read.
+ * A {@link Slice} and a {@link Stream} seek past the entities already read by key
+ * ({@literal WHERE entity.id > $lastId ORDER BY entity.id LIMIT $n}), so each slice or chunk costs the same
+ * regardless of how many entities have already been read.  A {@link Page} is addressed by offset and selects
+ * the ids of every preceding page, so deep pages are better read as {@link Slice Slices}.
+ *
+ * The query predicate refers to the entity with the {@literal entity} alias,
+ * for example {@literal entity.name LIKE $1}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.domain.Page
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 1.0.0
+ */
+public class PagedQueryTemplate {
+
+	protected static final String COUNT_QUERY = "SELECT count(*) FROM %1$s entity WHERE %2$s";
+
+	protected static final String IDS_QUERY = "SELECT DISTINCT %1$s FROM %2$s entity WHERE %3$s ORDER BY %4$s LIMIT %5$d";
+
+	private final GemFireCache gemfireCache;
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	public PagedQueryTemplate(GemFireCache gemfireCache) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+	}
+
+	public <T> Page<T> findPage(Class<T> entityType, String predicate, Pageable pageable, Object... arguments) {
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(entityType);
+
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(getAll(entityType, findIds(entity, predicate, pageable.getSort(),
+				Integer.MAX_VALUE, arguments)));
+		}
+
+		long limit = pageable.getOffset() + pageable.getPageSize();
+
+		Assert.isTrue(limit <= Integer.MAX_VALUE, String.format("Page [%s] is out of range", pageable));
+
+		List<?> ids = findIds(entity, predicate, pageable.getSort(), (int) limit, arguments);
+
+		List<?> pageIds = ids.subList(Math.min((int) pageable.getOffset(), ids.size()), ids.size());
+
+		return PageableExecutionUtils.getPage(getAll(entityType, pageIds), pageable,
+			() -> count(entityType, predicate, arguments));
+	}
+
+	/**
+	 * Returns up to {@code size} entities, in id order, following the entity with the given id, or the first
+	 * entities when the id is {@literal null}.  The id of the last entity of a {@link Slice} is passed
+	 * to read the next {@link Slice}.
+	 */
+	public <T> Slice<T> findSlice(Class<T> entityType, String predicate, Object lastId, int size,
+			Object... arguments) {
+
+		Assert.isTrue(size > 0, String.format("Size [%d] must be greater than 0", size));
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(entityType);
+
+		List<?> ids = findIdsAfter(entity, predicate, lastId, size + 1, arguments);
+
+		return new SliceImpl<>(getAll(entityType, ids.subList(0, Math.min(size, ids.size()))),
+			PageRequest.of(0, size), ids.size() > size);
+	}
+
+	public <T> Stream<T> stream(Class<T> entityType, String predicate, int chunkSize, Object... arguments) {
+
+		Assert.isTrue(chunkSize > 0, String.format("Chunk size [%d] must be greater than 0", chunkSize));
+
+		GemfirePersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(entityType);
+
+		Iterator<List<?>> chunks = new Iterator<List<?>>() {
+
+			private List<?> chunk;
+
+			private Object lastId;
+
+			@Override
+			public boolean hasNext() {
+
+				if (this.chunk == null) {
+
+					this.chunk = findIdsAfter(entity, predicate, this.lastId, chunkSize, arguments);
+
+					this.lastId = this.chunk.isEmpty() ? null : this.chunk.get(this.chunk.size() - 1);
+				}
+
+				return !this.chunk.isEmpty();
+			}
+
+			@Override
+			public List<?> next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				List<?> chunk = this.chunk;
+
+				this.chunk = chunk.size() < chunkSize ? Collections.emptyList() : null;
+
+				return chunk;
+			}
+		};
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks,
+			Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.flatMap(ids -> getAll(entityType, ids).stream());
+	}
+
+	public long count(Class<?> entityType, String predicate, Object... arguments) {
+
+		Region<?, ?> region = resolveRegion(entityType);
+
+		SelectResults<Integer> results = new GemfireTemplate(region)
+			.find(String.format(COUNT_QUERY, region.getFullPath(), predicate), arguments);
+
+		return results.iterator().next();
+	}
+
+	private List<?> findIds(GemfirePersistentEntity<?> entity, String predicate, Sort sort, int limit,
+			Object... arguments) {
+
+		Region<?, ?> region = resolveRegion(entity.getType());
+
+		String id = "entity." + entity.getRequiredIdProperty().getName();
+
+		List<String> projection = new ArrayList<>(Collections.singletonList(id));
+
+		List<String> ordering = new ArrayList<>();
+
+		for (Sort.Order order : sort) {
+
+			String property = "entity." + entity.getRequiredPersistentProperty(order.getProperty()).getName();
+
+			projection.add(property);
+			ordering.add(property + (order.isAscending() ? " ASC" : " DESC"));
+		}
+
+		ordering.add(id + " ASC");
+
+		String query = String.format(IDS_QUERY, String.join(", ", projection), region.getFullPath(), predicate,
+			String.join(", ", ordering), limit);
+
+		SelectResults<?> results = new GemfireTemplate(region).find(query, arguments);
+
+		return results.asList().stream()
+			.map(result -> result instanceof Struct ? ((Struct) result).getFieldValues()[0] : result)
+			.collect(Collectors.toList());
+	}
+
+	private List<?> findIdsAfter(GemfirePersistentEntity<?> entity, String predicate, Object lastId, int limit,
+			Object... arguments) {
+
+		return lastId == null
+			? findIds(entity, predicate, Sort.unsorted(), limit, arguments)
+			: findIds(entity, idGreaterThan(entity, predicate, arguments.length), Sort.unsorted(), limit,
+				append(arguments, lastId));
+	}
+
+	private String idGreaterThan(GemfirePersistentEntity<?> entity, String predicate, int argumentCount) {
+		return String.format("(%1$s) AND entity.%2$s > $%3$d", predicate,
+			entity.getRequiredIdProperty().getName(), argumentCount + 1);
+	}
+
+	private Object[] append(Object[] arguments, Object argument) {
+
+		Object[] appendedArguments = Arrays.copyOf(arguments, arguments.length + 1);
+
+		appendedArguments[arguments.length] = argument;
+
+		return appendedArguments;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> getAll(Class<T> entityType, List<?> ids) {
+
+		if (ids.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Map<Object, T> entities = ((Region<Object, T>) resolveRegion(entityType)).getAll(ids);
+
+		return ids.stream().map(entities::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	private Region<?, ?> resolveRegion(Class<?> entityType) {
+
+		String regionName = this.mappingContext.getRequiredPersistentEntity(entityType).getRegionName();
+
+		Region<?, ?> region = this.gemfireCache.getRegion(regionName);
+
+		Assert.state(region != null, String.format("Region [%1$s] for entity [%2$s] was not found",
+			regionName, entityType.getName()));
+
+		return region;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.FunctionService;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.Assert;
+
+import example.app.server.partition.ParallelQueryFunction;
+
+/**
+ * The {@link ParallelQueryTemplate} class runs OQL queries as the data-aware {@link ParallelQueryFunction}
+ * on every server hosting the partitioned {@link Region} of an entity, in parallel, instead of a single query
+ * coordinated by one server.
+ *
+ * Results are returned as a {@link Stream} consuming batches while the servers are still sending them, so the
+ * {@link Stream} should be consumed, or closed, by the caller.  The order of results across servers is undefined.
+ *
+ * At most the given number of queries run at once; further queries wait for one to complete.  The threads
+ * running the queries are stopped by {@link #destroy()}, which must be called when the template is
+ * no longer used.
+ *
+ * @author John Blum
+ * @see example.app.client.query.StreamingResultCollector
+ * @see example.app.server.partition.ParallelQueryFunction
+ * @see org.apache.geode.cache.execute.FunctionService#onRegion(Region)
+ * @since 1.0.0
+ */
+public class ParallelQueryTemplate {
+
+	private final ExecutorService queryExecutor;
+
+	private final GemFireCache gemfireCache;
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	public ParallelQueryTemplate(GemFireCache gemfireCache, int maximumConcurrentQueries) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.isTrue(maximumConcurrentQueries > 0, String.format(
+			"Maximum concurrent queries [%d] must be greater than 0", maximumConcurrentQueries));
+
+		this.gemfireCache = gemfireCache;
+		this.queryExecutor = newQueryExecutor(maximumConcurrentQueries);
+	}
+
+	private ExecutorService newQueryExecutor(int maximumConcurrentQueries) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(maximumConcurrentQueries, runnable -> {
+
+			Thread queryThread = new Thread(runnable, "ParallelQueryThread-" + threadCount.incrementAndGet());
+
+			queryThread.setDaemon(true);
+
+			return queryThread;
+		});
+	}
+
+	/**
+	 * Runs the OQL query, in which {@literal %s} is replaced with the path of the entity's {@link Region},
+	 * on every server in parallel.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Stream<T> find(Class<T> entityType, String query, Object... arguments) {
+
+		Region<?, T> region = resolveRegion(entityType);
+
+		StreamingResultCollector<T> resultCollector = new StreamingResultCollector<>();
+
+		Execution<Object[], Object, Stream<T>> execution = FunctionService.onRegion(region)
+			.setArguments(new Object[] { String.format(query, region.getFullPath()), arguments })
+			.withCollector(resultCollector);
+
+		this.queryExecutor.execute(() -> {
+			try {
+				execution.execute(ParallelQueryFunction.PARALLEL_QUERY_FUNCTION_ID);
+			}
+			catch (RuntimeException cause) {
+				resultCollector.addResult(null, cause);
+				resultCollector.endResults();
+			}
+		});
+
+		return resultCollector.getResult();
+	}
+
+	private <T> Region<?, T> resolveRegion(Class<T> entityType) {
+
+		String regionName = this.mappingContext.getRequiredPersistentEntity(entityType).getRegionName();
+
+		Region<?, T> region = this.gemfireCache.getRegion(regionName);
+
+		Assert.state(region != null, String.format("Region [%1$s] for entity [%2$s] was not found",
+			regionName, entityType.getName()));
+
+		return region;
+	}
+
+	public void destroy() {
+		this.queryExecutor.shutdownNow();
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqListener;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+/**
+ * The {@link QueryResultCache} class caches the results of a single {@link CachedQuery} annotated Repository
+ * query method, keyed by the method arguments, and invalidates them from the entry events
+ * of the queried {@literal Region}, received as a {@literal CacheListener} on the {@literal Region}
+ * and as the {@link CqListener} of a CQ selecting every entry of the {@literal Region}.
+ *
+ * A cached result is invalidated when an entity it contains is updated, invalidated or destroyed, and when
+ * a created or updated entity not in the result matches the query.  Matches are evaluated in client memory
+ * by running the query against the new value alone.  When an event does not carry the new value, every result
+ * not containing the entity is invalidated as well.
+ *
+ * Events are processed on the thread delivering them, e.g. the thread of a save through the Repository,
+ * therefore the cost of an event grows with the number of cached results.
+ *
+ * @author John Blum
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.query.QueryResultCacheInterceptor
+ * @see org.apache.geode.cache.query.CqListener
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @since 1.0.0
+ */
+public class QueryResultCache extends CacheListenerAdapter<Object, Object> implements CqListener {
+
+	private final AtomicLong version = new AtomicLong(0L);
+
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private final Function<Object[], Object[]> argumentBinder;
+
+	private final Map<List<Object>, CachedResult> results;
+
+	private final long timeToLive;
+
+	private final Query matchingQuery;
+
+	public QueryResultCache(Query matchingQuery, int maximumEntries, long timeToLive, TimeUnit timeUnit) {
+		this(matchingQuery, Function.identity(), maximumEntries, timeToLive, timeUnit);
+	}
+
+	/**
+	 * Constructs a {@link QueryResultCache} evaluating the matching {@link Query} with the method arguments
+	 * bound by the given {@link Function}, followed by the new value of an entry.
+	 */
+	public QueryResultCache(Query matchingQuery, Function<Object[], Object[]> argumentBinder, int maximumEntries,
+			long timeToLive, TimeUnit timeUnit) {
+
+		this.matchingQuery = matchingQuery;
+		this.argumentBinder = argumentBinder;
+		this.timeToLive = timeUnit.toNanos(timeToLive);
+
+		this.results = new LinkedHashMap<List<Object>, CachedResult>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedResult> eldest) {
+
+				boolean evict = size() > maximumEntries;
+
+				if (evict) {
+					evictions.increment();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the version of the cache, which changes with every entry event.  A result is only cached
+	 * if no event was received since the version was read, before running the query.
+	 */
+	public long version() {
+		return this.version.get();
+	}
+
+	/**
+	 * Returns the cached values for the given method arguments, or {@literal null} when the result
+	 * is not cached or has expired.
+	 */
+	public List<Object> get(Object[] arguments) {
+
+		List<Object> key = Arrays.asList(arguments);
+
+		synchronized (this.results) {
+
+			CachedResult result = this.results.get(key);
+
+			if (result != null && System.nanoTime() - result.cachedTime > this.timeToLive) {
+				this.results.remove(key);
+				this.expirations.increment();
+				result = null;
+			}
+
+			if (result != null) {
+				this.hits.increment();
+				return result.values;
+			}
+
+			this.misses.increment();
+
+			return null;
+		}
+	}
+
+	/**
+	 * Caches the values, identified by the given keys, returned for the method arguments, unless the cache
+	 * has changed since the given {@link #version()}.
+	 */
+	public void put(Object[] arguments, List<Object> values, Set<Object> keys, long version) {
+
+		CachedResult result = new CachedResult(Collections.unmodifiableList(new ArrayList<>(values)), keys);
+
+		synchronized (this.results) {
+			if (this.version.get() == version) {
+				this.results.put(Arrays.asList(arguments.clone()), result);
+			}
+		}
+	}
+
+	@Override
+	public void afterCreate(EntryEvent<Object, Object> event) {
+		invalidate(event.getKey(), event.getNewValue(), true);
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<Object, Object> event) {
+		invalidate(event.getKey(), event.getNewValue(), true);
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<Object, Object> event) {
+		invalidate(event.getKey(), null, false);
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<Object, Object> event) {
+		invalidate(event.getKey(), null, false);
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+
+		Operation operation = event.getBaseOperation();
+
+		if (operation.isCreate() || operation.isUpdate()) {
+			invalidate(event.getKey(), event.getNewValue(), true);
+		}
+		else {
+			invalidate(event.getKey(), null, false);
+		}
+	}
+
+	@Override
+	public void onError(CqEvent event) {
+		// the new value could not be evaluated, so any result could be affected
+		invalidate(event.getKey(), null, true);
+	}
+
+	private void invalidate(Object key, Object newValue, boolean mayMatch) {
+
+		Map<List<Object>, CachedResult> candidates = new HashMap<>();
+
+		synchronized (this.results) {
+
+			this.version.incrementAndGet();
+
+			for (Iterator<Map.Entry<List<Object>, CachedResult>> iterator = this.results.entrySet().iterator();
+					iterator.hasNext(); ) {
+
+				Map.Entry<List<Object>, CachedResult> entry = iterator.next();
+
+				if (entry.getValue().keys.contains(key) || (mayMatch && newValue == null)) {
+					iterator.remove();
+					this.invalidations.increment();
+				}
+				else if (mayMatch) {
+					candidates.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+
+		// matches are evaluated outside the lock so that reads of the cache are not blocked by the queries
+		candidates.forEach((arguments, result) -> {
+			if (matches(arguments, newValue)) {
+				synchronized (this.results) {
+					if (this.results.remove(arguments, result)) {
+						this.invalidations.increment();
+					}
+				}
+			}
+		});
+	}
+
+	private boolean matches(List<Object> arguments, Object value) {
+
+		Object[] boundArguments = this.argumentBinder.apply(arguments.toArray());
+
+		Object[] queryArguments = Arrays.copyOf(boundArguments, boundArguments.length + 1);
+
+		queryArguments[boundArguments.length] = Collections.singletonList(value);
+
+		try {
+			return !((SelectResults<?>) this.matchingQuery.execute(queryArguments)).isEmpty();
+		}
+		catch (Exception cause) {
+			// a value that cannot be evaluated could match the query
+			return true;
+		}
+	}
+
+	public int size() {
+		synchronized (this.results) {
+			return this.results.size();
+		}
+	}
+
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	public long getExpirationCount() {
+		return this.expirations.sum();
+	}
+
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	public long getInvalidationCount() {
+		return this.invalidations.sum();
+	}
+
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	public double getHitRatio() {
+
+		long hits = getHitCount();
+		long requests = hits + getMissCount();
+
+		return requests > 0 ? (double) hits / requests : 0.0d;
+	}
+
+	private static class CachedResult {
+
+		private final long cachedTime = System.nanoTime();
+
+		private final List<Object> values;
+
+		private final Set<Object> keys;
+
+		CachedResult(List<Object> values, Set<Object> keys) {
+			this.values = values;
+			this.keys = keys;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.util.ReflectionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import example.app.client.repo.support.RepositoryAdvice;
+
+/**
+ * The {@link QueryResultCacheConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableQueryResultCache}, that adds the {@link QueryResultCacheInterceptor} to every Spring Data
+ * {@link Repository} bean declaring {@link CachedQuery} annotated methods and removes the caches' listeners
+ * on shutdown.
+ *
+ * The queries of the {@link CachedQuery} annotated methods are resolved when the {@link Repository} bean
+ * is initialized, so that methods whose query cannot be derived fail on startup.
+ *
+ * @author John Blum
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.query.EnableQueryResultCache
+ * @see example.app.client.query.QueryResultCacheInterceptor
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class QueryResultCacheConfiguration {
+
+	@Bean
+	static BeanPostProcessor queryResultCacheBeanPostProcessor(ObjectProvider<GemFireCache> gemfireCache,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new QueryResultCacheBeanPostProcessor(gemfireCache::getObject,
+			() -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	static class QueryResultCacheBeanPostProcessor implements BeanPostProcessor, DisposableBean {
+
+		private final List<QueryResultCacheInterceptor> interceptors = new CopyOnWriteArrayList<>();
+
+		private final Supplier<GemFireCache> gemfireCacheSupplier;
+
+		private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+		QueryResultCacheBeanPostProcessor(Supplier<GemFireCache> gemfireCacheSupplier,
+				Supplier<MeterRegistry> meterRegistrySupplier) {
+
+			this.gemfireCacheSupplier = gemfireCacheSupplier;
+			this.meterRegistrySupplier = meterRegistrySupplier;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+			Class<?> repositoryInterface = resolveRepositoryInterface(bean);
+
+			if (repositoryInterface != null && hasCachedQueries(repositoryInterface)) {
+
+				QueryResultCacheInterceptor interceptor = new QueryResultCacheInterceptor(this.gemfireCacheSupplier,
+					this.meterRegistrySupplier, AbstractRepositoryMetadata.getMetadata(repositoryInterface));
+
+				interceptor.validate(repositoryInterface);
+
+				this.interceptors.add(interceptor);
+
+				return RepositoryAdvice.addQueryMethodInterceptor(bean, interceptor);
+			}
+
+			return bean;
+		}
+
+		private Class<?> resolveRepositoryInterface(Object bean) {
+
+			return bean instanceof Repository
+				? Arrays.stream(AopProxyUtils.proxiedUserInterfaces(bean))
+					.filter(Repository.class::isAssignableFrom)
+					.findFirst()
+					.orElse(null)
+				: null;
+		}
+
+		private boolean hasCachedQueries(Class<?> repositoryInterface) {
+
+			return Arrays.stream(ReflectionUtils.getAllDeclaredMethods(repositoryInterface))
+				.anyMatch(method -> AnnotationUtils.findAnnotation(method, CachedQuery.class) != null);
+		}
+
+		@Override
+		public void destroy() {
+			this.interceptors.forEach(QueryResultCacheInterceptor::close);
+		}
+	}
+}
@@ -0,0 +1,431 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.client.PoolManager;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.QueryService;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import example.app.client.projection.ProjectionQuery;
+import example.app.client.repo.support.EntityCopier;
+import example.app.client.repo.support.RepositoryAdvice;
+
+/**
+ * The {@link QueryResultCacheInterceptor} class is an AOP Alliance {@link MethodInterceptor} answering invocations
+ * of Spring Data Repository query methods annotated with {@link CachedQuery} from a {@link QueryResultCache}.
+ *
+ * Each {@link QueryResultCache} is registered as a {@literal CacheListener} on the queried {@link Region}, seeing
+ * the writes of this client, and as the listener of a {@link CqQuery} selecting every entry of the {@link Region},
+ * seeing the writes of other clients along with the new values, independently of any interest registered
+ * in the {@link Region}, for instance by a near cache.  The {@link CqQuery} requires subscriptions to be enabled
+ * on the {@link Pool} of the {@link Region}; when they are not, or the {@link CqQuery} cannot be registered,
+ * the results of the method are not cached, and the method queries the servers on every invocation.
+ * The following metrics are published to the {@link MeterRegistry}:
+ *
+ * <ul>
+ *     <li>{@literal repository.query.cache.requests} - number of invocations answered from the cache (hit),
+ *     or by querying the servers (miss).</li>
+ *     <li>{@literal repository.query.cache.hit.ratio} - ratio of hits to all invocations.</li>
+ *     <li>{@literal repository.query.cache.size} - number of cached results.</li>
+ *     <li>{@literal repository.query.cache.removals} - number of cached results removed, by cause
+ *     (invalidated, expired or evicted).</li>
+ * </ul>
+ *
+ * Only methods returning entities, as a single entity, an {@link Optional}, a {@link Collection} or
+ * a {@link Stream}, are cached.  Every caller receives its own copies of the cached entities, so that changes
+ * made by one caller are neither seen by the other callers nor applied to the cached result.
+ *
+ * @author John Blum
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.query.QueryResultCache
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @since 1.0.0
+ */
+public class QueryResultCacheInterceptor implements MethodInterceptor {
+
+	public static final String QUERY_CACHE_HIT_RATIO_METRIC_NAME = "repository.query.cache.hit.ratio";
+	public static final String QUERY_CACHE_REMOVALS_METRIC_NAME = "repository.query.cache.removals";
+	public static final String QUERY_CACHE_REQUESTS_METRIC_NAME = "repository.query.cache.requests";
+	public static final String QUERY_CACHE_SIZE_METRIC_NAME = "repository.query.cache.size";
+
+	protected static final String ALL_ENTRIES_QUERY = "SELECT * FROM %s";
+
+	private static final AtomicLong cqIds = new AtomicLong(0L);
+
+	protected static final Pattern QUERY_REGION_PATTERN =
+		Pattern.compile("\\bFROM\\s+(/[\\w./-]+)", Pattern.CASE_INSENSITIVE);
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private final Map<Method, Optional<QueryResultCache>> caches = new ConcurrentHashMap<>();
+
+	private final Map<Method, CachedQueryDefinition> definitions = new ConcurrentHashMap<>();
+
+	private final Map<QueryResultCache, Region<Object, Object>> cachedRegions = new ConcurrentHashMap<>();
+
+	private final Map<QueryResultCache, CqQuery> cachedQueries = new ConcurrentHashMap<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final RepositoryMetadata repositoryMetadata;
+
+	private final Supplier<GemFireCache> gemfireCacheSupplier;
+
+	private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+	public QueryResultCacheInterceptor(Supplier<GemFireCache> gemfireCacheSupplier,
+			Supplier<MeterRegistry> meterRegistrySupplier, RepositoryMetadata repositoryMetadata) {
+
+		this.gemfireCacheSupplier = gemfireCacheSupplier;
+		this.meterRegistrySupplier = meterRegistrySupplier;
+		this.repositoryMetadata = repositoryMetadata;
+	}
+
+	/**
+	 * Resolves the query of every {@link CachedQuery} annotated method, failing fast on methods
+	 * whose query cannot be derived.
+	 */
+	void validate(Class<?> repositoryInterface) {
+
+		for (Method method : repositoryInterface.getMethods()) {
+			if (AnnotationUtils.findAnnotation(method, CachedQuery.class) != null) {
+				resolveDefinition(method);
+			}
+		}
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		Optional<QueryResultCache> queryResultCache = this.caches.computeIfAbsent(method, this::newQueryResultCache);
+
+		if (queryResultCache.isPresent()) {
+
+			QueryResultCache cache = queryResultCache.get();
+
+			Object[] arguments = invocation.getArguments();
+
+			List<Object> cachedValues = cache.get(arguments);
+
+			if (cachedValues != null) {
+				return RepositoryAdvice.adaptQueryResults(method, EntityCopier.copyAll(cachedValues));
+			}
+
+			long version = cache.version();
+
+			List<Object> values = toList(invocation.proceed());
+
+			cache.put(arguments, EntityCopier.copyAll(values), resolveIds(values), version);
+
+			return RepositoryAdvice.adaptQueryResults(method, values);
+		}
+
+		return invocation.proceed();
+	}
+
+	private Optional<QueryResultCache> newQueryResultCache(Method method) {
+
+		CachedQuery cachedQuery = AnnotationUtils.findAnnotation(method, CachedQuery.class);
+
+		if (cachedQuery != null && isCacheable(method.getReturnType())) {
+
+			CachedQueryDefinition definition = resolveDefinition(method);
+
+			Matcher matcher = QUERY_REGION_PATTERN.matcher(definition.query);
+
+			Region<Object, Object> region = matcher.find()
+				? this.gemfireCacheSupplier.get().getRegion(matcher.group(1))
+				: null;
+
+			if (region != null) {
+
+				// the Region is replaced by the new value of an entry, bound as the last parameter of the query
+				String matchingQuery = matcher.replaceFirst(Matcher.quoteReplacement(
+					"FROM $" + (definition.argumentCount + 1)));
+
+				QueryResultCache cache = new QueryResultCache(resolveLocalQueryService().newQuery(matchingQuery),
+					definition.argumentBinder, cachedQuery.maximumEntries(), cachedQuery.timeToLive(),
+					TimeUnit.SECONDS);
+
+				CqQuery cqQuery = registerContinuousQuery(method, region, cache);
+
+				if (cqQuery != null) {
+
+					region.getAttributesMutator().addCacheListener(cache);
+					registerMetrics(method.getName(), cache);
+
+					this.cachedQueries.put(cache, cqQuery);
+					this.cachedRegions.put(cache, region);
+
+					return Optional.of(cache);
+				}
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private CqQuery registerContinuousQuery(Method method, Region<?, ?> region, QueryResultCache cache) {
+
+		String methodName = String.format("%s.%s",
+			this.repositoryMetadata.getRepositoryInterface().getSimpleName(), method.getName());
+
+		Pool pool = resolvePool(region);
+
+		if (pool == null || !pool.getSubscriptionEnabled()) {
+
+			this.logger.warn(String.format("Not caching the results of [%1$s]; Region [%2$s] requires a Pool"
+				+ " with subscriptions enabled", methodName, region.getFullPath()));
+
+			return null;
+		}
+
+		try {
+
+			CqAttributesFactory cqAttributesFactory = new CqAttributesFactory();
+
+			cqAttributesFactory.addCqListener(cache);
+
+			CqQuery cqQuery = pool.getQueryService().newCq(
+				String.format("%s.cache#%d", methodName, cqIds.incrementAndGet()),
+				String.format(ALL_ENTRIES_QUERY, region.getFullPath()), cqAttributesFactory.create());
+
+			cqQuery.execute();
+
+			return cqQuery;
+		}
+		catch (Exception cause) {
+
+			this.logger.warn(String.format("Not caching the results of [%s]; failed to register a CQ"
+				+ " on Region [%s]", methodName, region.getFullPath()), cause);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Resolves the OQL query run by the method, in order of precedence, from the {@link CachedQuery} annotation,
+	 * the Spring Data Geode {@link Query} annotation or the name of the method.
+	 */
+	private CachedQueryDefinition resolveDefinition(Method method) {
+
+		return this.definitions.computeIfAbsent(method, it -> {
+
+			CachedQuery cachedQuery = AnnotationUtils.findAnnotation(method, CachedQuery.class);
+
+			Query query = AnnotationUtils.findAnnotation(method, Query.class);
+
+			if (StringUtils.hasText(cachedQuery.value())) {
+				return new CachedQueryDefinition(cachedQuery.value(), Function.identity(),
+					method.getParameterCount());
+			}
+			else if (query != null && StringUtils.hasText(query.value())) {
+				return new CachedQueryDefinition(query.value(), Function.identity(), method.getParameterCount());
+			}
+
+			GemfirePersistentEntity<?> entity =
+				this.mappingContext.getRequiredPersistentEntity(this.repositoryMetadata.getDomainType());
+
+			ProjectionQuery derivedQuery = ProjectionQuery.of(method, entity.getType(), entity,
+				new SpelAwareProxyProjectionFactory());
+
+			return new CachedQueryDefinition(derivedQuery.getQuery(), derivedQuery::bind,
+				derivedQuery.getArgumentCount());
+		});
+	}
+
+	private boolean isCacheable(Class<?> returnType) {
+
+		return !(returnType.isPrimitive()
+			|| returnType.isArray()
+			|| Number.class.isAssignableFrom(returnType)
+			|| Boolean.class.equals(returnType)
+			|| CharSequence.class.isAssignableFrom(returnType)
+			|| Map.class.isAssignableFrom(returnType)
+			|| Slice.class.isAssignableFrom(returnType)
+			|| Void.class.equals(returnType)
+			|| (Iterable.class.isAssignableFrom(returnType) && !Collection.class.isAssignableFrom(returnType)
+				&& !Iterable.class.equals(returnType)));
+	}
+
+	private QueryService resolveLocalQueryService() {
+
+		GemFireCache gemfireCache = this.gemfireCacheSupplier.get();
+
+		return gemfireCache instanceof ClientCache
+			? ((ClientCache) gemfireCache).getLocalQueryService()
+			: gemfireCache.getQueryService();
+	}
+
+	private Pool resolvePool(Region<?, ?> region) {
+
+		String poolName = region.getAttributes().getPoolName();
+
+		return StringUtils.hasText(poolName) ? PoolManager.find(poolName)
+			: this.gemfireCacheSupplier.get() instanceof ClientCache
+			? ((ClientCache) this.gemfireCacheSupplier.get()).getDefaultPool()
+			: null;
+	}
+
+	private void registerMetrics(String methodName, QueryResultCache cache) {
+
+		MeterRegistry meterRegistry = this.meterRegistrySupplier.get();
+
+		String repositoryName = this.repositoryMetadata.getRepositoryInterface().getSimpleName();
+
+		FunctionCounter.builder(QUERY_CACHE_REQUESTS_METRIC_NAME, cache, QueryResultCache::getHitCount)
+			.description("Number of Repository query invocations answered from the cache or the servers")
+			.tags("repository", repositoryName, "method", methodName, "result", "hit")
+			.register(meterRegistry);
+
+		FunctionCounter.builder(QUERY_CACHE_REQUESTS_METRIC_NAME, cache, QueryResultCache::getMissCount)
+			.description("Number of Repository query invocations answered from the cache or the servers")
+			.tags("repository", repositoryName, "method", methodName, "result", "miss")
+			.register(meterRegistry);
+
+		Gauge.builder(QUERY_CACHE_HIT_RATIO_METRIC_NAME, cache, QueryResultCache::getHitRatio)
+			.description("Ratio of Repository query invocations answered from the cache")
+			.tags("repository", repositoryName, "method", methodName)
+			.register(meterRegistry);
+
+		Gauge.builder(QUERY_CACHE_SIZE_METRIC_NAME, cache, QueryResultCache::size)
+			.description("Number of cached Repository query results")
+			.tags("repository", repositoryName, "method", methodName)
+			.register(meterRegistry);
+
+		FunctionCounter.builder(QUERY_CACHE_REMOVALS_METRIC_NAME, cache, QueryResultCache::getInvalidationCount)
+			.description("Number of cached Repository query results removed")
+			.tags("repository", repositoryName, "method", methodName, "cause", "invalidated")
+			.register(meterRegistry);
+
+		FunctionCounter.builder(QUERY_CACHE_REMOVALS_METRIC_NAME, cache, QueryResultCache::getExpirationCount)
+			.description("Number of cached Repository query results removed")
+			.tags("repository", repositoryName, "method", methodName, "cause", "expired")
+			.register(meterRegistry);
+
+		FunctionCounter.builder(QUERY_CACHE_REMOVALS_METRIC_NAME, cache, QueryResultCache::getEvictionCount)
+			.description("Number of cached Repository query results removed")
+			.tags("repository", repositoryName, "method", methodName, "cause", "evicted")
+			.register(meterRegistry);
+	}
+
+	private List<Object> toList(Object result) {
+
+		return result == null ? new ArrayList<>()
+			: result instanceof Stream ? ((Stream<?>) result).collect(Collectors.toList())
+			: result instanceof Iterable ? toList((Iterable<?>) result)
+			: result instanceof Optional ? toList(((Optional<?>) result).orElse(null))
+			: new ArrayList<>(Collections.singletonList(result));
+	}
+
+	private List<Object> toList(Iterable<?> values) {
+
+		List<Object> list = new ArrayList<>();
+
+		values.forEach(list::add);
+
+		return list;
+	}
+
+	private Set<Object> resolveIds(List<Object> values) {
+
+		return values.stream()
+			.map(entity -> this.mappingContext.getRequiredPersistentEntity(entity.getClass())
+				.getIdentifierAccessor(entity).getIdentifier())
+			.collect(Collectors.toSet());
+	}
+
+
+	void close() {
+
+		this.cachedQueries.values().forEach(cqQuery -> {
+			try {
+				cqQuery.close();
+			}
+			catch (Exception cause) {
+				this.logger.warn(String.format("Failed to close CQ [%s]", cqQuery.getName()), cause);
+			}
+		});
+
+		this.cachedQueries.clear();
+
+		this.cachedRegions.forEach((cache, region) -> {
+			if (!region.isDestroyed()) {
+				region.getAttributesMutator().removeCacheListener(cache);
+			}
+		});
+
+		this.cachedRegions.clear();
+		this.caches.clear();
+	}
+
+	private static class CachedQueryDefinition {
+
+		private final Function<Object[], Object[]> argumentBinder;
+
+		private final int argumentCount;
+
+		private final String query;
+
+		CachedQueryDefinition(String query, Function<Object[], Object[]> argumentBinder, int argumentCount) {
+			this.query = query;
+			this.argumentBinder = argumentBinder;
+			this.argumentCount = argumentCount;
+		}
+	}
+}
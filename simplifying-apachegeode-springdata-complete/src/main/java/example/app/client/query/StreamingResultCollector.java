@@ -0,0 +1,195 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.query;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * The {@link StreamingResultCollector} class is a {@link ResultCollector} handing the batches of results sent by
+ * each server to a {@link Stream} as they arrive, rather than after the {@literal Function} completes
+ * on every server.
+ *
+ * The {@link Stream} blocks while waiting for the next batch and ends once {@link #endResults()} is called.
+ * An exception sent in place of a result is rethrown from the {@link Stream}.  At most
+ * {@link #MAXIMUM_BUFFERED_BATCHES} batches are buffered; beyond that, receiving results waits for the
+ * {@link Stream} to be read, keeping client memory bounded.  Closing the {@link Stream} discards
+ * the remaining results.  A {@link Stream} that is neither read nor closed within the maximum wait time
+ * is considered abandoned; the remaining results are discarded and reading the {@link Stream} afterwards
+ * throws an exception.
+ *
+ * @author John Blum
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 1.0.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Stream<T>> {
+
+	protected static final int MAXIMUM_BUFFERED_BATCHES = 4;
+
+	protected static final long DEFAULT_MAXIMUM_WAIT_TIME = TimeUnit.SECONDS.toMillis(60);
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private final BlockingQueue<Object> results = new LinkedBlockingQueue<>(MAXIMUM_BUFFERED_BATCHES);
+
+	private final long maximumWaitTime;
+
+	private volatile boolean closed;
+
+	public StreamingResultCollector() {
+		this(DEFAULT_MAXIMUM_WAIT_TIME);
+	}
+
+	/**
+	 * @param maximumWaitTime milliseconds to wait for the {@link Stream} to take a batch before abandoning it.
+	 */
+	public StreamingResultCollector(long maximumWaitTime) {
+		this.maximumWaitTime = maximumWaitTime;
+	}
+
+	@Override
+	public Stream<T> getResult() {
+		return StreamSupport.stream(new ResultSpliterator(), false).onClose(this::close);
+	}
+
+	@Override
+	public Stream<T> getResult(long timeout, TimeUnit unit) {
+		return getResult();
+	}
+
+	@Override
+	public void addResult(DistributedMember member, Object result) {
+
+		if (result != null) {
+			put(result);
+		}
+	}
+
+	@Override
+	public void endResults() {
+		put(END_OF_RESULTS);
+	}
+
+	private void put(Object result) {
+
+		long timeout = System.currentTimeMillis() + this.maximumWaitTime;
+
+		try {
+			// wait for the Stream to take a batch or be closed
+			while (!this.closed) {
+
+				if (this.results.offer(result, 100L, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+
+				if (System.currentTimeMillis() >= timeout) {
+					abandon();
+				}
+			}
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void abandon() {
+
+		close();
+
+		this.results.offer(new QueryTimeoutException(String.format(
+			"Query results were not read within [%d] ms and have been discarded", this.maximumWaitTime)));
+	}
+
+	private void close() {
+		this.closed = true;
+		this.results.clear();
+	}
+
+	@Override
+	public void clearResults() {
+		this.results.clear();
+	}
+
+	private class ResultSpliterator extends Spliterators.AbstractSpliterator<T> {
+
+		private boolean endOfResults;
+
+		private Iterator<?> batch = Collections.emptyIterator();
+
+		ResultSpliterator() {
+			super(Long.MAX_VALUE, Spliterator.NONNULL);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			while (!this.batch.hasNext()) {
+
+				if (this.endOfResults) {
+					return false;
+				}
+
+				Object result = takeResult();
+
+				if (result == END_OF_RESULTS) {
+					this.endOfResults = true;
+				}
+				else if (result instanceof Throwable) {
+					this.endOfResults = true;
+					throw new DataRetrievalFailureException("Failed to execute parallel query",
+						(Throwable) result);
+				}
+				else if (result instanceof Iterable) {
+					this.batch = ((Iterable<?>) result).iterator();
+				}
+				else {
+					this.batch = Collections.singleton(result).iterator();
+				}
+			}
+
+			action.accept((T) this.batch.next());
+
+			return true;
+		}
+
+		private Object takeResult() {
+
+			try {
+				return StreamingResultCollector.this.results.take();
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new DataRetrievalFailureException("Interrupted while waiting for query results", cause);
+			}
+		}
+	}
+}
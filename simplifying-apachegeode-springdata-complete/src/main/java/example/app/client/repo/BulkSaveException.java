@@ -0,0 +1,46 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * The {@link BulkSaveException} class is a {@link DataAccessException} thrown by
+ * {@link BulkSaveRepository#saveAll(Iterable)} when one or more batches failed to save.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.BulkSaveResult
+ * @see org.springframework.dao.DataAccessException
+ * @since 1.0.0
+ */
+@SuppressWarnings("unused")
+public class BulkSaveException extends DataAccessException {
+
+	private final BulkSaveResult<?> result;
+
+	public BulkSaveException(BulkSaveResult<?> result) {
+
+		super(String.format("[%d] of [%d] batches failed to save", result.getFailures().size(),
+			result.getBatchCount()), result.getFailures().get(0).getCause());
+
+		this.result = result;
+	}
+
+	public BulkSaveResult<?> getResult() {
+		return this.result;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import org.apache.geode.cache.Region;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * The {@link BulkSaveRepository} interface is a Spring Data Repository fragment that replaces the default
+ * {@link CrudRepository#saveAll(Iterable)} with a batched bulk write path backed by {@link Region#putAll(java.util.Map)}.
+ *
+ * Rather than sending every entity to the server in a separate round trip, or sending an entire load
+ * in a single, unbounded {@literal putAll}, entities are sent in fixed size chunks, optionally with several
+ * chunks in-flight at once.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @see example.app.client.repo.BulkSaveRepositoryImpl
+ * @see example.app.client.repo.BulkSaveResult
+ * @see org.apache.geode.cache.Region#putAll(java.util.Map)
+ * @see org.springframework.data.repository.CrudRepository#saveAll(Iterable)
+ * @since 1.0.0
+ */
+public interface BulkSaveRepository<T> {
+
+	/**
+	 * Saves all the given entities in batches.
+	 *
+	 * All batches are attempted before any failure is reported.
+	 *
+	 * @param <S> {@link Class subclass} of the persistent entity.
+	 * @param entities {@link Iterable} of entities to save.
+	 * @return the saved entities.
+	 * @throws BulkSaveException if any batch failed to save.
+	 * @see #saveAllInBatches(Iterable)
+	 */
+	<S extends T> Iterable<S> saveAll(Iterable<S> entities);
+
+	/**
+	 * Saves all the given entities in batches, reporting the outcome of each batch rather than failing the whole load
+	 * when an individual batch cannot be written.
+	 *
+	 * @param <S> {@link Class subclass} of the persistent entity.
+	 * @param entities {@link Iterable} of entities to save.
+	 * @return a {@link BulkSaveResult} containing the saved entities and any {@link BulkSaveResult.BatchFailure}.
+	 * @see example.app.client.repo.BulkSaveResult
+	 */
+	<S extends T> BulkSaveResult<S> saveAllInBatches(Iterable<S> entities);
+
+}
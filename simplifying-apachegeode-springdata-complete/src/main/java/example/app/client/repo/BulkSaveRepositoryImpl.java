@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link BulkSaveRepositoryImpl} class is the implementation of the {@link BulkSaveRepository} fragment.
+ *
+ * Entities are grouped by the {@link Region} of their mapped type, so an {@link Iterable} mixing entity types
+ * saves each entity to its own {@link Region}, and then into batches of
+ * {@literal example.app.repository.save-all.batch-size} entries, each of which is written with a single
+ * {@link Region#putAll(Map)}.  When {@literal example.app.repository.save-all.parallelism} is greater than
+ * {@literal 1}, up to that many batches are sent to the server concurrently.  The caller stops reading entities
+ * while that many batches are in flight, so a large bulk save never holds more than {@literal parallelism}
+ * batches in memory, nor queues them on the batch threads.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @see example.app.client.repo.BulkSaveRepository
+ * @see org.apache.geode.cache.Region#putAll(Map)
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @since 1.0.0
+ */
+public class BulkSaveRepositoryImpl<T> implements BulkSaveRepository<T>, DisposableBean {
+
+	protected static final int DEFAULT_BATCH_SIZE = 1000;
+	protected static final int DEFAULT_PARALLELISM = 1;
+
+	private final int batchSize;
+
+	private final ExecutorService batchExecutor;
+
+	private final GemFireCache gemfireCache;
+
+	private final Semaphore inFlightBatches;
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	public BulkSaveRepositoryImpl(GemFireCache gemfireCache,
+			@Value("${example.app.repository.save-all.batch-size:" + DEFAULT_BATCH_SIZE + "}") int batchSize,
+			@Value("${example.app.repository.save-all.parallelism:" + DEFAULT_PARALLELISM + "}") int parallelism) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+		this.gemfireCache = gemfireCache;
+		this.batchSize = batchSize;
+		this.batchExecutor = parallelism > 1 ? newBatchExecutor(parallelism) : null;
+		this.inFlightBatches = new Semaphore(parallelism);
+	}
+
+	private ExecutorService newBatchExecutor(int parallelism) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+
+			Thread batchThread = new Thread(runnable, "BulkSaveThread-" + threadCount.incrementAndGet());
+
+			batchThread.setDaemon(true);
+
+			return batchThread;
+		});
+	}
+
+	@Override
+	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+		BulkSaveResult<S> result = saveAllInBatches(entities);
+
+		if (result.hasFailures()) {
+			throw new BulkSaveException(result);
+		}
+
+		return result.getSaved();
+	}
+
+	@Override
+	public <S extends T> BulkSaveResult<S> saveAllInBatches(Iterable<S> entities) {
+
+		Assert.notNull(entities, "Entities to save must not be null");
+
+		BulkSaveResult<S> result = new BulkSaveResult<>();
+
+		List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+		Map<String, Region<Object, S>> regions = new HashMap<>();
+
+		Map<Region<Object, S>, Map<Object, S>> pendingBatches = new LinkedHashMap<>();
+
+		for (S entity : entities) {
+
+			GemfirePersistentEntity<?> persistentEntity =
+				this.mappingContext.getRequiredPersistentEntity(entity.getClass());
+
+			Region<Object, S> region = regions.computeIfAbsent(persistentEntity.getRegionName(),
+				regionName -> resolveRegion(persistentEntity));
+
+			Map<Object, S> batch = pendingBatches.computeIfAbsent(region, key -> new LinkedHashMap<>());
+
+			batch.put(persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier(), entity);
+
+			if (batch.size() == this.batchSize) {
+				batches.add(saveBatch(region, batches.size(), batch, result));
+				pendingBatches.remove(region);
+			}
+		}
+
+		pendingBatches.forEach((region, batch) -> batches.add(saveBatch(region, batches.size(), batch, result)));
+
+		CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+
+		return result;
+	}
+
+	private <S> Region<Object, S> resolveRegion(GemfirePersistentEntity<?> persistentEntity) {
+
+		Region<Object, S> region = this.gemfireCache.getRegion(persistentEntity.getRegionName());
+
+		Assert.state(region != null, String.format("Region [%s] for entity [%s] was not found",
+			persistentEntity.getRegionName(), persistentEntity.getType().getName()));
+
+		return region;
+	}
+
+	private <S> CompletableFuture<Void> saveBatch(Region<Object, S> region, int batchIndex, Map<Object, S> batch,
+			BulkSaveResult<S> result) {
+
+		Runnable putAll = () -> {
+			try {
+				region.putAll(batch);
+				result.addSaved(batch.values());
+			}
+			catch (RuntimeException cause) {
+				result.addFailure(new BulkSaveResult.BatchFailure(batchIndex, batch.keySet(), cause));
+			}
+		};
+
+		if (this.batchExecutor != null) {
+
+			this.inFlightBatches.acquireUninterruptibly();
+
+			try {
+				return CompletableFuture.runAsync(() -> {
+					try {
+						putAll.run();
+					}
+					finally {
+						this.inFlightBatches.release();
+					}
+				}, this.batchExecutor);
+			}
+			catch (RejectedExecutionException cause) {
+				this.inFlightBatches.release();
+				throw cause;
+			}
+		}
+
+		putAll.run();
+
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.batchExecutor != null) {
+			this.batchExecutor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The {@link BulkSaveResult} class is an Abstract Data Type (ADT) recording the outcome
+ * of a {@link BulkSaveRepository#saveAllInBatches(Iterable) batched bulk save}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the saved entities.
+ * @see example.app.client.repo.BulkSaveRepository
+ * @since 1.0.0
+ */
+@ToString(of = { "batchCount", "savedCount", "failures" })
+public class BulkSaveResult<T> {
+
+	private int batchCount;
+
+	private final List<T> saved = new ArrayList<>();
+
+	private final List<BatchFailure> failures = new ArrayList<>();
+
+	synchronized void addSaved(Collection<T> entities) {
+		this.batchCount++;
+		this.saved.addAll(entities);
+	}
+
+	synchronized void addFailure(BatchFailure failure) {
+		this.batchCount++;
+		this.failures.add(failure);
+	}
+
+	public synchronized int getBatchCount() {
+		return this.batchCount;
+	}
+
+	public synchronized List<T> getSaved() {
+		return Collections.unmodifiableList(this.saved);
+	}
+
+	public synchronized int getSavedCount() {
+		return this.saved.size();
+	}
+
+	public synchronized List<BatchFailure> getFailures() {
+		return Collections.unmodifiableList(this.failures);
+	}
+
+	public synchronized boolean hasFailures() {
+		return !this.failures.isEmpty();
+	}
+
+	/**
+	 * The {@link BatchFailure} class records a single batch that could not be saved.
+	 */
+	@Getter
+	@ToString
+	@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+	public static class BatchFailure {
+
+		private final int batchIndex;
+		private final Collection<?> keys;
+		private final Throwable cause;
+
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.Optional;
+
+import org.apache.geode.cache.Region;
+import org.springframework.data.repository.CrudRepository;
+
+import example.app.client.model.Customer;
+
+/**
+ * The {@link CustomerBulkReadRepository} interface is a Spring Data Repository fragment that replaces the default
+ * {@link CrudRepository#findById(Object)} and {@link CrudRepository#findAllById(Iterable)} with reads that
+ * minimize the number of round trips to the servers.
+ *
+ * {@link Customer Customers} looked up by identifier are read with {@link Region#getAll(java.util.Collection)}
+ * in batches of bounded size, read in parallel, rather than in a single, unbounded {@literal getAll}.  Concurrent
+ * {@link #findById(Long)} calls for the same {@link Customer} share one read, each receiving its own copy
+ * of the {@link Customer}, and may be gathered with calls for other {@link Customer Customers} into a single
+ * {@literal getAll}.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.repo.CustomerBulkReadRepositoryImpl
+ * @see org.apache.geode.cache.Region#getAll(java.util.Collection)
+ * @see org.springframework.data.repository.CrudRepository#findAllById(Iterable)
+ * @see org.springframework.data.repository.CrudRepository#findById(Object)
+ * @since 1.0.0
+ */
+public interface CustomerBulkReadRepository {
+
+	Optional<Customer> findById(Long id);
+
+	Iterable<Customer> findAllById(Iterable<Long> ids);
+
+}
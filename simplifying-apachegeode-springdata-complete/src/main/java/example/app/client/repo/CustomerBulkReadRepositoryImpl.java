@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.Assert;
+
+import example.app.client.model.Customer;
+import example.app.client.repo.support.BatchingRegionReader;
+
+/**
+ * The {@link CustomerBulkReadRepositoryImpl} class is the implementation of the {@link CustomerBulkReadRepository}
+ * fragment delegating to a {@link BatchingRegionReader}.
+ *
+ * {@link #findAllById(Iterable)} reads batches of {@literal example.app.repository.find-all.batch-size} identifiers,
+ * with up to {@literal example.app.repository.find-all.parallelism} batches in-flight at once.  When the client
+ * {@literal Pool} has single-hop enabled, each batch is further split by server and read from every server
+ * in parallel.  {@link #findById(Long)} calls arriving within
+ * {@literal example.app.repository.find-by-id.coalescing-window-micros} of each other are read together, and by default
+ * only concurrent calls for the same {@link Customer} are coalesced.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerBulkReadRepository
+ * @see example.app.client.repo.support.BatchingRegionReader
+ * @since 1.0.0
+ */
+public class CustomerBulkReadRepositoryImpl implements CustomerBulkReadRepository, DisposableBean {
+
+	protected static final int DEFAULT_BATCH_SIZE = 100;
+	protected static final int DEFAULT_PARALLELISM = 4;
+
+	protected static final long DEFAULT_COALESCING_WINDOW = 0L;
+
+	private final int batchSize;
+	private final int parallelism;
+
+	private final long coalescingWindow;
+
+	private final GemFireCache gemfireCache;
+
+	private volatile BatchingRegionReader<Long, Customer> regionReader;
+
+	public CustomerBulkReadRepositoryImpl(GemFireCache gemfireCache,
+			@Value("${example.app.repository.find-all.batch-size:" + DEFAULT_BATCH_SIZE + "}") int batchSize,
+			@Value("${example.app.repository.find-all.parallelism:" + DEFAULT_PARALLELISM + "}") int parallelism,
+			@Value("${example.app.repository.find-by-id.coalescing-window-micros:" + DEFAULT_COALESCING_WINDOW + "}")
+				long coalescingWindow) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+		this.batchSize = batchSize;
+		this.parallelism = parallelism;
+		this.coalescingWindow = coalescingWindow;
+	}
+
+	private BatchingRegionReader<Long, Customer> getRegionReader() {
+
+		if (this.regionReader == null) {
+			synchronized (this) {
+				if (this.regionReader == null) {
+					this.regionReader = new BatchingRegionReader<>(resolveRegion(), this.batchSize,
+						this.parallelism, this.coalescingWindow);
+				}
+			}
+		}
+
+		return this.regionReader;
+	}
+
+	private Region<Long, Customer> resolveRegion() {
+
+		String regionName = new GemfireMappingContext().getRequiredPersistentEntity(Customer.class).getRegionName();
+
+		Region<Long, Customer> region = this.gemfireCache.getRegion(regionName);
+
+		Assert.state(region != null, String.format("Region [%s] for entity [%s] was not found",
+			regionName, Customer.class.getName()));
+
+		return region;
+	}
+
+	@Override
+	public Optional<Customer> findById(Long id) {
+
+		Assert.notNull(id, "ID must not be null");
+
+		return Optional.ofNullable(getRegionReader().get(id));
+	}
+
+	@Override
+	public Iterable<Customer> findAllById(Iterable<Long> ids) {
+
+		Assert.notNull(ids, "IDs must not be null");
+
+		return new ArrayList<>(getRegionReader().getAll(ids).values());
+	}
+
+	@Override
+	public void destroy() {
+
+		if (this.regionReader != null) {
+			this.regionReader.close();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import example.app.client.model.Customer;
+
+/**
+ * The {@link CustomerPagingRepository} interface is a Spring Data Repository fragment returning large numbers of
+ * {@link Customer Customers} matching a name pattern as a {@link Page}, a {@link Slice} or a {@link Stream},
+ * holding only a bounded number of {@link Customer Customers} in client memory at a time.
+ *
+ * A {@link Page} is ordered by the {@link Pageable Pageable's} sort, followed by {@link Customer#getId() id}.
+ * A {@link Slice} avoids the additional count query required by a {@link Page} and, rather than skipping
+ * the preceding {@link Customer Customers} by offset, seeks past the {@link Customer#getId() id} of the last
+ * {@link Customer} of the previous {@link Slice}, or starts from the first {@link Customer} when
+ * {@literal null}.  {@link Slice Slices} and the {@link Stream} return {@link Customer Customers}
+ * in {@link Customer#getId() id} order.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.query.PagedQueryTemplate
+ * @see example.app.client.repo.CustomerPagingRepositoryImpl
+ * @since 1.0.0
+ */
+public interface CustomerPagingRepository {
+
+	Page<Customer> findByNameLike(String nameWildcard, Pageable pageable);
+
+	Slice<Customer> findSliceByNameLike(String nameWildcard, Long lastId, int size);
+
+	Stream<Customer> streamByNameLike(String nameWildcard);
+
+}
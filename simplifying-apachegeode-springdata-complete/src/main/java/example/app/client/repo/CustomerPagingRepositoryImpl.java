@@ -0,0 +1,71 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import example.app.client.model.Customer;
+import example.app.client.query.PagedQueryTemplate;
+
+/**
+ * The {@link CustomerPagingRepositoryImpl} class is the implementation of the {@link CustomerPagingRepository}
+ * fragment delegating to a {@link PagedQueryTemplate}.
+ *
+ * {@link Stream Streams} read {@link Customer Customers} in chunks of the size configured with the
+ * {@literal example.app.repository.query.chunk-size} property.
+ *
+ * @author John Blum
+ * @see example.app.client.query.PagedQueryTemplate
+ * @see example.app.client.repo.CustomerPagingRepository
+ * @since 1.0.0
+ */
+public class CustomerPagingRepositoryImpl implements CustomerPagingRepository {
+
+	protected static final String NAME_LIKE_PREDICATE = "entity.name LIKE $1";
+
+	private final int chunkSize;
+
+	private final PagedQueryTemplate pagedQueryTemplate;
+
+	public CustomerPagingRepositoryImpl(GemFireCache gemfireCache,
+			@Value("${example.app.repository.query.chunk-size:1000}") int chunkSize) {
+
+		this.pagedQueryTemplate = new PagedQueryTemplate(gemfireCache);
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public Page<Customer> findByNameLike(String nameWildcard, Pageable pageable) {
+		return this.pagedQueryTemplate.findPage(Customer.class, NAME_LIKE_PREDICATE, pageable, nameWildcard);
+	}
+
+	@Override
+	public Slice<Customer> findSliceByNameLike(String nameWildcard, Long lastId, int size) {
+		return this.pagedQueryTemplate.findSlice(Customer.class, NAME_LIKE_PREDICATE, lastId, size, nameWildcard);
+	}
+
+	@Override
+	public Stream<Customer> streamByNameLike(String nameWildcard) {
+		return this.pagedQueryTemplate.stream(Customer.class, NAME_LIKE_PREDICATE, this.chunkSize, nameWildcard);
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.stream.Stream;
+
+import example.app.client.model.Customer;
+
+/**
+ * The {@link CustomerParallelQueryRepository} interface is a Spring Data Repository fragment providing queries
+ * on {@link Customer Customers} executed as a data-aware {@literal Function} on every server in parallel,
+ * with results streamed back as each server produces them.
+ *
+ * Query throughput scales with the number of servers hosting the partitioned {@literal Customers} Region,
+ * since each server only queries the buckets it hosts.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.query.ParallelQueryTemplate
+ * @see example.app.client.repo.CustomerParallelQueryRepositoryImpl
+ * @since 1.0.0
+ */
+public interface CustomerParallelQueryRepository {
+
+	Stream<Customer> findByNameLikeInParallel(String nameWildcard);
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.stream.Stream;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+
+import example.app.client.model.Customer;
+import example.app.client.query.ParallelQueryTemplate;
+
+/**
+ * The {@link CustomerParallelQueryRepositoryImpl} class is the implementation of the
+ * {@link CustomerParallelQueryRepository} fragment delegating to a {@link ParallelQueryTemplate}, running
+ * at most {@literal example.app.repository.parallel-query.maximum-concurrent-queries} queries at once.
+ *
+ * @author John Blum
+ * @see example.app.client.query.ParallelQueryTemplate
+ * @see example.app.client.repo.CustomerParallelQueryRepository
+ * @since 1.0.0
+ */
+public class CustomerParallelQueryRepositoryImpl implements CustomerParallelQueryRepository, DisposableBean {
+
+	protected static final int DEFAULT_MAXIMUM_CONCURRENT_QUERIES = 4;
+
+	protected static final String NAME_LIKE_QUERY = "SELECT * FROM %s WHERE name LIKE $1";
+
+	private final ParallelQueryTemplate parallelQueryTemplate;
+
+	public CustomerParallelQueryRepositoryImpl(GemFireCache gemfireCache,
+			@Value("${example.app.repository.parallel-query.maximum-concurrent-queries:"
+				+ DEFAULT_MAXIMUM_CONCURRENT_QUERIES + "}") int maximumConcurrentQueries) {
+
+		this.parallelQueryTemplate = new ParallelQueryTemplate(gemfireCache, maximumConcurrentQueries);
+	}
+
+	@Override
+	public Stream<Customer> findByNameLikeInParallel(String nameWildcard) {
+		return this.parallelQueryTemplate.find(Customer.class, NAME_LIKE_QUERY, nameWildcard);
+	}
+
+	@Override
+	public void destroy() {
+		this.parallelQueryTemplate.destroy();
+	}
+}
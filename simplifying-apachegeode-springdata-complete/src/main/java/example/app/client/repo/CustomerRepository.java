@@ -16,11 +16,18 @@
 
 package example.app.client.repo;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.gemfire.repository.query.annotation.Trace;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.Repository;
 
 import example.app.client.model.Customer;
+import example.app.client.model.CustomerName;
+import example.app.client.model.CustomerSummary;
+import example.app.client.query.CachedQuery;
+import example.app.client.view.ContinuousQueryView;
 
 /**
  * Spring Data {@link Repository} with basic CRUD and simple (OQL) Query data access operations
@@ -28,15 +35,59 @@ import example.app.client.model.Customer;
  *
  * A Spring Data {@link Repository} is analogous to a Data Access Object (DAO).
  *
+ * Bulk loads of {@link Customer Customers} using {@link #saveAll(Iterable)} are written in batches
+ * by the {@link BulkSaveRepository} fragment, and {@link Customer Customers} looked up by identifier are read
+ * in batches, with concurrent lookups coalesced, by the {@link CustomerBulkReadRepository} fragment.  Suffix
+ * and contains searches on the {@link Customer Customer's} name are provided by the {@link CustomerSearchRepository}
+ * fragment.  The {@link CustomerParallelQueryRepository} fragment runs queries on every server in parallel,
+ * streaming back the results.  Large results are read a page, a slice or a chunk at a time with
+ * the {@link CustomerPagingRepository} fragment.
+ *
+ * Queries annotated with {@link ContinuousQueryView} are answered from a view kept in client memory
+ * and updated from Continuous Query events.  Results of queries annotated with {@link CachedQuery} are cached,
+ * once subscriptions are enabled on the {@literal Pool}, until a change to the {@literal Customers} Region
+ * affects them.
+ *
+ * Callers needing only some of a {@link Customer Customer's} properties query for projections, either a declared
+ * {@link CustomerName} or a projection type of their choice (e.g. {@link CustomerSummary}), in which case only
+ * the projected properties are selected and transferred.
+ *
  * @author John Blum
  * @see example.app.client.model.Customer
+ * @see example.app.client.model.CustomerName
+ * @see example.app.client.model.CustomerSummary
+ * @see example.app.client.projection.EnableQueryProjections
+ * @see example.app.client.query.CachedQuery
+ * @see example.app.client.repo.BulkSaveRepository
+ * @see example.app.client.repo.CustomerBulkReadRepository
+ * @see example.app.client.repo.CustomerPagingRepository
+ * @see example.app.client.repo.CustomerParallelQueryRepository
+ * @see example.app.client.repo.CustomerSearchRepository
+ * @see example.app.client.view.ContinuousQueryView
  * @see org.springframework.data.repository.CrudRepository
  * @see org.springframework.data.repository.Repository
  * @since 1.0.0
  */
-public interface CustomerRepository extends CrudRepository<Customer, Long> {
+public interface CustomerRepository extends CrudRepository<Customer, Long>, BulkSaveRepository<Customer>,
+		CustomerBulkReadRepository, CustomerPagingRepository, CustomerParallelQueryRepository,
+		CustomerSearchRepository {
+
+	// redeclared so that calls resolve to the CustomerBulkReadRepository fragment rather than being ambiguous
+	@Override
+	Optional<Customer> findById(Long id);
+
+	@Override
+	Iterable<Customer> findAllById(Iterable<Long> ids);
 
 	@Trace
+	@ContinuousQueryView("SELECT * FROM /Customers WHERE name LIKE $1")
 	Customer findByNameLike(String nameWildcard);
 
+	@CachedQuery
+	List<Customer> findAllByNameLike(String nameWildcard);
+
+	List<CustomerName> findNamesByNameLike(String nameWildcard);
+
+	<T> List<T> findProjectedByNameLike(String nameWildcard, Class<T> projectionType);
+
 }
@@ -0,0 +1,42 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.List;
+
+import example.app.client.model.Customer;
+
+/**
+ * The {@link CustomerSearchRepository} interface is a Spring Data Repository fragment providing indexed suffix
+ * and contains searches on the {@link Customer#getName() Customer's name}.
+ *
+ * Unlike the derived OQL {@literal LIKE} queries, which cannot use an Index when the pattern begins with a wildcard,
+ * these searches use the Indexes maintained for the {@literal @TextIndexed} name.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.repo.CustomerSearchRepositoryImpl
+ * @see example.app.client.search.TextIndexed
+ * @since 1.0.0
+ */
+public interface CustomerSearchRepository {
+
+	List<Customer> findByNameContaining(String text);
+
+	List<Customer> findByNameEndingWith(String suffix);
+
+}
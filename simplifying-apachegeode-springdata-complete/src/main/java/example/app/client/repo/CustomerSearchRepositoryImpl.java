@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo;
+
+import java.util.List;
+
+import org.apache.geode.cache.GemFireCache;
+
+import example.app.client.model.Customer;
+import example.app.client.search.TextSearchTemplate;
+
+/**
+ * The {@link CustomerSearchRepositoryImpl} class is the implementation of the {@link CustomerSearchRepository}
+ * fragment delegating to a {@link TextSearchTemplate}.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerSearchRepository
+ * @see example.app.client.search.TextSearchTemplate
+ * @since 1.0.0
+ */
+public class CustomerSearchRepositoryImpl implements CustomerSearchRepository {
+
+	protected static final String NAME_PROPERTY = "name";
+
+	private final TextSearchTemplate textSearchTemplate;
+
+	public CustomerSearchRepositoryImpl(GemFireCache gemfireCache) {
+		this.textSearchTemplate = new TextSearchTemplate(gemfireCache);
+	}
+
+	@Override
+	public List<Customer> findByNameContaining(String text) {
+		return this.textSearchTemplate.findByContaining(Customer.class, NAME_PROPERTY, text);
+	}
+
+	@Override
+	public List<Customer> findByNameEndingWith(String suffix) {
+		return this.textSearchTemplate.findByEndingWith(Customer.class, NAME_PROPERTY, suffix);
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.reactive;
+
+import org.reactivestreams.Publisher;
+
+import example.app.client.model.Customer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The {@link ReactiveCustomerRepository} interface defines data access operations for {@link Customer Customers}
+ * returning Reactor {@link Mono Monos} and {@link Flux Fluxes}, which do not block the subscriber's thread.
+ * The Apache Geode operations underneath remain blocking; see {@link SchedulingReactiveCustomerRepository}.
+ *
+ * Callers needing a {@link java.util.concurrent.CompletableFuture} can use {@link Mono#toFuture()}.
+ *
+ * @author John Blum
+ * @see example.app.client.model.Customer
+ * @see example.app.client.repo.reactive.SchedulingReactiveCustomerRepository
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 1.0.0
+ */
+public interface ReactiveCustomerRepository {
+
+	Mono<Long> count();
+
+	Mono<Void> deleteById(Long id);
+
+	Mono<Customer> findById(Long id);
+
+	Mono<Customer> findByNameLike(String nameWildcard);
+
+	Flux<Customer> findByNameLikeInParallel(String nameWildcard);
+
+	Mono<Customer> save(Customer customer);
+
+	Flux<Customer> saveAll(Publisher<Customer> customers);
+
+}
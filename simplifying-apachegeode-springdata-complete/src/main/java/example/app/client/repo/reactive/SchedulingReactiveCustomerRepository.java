@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.reactive;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * The {@link SchedulingReactiveCustomerRepository} class implements the {@link ReactiveCustomerRepository}
+ * on top of the {@link CustomerRepository}.
+ *
+ * This is a bridge, not a non-blocking client.  The Apache Geode 1.2 {@literal ClientCache} only provides blocking
+ * Region operations and {@literal Function} executions; even a {@literal Function's ResultCollector} is only
+ * called back while the executing thread waits for the servers.  So each round trip to the servers blocks
+ * a thread of a bounded {@link Scheduler}, rather than the subscriber's thread.  The {@link Scheduler} runs
+ * at most as many requests at once as the client {@literal Pool} has connections, queues up to the given number
+ * of further requests, and fails any request beyond those with a {@link RejectedExecutionException}, rather than
+ * piling up threads waiting for a connection.  Threads left idle for {@link #THREAD_TIME_TO_LIVE} seconds
+ * are released.
+ *
+ * {@link #saveAll(Publisher)} groups the published {@link Customer Customers} into batches, each written with
+ * a single bulk operation, and {@link #findByNameLikeInParallel(String)} emits {@link Customer Customers}
+ * as each server sends them.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerRepository
+ * @see example.app.client.repo.reactive.ReactiveCustomerRepository
+ * @see reactor.core.scheduler.Scheduler
+ * @since 1.0.0
+ */
+public class SchedulingReactiveCustomerRepository implements ReactiveCustomerRepository, DisposableBean {
+
+	protected static final int THREAD_TIME_TO_LIVE = 60;
+
+	private final CustomerRepository customerRepository;
+
+	private final int batchSize;
+
+	private final Scheduler scheduler;
+
+	public SchedulingReactiveCustomerRepository(CustomerRepository customerRepository, int batchSize,
+			int maximumConcurrentRequests, int maximumQueuedRequests) {
+
+		Assert.notNull(customerRepository, "CustomerRepository is required");
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(maximumConcurrentRequests > 0, String.format(
+			"Maximum concurrent requests [%d] must be greater than 0; a bounded Pool is required",
+				maximumConcurrentRequests));
+		Assert.isTrue(maximumQueuedRequests > 0, String.format(
+			"Maximum queued requests [%d] must be greater than 0", maximumQueuedRequests));
+
+		this.customerRepository = customerRepository;
+		this.batchSize = batchSize;
+		this.scheduler = Schedulers.fromExecutorService(
+			newRequestExecutor(maximumConcurrentRequests, maximumQueuedRequests));
+	}
+
+	private ExecutorService newRequestExecutor(int maximumConcurrentRequests, int maximumQueuedRequests) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		ThreadPoolExecutor requestExecutor = new ThreadPoolExecutor(maximumConcurrentRequests,
+			maximumConcurrentRequests, THREAD_TIME_TO_LIVE, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(maximumQueuedRequests), runnable -> {
+
+				Thread requestThread = new Thread(runnable, "ReactiveClientThread-" + threadCount.incrementAndGet());
+
+				requestThread.setDaemon(true);
+
+				return requestThread;
+			});
+
+		requestExecutor.allowCoreThreadTimeOut(true);
+
+		return requestExecutor;
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return Mono.fromCallable(this.customerRepository::count).subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<Void> deleteById(Long id) {
+		return Mono.<Void>fromRunnable(() -> this.customerRepository.deleteById(id)).subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<Customer> findById(Long id) {
+		return Mono.defer(() -> Mono.justOrEmpty(this.customerRepository.findById(id))).subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<Customer> findByNameLike(String nameWildcard) {
+		return Mono.fromCallable(() -> this.customerRepository.findByNameLike(nameWildcard))
+			.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Flux<Customer> findByNameLikeInParallel(String nameWildcard) {
+		return Flux.fromStream(() -> this.customerRepository.findByNameLikeInParallel(nameWildcard))
+			.subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Mono<Customer> save(Customer customer) {
+		return Mono.fromCallable(() -> this.customerRepository.save(customer)).subscribeOn(this.scheduler);
+	}
+
+	@Override
+	public Flux<Customer> saveAll(Publisher<Customer> customers) {
+
+		return Flux.from(customers)
+			.buffer(this.batchSize)
+			.concatMap(batch -> Flux.defer(() -> Flux.fromIterable(this.customerRepository.saveAll(batch)))
+				.subscribeOn(this.scheduler));
+	}
+
+	@Override
+	public void destroy() {
+		this.scheduler.dispose();
+	}
+}
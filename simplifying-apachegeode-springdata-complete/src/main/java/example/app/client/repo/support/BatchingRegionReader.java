@@ -0,0 +1,305 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.cache.Region;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link BatchingRegionReader} class reads values from a {@link Region} in as few round trips as possible.
+ *
+ * {@link #getAll(Iterable)} reads the distinct keys in batches of a fixed size, each with a single
+ * {@link Region#getAll(Collection)}, with up to {@literal parallelism} batches in-flight at once.  For a client
+ * {@link Region} of a {@literal Pool} with single-hop enabled, Geode further splits every batch by the server hosting
+ * the keys and reads from those servers in parallel.
+ *
+ * {@link #get(Object)} coalesces concurrent reads.  A read of a key that is already being read waits for, and shares,
+ * the result of that read.  When the coalescing window is greater than {@literal 0}, reads of different keys arriving
+ * within the window are gathered and sent together in a single {@link Region#getAll(Collection)}, trading up to
+ * the window in latency for fewer round trips.  A read joining another in-flight read returns its own copy
+ * of the value, made with the {@link EntityCopier}, and may not see a write completed after the other read was sent.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the {@link Region} key.
+ * @param <V> {@link Class type} of the {@link Region} value.
+ * @see example.app.client.repo.support.EntityCopier
+ * @see org.apache.geode.cache.Region#get(Object)
+ * @see org.apache.geode.cache.Region#getAll(Collection)
+ * @since 1.0.0
+ */
+public class BatchingRegionReader<K, V> implements AutoCloseable {
+
+	private final int batchSize;
+
+	private final long coalescingWindow;
+
+	private final ConcurrentMap<K, CompletableFuture<V>> reads = new ConcurrentHashMap<>();
+
+	private final ExecutorService batchExecutor;
+
+	private Map<K, CompletableFuture<V>> pendingReads = new LinkedHashMap<>();
+
+	private final Region<K, V> region;
+
+	private final ScheduledExecutorService coalescingExecutor;
+
+	private ScheduledFuture<?> pendingFlush;
+
+	/**
+	 * Constructs a new {@link BatchingRegionReader}.
+	 *
+	 * @param region {@link Region} to read.
+	 * @param batchSize maximum number of keys read with a single {@link Region#getAll(Collection)}.
+	 * @param parallelism maximum number of batches read concurrently.
+	 * @param coalescingWindow time, in microseconds, for which reads of different keys are gathered into one batch;
+	 * {@literal 0} coalesces only reads of the same key.
+	 */
+	public BatchingRegionReader(Region<K, V> region, int batchSize, int parallelism, long coalescingWindow) {
+
+		Assert.notNull(region, "Region is required");
+		Assert.isTrue(batchSize > 0, String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+		Assert.isTrue(coalescingWindow >= 0,
+			String.format("Coalescing window [%d] must be greater than or equal to 0", coalescingWindow));
+
+		this.region = region;
+		this.batchSize = batchSize;
+		this.coalescingWindow = coalescingWindow;
+
+		this.batchExecutor = parallelism > 1
+			? Executors.newFixedThreadPool(parallelism, newThreadFactory("BatchReadThread-"))
+			: null;
+
+		this.coalescingExecutor = coalescingWindow > 0
+			? Executors.newScheduledThreadPool(parallelism, newThreadFactory("CoalescedReadThread-"))
+			: null;
+	}
+
+	private ThreadFactory newThreadFactory(String threadNamePrefix) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	public Region<K, V> getRegion() {
+		return this.region;
+	}
+
+	/**
+	 * Reads the value of the given key, sharing the read with concurrent reads of the same key and, when a coalescing
+	 * window is set, with reads of other keys arriving within the window.
+	 *
+	 * @param key key to read.
+	 * @return the value of the key or {@literal null} if the {@link Region} does not contain the key.
+	 */
+	public V get(K key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		CompletableFuture<V> read = new CompletableFuture<>();
+		CompletableFuture<V> inFlightRead = this.reads.putIfAbsent(key, read);
+
+		// every joining reader gets its own copy so that no caller sees the changes made by another
+		if (inFlightRead != null) {
+			return EntityCopier.copy(join(inFlightRead));
+		}
+
+		if (this.coalescingExecutor != null) {
+			coalesce(key, read);
+		}
+		else {
+			try {
+				complete(key, read, this.region.get(key));
+			}
+			catch (RuntimeException cause) {
+				fail(key, read, cause);
+			}
+		}
+
+		return join(read);
+	}
+
+	private void coalesce(K key, CompletableFuture<V> read) {
+
+		Map<K, CompletableFuture<V>> readsToFlush = null;
+
+		synchronized (this) {
+
+			this.pendingReads.put(key, read);
+
+			if (this.pendingReads.size() >= this.batchSize) {
+				readsToFlush = takePendingReads();
+			}
+			else if (this.pendingReads.size() == 1) {
+				this.pendingFlush = this.coalescingExecutor.schedule(this::flushPendingReads,
+					this.coalescingWindow, TimeUnit.MICROSECONDS);
+			}
+		}
+
+		if (readsToFlush != null) {
+			flush(readsToFlush);
+		}
+	}
+
+	private void flushPendingReads() {
+
+		Map<K, CompletableFuture<V>> readsToFlush;
+
+		synchronized (this) {
+			readsToFlush = takePendingReads();
+		}
+
+		flush(readsToFlush);
+	}
+
+	private Map<K, CompletableFuture<V>> takePendingReads() {
+
+		Map<K, CompletableFuture<V>> readsToFlush = this.pendingReads;
+
+		this.pendingReads = new LinkedHashMap<>();
+
+		if (this.pendingFlush != null) {
+			this.pendingFlush.cancel(false);
+			this.pendingFlush = null;
+		}
+
+		return readsToFlush;
+	}
+
+	private void flush(Map<K, CompletableFuture<V>> readsToFlush) {
+
+		if (!readsToFlush.isEmpty()) {
+			try {
+
+				Map<K, V> values = this.region.getAll(new ArrayList<>(readsToFlush.keySet()));
+
+				readsToFlush.forEach((key, read) -> complete(key, read, values.get(key)));
+			}
+			catch (RuntimeException cause) {
+				readsToFlush.forEach((key, read) -> fail(key, read, cause));
+			}
+		}
+	}
+
+	private void complete(K key, CompletableFuture<V> read, V value) {
+		this.reads.remove(key, read);
+		read.complete(value);
+	}
+
+	private void fail(K key, CompletableFuture<V> read, Throwable cause) {
+		this.reads.remove(key, read);
+		read.completeExceptionally(cause);
+	}
+
+	/**
+	 * Reads the values of all the given keys in batches.
+	 *
+	 * @param keys {@link Iterable} of keys to read.
+	 * @return a {@link Map} of the keys found in the {@link Region} to their values, in the order of the given keys.
+	 */
+	public Map<K, V> getAll(Iterable<K> keys) {
+
+		Assert.notNull(keys, "Keys must not be null");
+
+		Set<K> distinctKeys = new LinkedHashSet<>();
+
+		keys.forEach(distinctKeys::add);
+
+		List<K> keyList = new ArrayList<>(distinctKeys);
+
+		List<CompletableFuture<Map<K, V>>> batches = new ArrayList<>();
+
+		for (int index = 0; index < keyList.size(); index += this.batchSize) {
+			batches.add(readBatch(new ArrayList<>(keyList.subList(index,
+				Math.min(index + this.batchSize, keyList.size()))), keyList.size() > this.batchSize));
+		}
+
+		Map<K, V> values = new LinkedHashMap<>(keyList.size());
+
+		for (CompletableFuture<Map<K, V>> batch : batches) {
+			join(batch).forEach((key, value) -> {
+				if (value != null) {
+					values.put(key, value);
+				}
+			});
+		}
+
+		return values;
+	}
+
+	private CompletableFuture<Map<K, V>> readBatch(List<K> batch, boolean concurrent) {
+
+		return this.batchExecutor != null && concurrent
+			? CompletableFuture.supplyAsync(() -> this.region.getAll(batch), this.batchExecutor)
+			: CompletableFuture.completedFuture(this.region.getAll(batch));
+	}
+
+	private <T> T join(CompletableFuture<T> future) {
+
+		try {
+			return future.join();
+		}
+		catch (CompletionException cause) {
+
+			if (cause.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) cause.getCause();
+			}
+
+			throw cause;
+		}
+	}
+
+	@Override
+	public void close() {
+
+		if (this.batchExecutor != null) {
+			this.batchExecutor.shutdownNow();
+		}
+
+		if (this.coalescingExecutor != null) {
+			this.coalescingExecutor.shutdownNow();
+			flushPendingReads();
+		}
+	}
+}
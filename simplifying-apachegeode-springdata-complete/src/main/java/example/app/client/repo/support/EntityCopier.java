@@ -0,0 +1,51 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.support;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.geode.CopyHelper;
+
+/**
+ * The {@link EntityCopier} class is an abstract utility class for copying the entities held in client memory,
+ * for instance by a cache of query results, before they are returned to a caller, so that the changes made
+ * by one caller to its entities are neither seen by the other callers nor applied to the held entities.
+ *
+ * Entities are copied with Apache Geode's {@link CopyHelper}, which serializes and deserializes the entity
+ * with the cache's {@literal PdxSerializer} unless the entity is {@link Cloneable}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.CopyHelper
+ * @since 1.0.0
+ */
+public abstract class EntityCopier {
+
+	/**
+	 * Returns a copy of the entity, or {@literal null} when the entity is {@literal null}.
+	 */
+	public static <T> T copy(T entity) {
+		return entity != null ? CopyHelper.copy(entity) : null;
+	}
+
+	/**
+	 * Returns a new {@link List} holding a copy of each of the entities.
+	 */
+	public static <T> List<T> copyAll(List<T> entities) {
+		return entities.stream().map(EntityCopier::copy).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.support;
+
+import org.apache.geode.cache.Region;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.support.SimpleGemfireRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link OptimizedGemfireRepository} class is a {@link SimpleGemfireRepository} used as
+ * the {@literal repositoryBaseClass} of the application's Repositories, replacing data access operations
+ * whose default implementation does not scale with the size of the {@link Region}.
+ *
+ * {@link #count()} asks the servers for the size of the {@link Region}, which they maintain, rather than running
+ * an OQL {@literal SELECT count(*)} that iterates every entry.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the persistent entity.
+ * @param <ID> {@link Class type} of the persistent entity's identifier.
+ * @see org.apache.geode.cache.Region#sizeOnServer()
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 1.0.0
+ */
+public class OptimizedGemfireRepository<T, ID> extends SimpleGemfireRepository<T, ID> {
+
+	private final GemfireTemplate template;
+
+	public OptimizedGemfireRepository(GemfireTemplate template, EntityInformation<T, ID> entityInformation) {
+
+		super(template, entityInformation);
+
+		this.template = template;
+	}
+
+	protected GemfireTemplate getGemfireTemplate() {
+		return this.template;
+	}
+
+	protected boolean isClientRegion(Region<?, ?> region) {
+		return StringUtils.hasText(region.getAttributes().getPoolName());
+	}
+
+	@Override
+	public long count() {
+
+		Region<?, ?> region = getGemfireTemplate().getRegion();
+
+		return isClientRegion(region) ? region.sizeOnServer() : region.size();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.repo.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * The {@link RepositoryAdvice} class is an abstract utility class for adding a {@link MethodInterceptor}
+ * answering query methods to a Spring Data Repository proxy, and for adapting the results it answers with
+ * to the return type of the query method.
+ *
+ * The {@link MethodInterceptor} is placed just before Spring Data's {@literal QueryExecutorMethodInterceptor},
+ * which executes query methods without proceeding any further, so that the {@link MethodInterceptor} sees
+ * every query method invocation while the exception translation, transaction and other advice added
+ * by Spring Data {@literal RepositoryProxyPostProcessors} still applies.
+ *
+ * @author John Blum
+ * @see org.springframework.aop.framework.Advised
+ * @see org.springframework.data.repository.core.support.RepositoryFactorySupport
+ * @since 1.0.0
+ */
+public abstract class RepositoryAdvice {
+
+	/**
+	 * Adds the {@link MethodInterceptor} to the Repository proxy before query methods are executed, or proxies
+	 * the Repository when it is not an {@link Advised} proxy that can be changed.
+	 *
+	 * @return the Repository proxy, or the new proxy.
+	 */
+	public static Object addQueryMethodInterceptor(Object repository, MethodInterceptor interceptor) {
+
+		if (repository instanceof Advised && !((Advised) repository).isFrozen()) {
+
+			Advised advised = (Advised) repository;
+
+			advised.addAdvice(indexOfQueryExecution(advised), interceptor);
+
+			return repository;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(repository);
+
+		proxyFactory.addAdvice(interceptor);
+
+		return proxyFactory.getProxy();
+	}
+
+	static int indexOfQueryExecution(Advised advised) {
+
+		Advisor[] advisors = advised.getAdvisors();
+
+		for (int index = 0; index < advisors.length; index++) {
+			if (advisors[index].getAdvice() instanceof RepositoryFactorySupport.QueryExecutorMethodInterceptor) {
+				return index;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Adapts the query results to the return type of the query method: a {@link Stream}, {@link Set}
+	 * or other {@link Iterable} of the results, or the single result, possibly wrapped in an {@link Optional}.
+	 *
+	 * @throws IncorrectResultSizeDataAccessException if the method returns a single result
+	 * and there is more than one.
+	 */
+	public static Object adaptQueryResults(Method method, Collection<?> values) {
+
+		Class<?> returnType = method.getReturnType();
+
+		if (Stream.class.isAssignableFrom(returnType)) {
+			return new ArrayList<>(values).stream();
+		}
+		else if (Set.class.isAssignableFrom(returnType)) {
+			return new HashSet<>(values);
+		}
+		else if (Iterable.class.isAssignableFrom(returnType)) {
+			return new ArrayList<>(values);
+		}
+
+		List<Object> results = new ArrayList<>(values);
+
+		if (results.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, results.size());
+		}
+
+		Object result = results.isEmpty() ? null : results.get(0);
+
+		return Optional.class.equals(returnType) ? Optional.ofNullable(result) : result;
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.annotation.EnableClusterConfiguration;
+
+/**
+ * The {@link EnableIncrementalClusterConfiguration} annotation skips the push of the application's
+ * {@literal Region} and {@literal Index} definitions to the cluster, enabled with
+ * {@link EnableClusterConfiguration}, when the cluster already has the same definitions.
+ *
+ * Definitions are compared by a hash, which is stored in the cluster's {@literal ClusterSchema} {@literal Region}
+ * after every push.
+ *
+ * @author John Blum
+ * @see example.app.client.schema.IncrementalClusterConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.EnableClusterConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(IncrementalClusterConfiguration.class)
+public @interface EnableIncrementalClusterConfiguration {
+
+}
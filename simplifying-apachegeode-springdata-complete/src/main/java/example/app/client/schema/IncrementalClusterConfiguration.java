@@ -0,0 +1,255 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+import org.apache.geode.cache.query.Index;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.ClusterConfigurationConfiguration;
+import org.springframework.util.ClassUtils;
+
+import example.app.client.startup.StartupTimingReport;
+
+/**
+ * The {@link IncrementalClusterConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableIncrementalClusterConfiguration}, that only lets Spring Data Geode push the application's
+ * {@link Region} and {@link Index} definitions to the cluster when their hash differs from the hash stored
+ * in the {@literal ClusterSchema} {@link Region} by the last push.
+ *
+ * The {@literal ClusterSchema} {@link Region} is itself part of the pushed definitions, so it is created
+ * on the servers by the first push.  The time spent comparing and pushing the definitions is recorded in
+ * the {@link StartupTimingReport}, when present.
+ *
+ * @author John Blum
+ * @see example.app.client.schema.EnableIncrementalClusterConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.ClusterConfigurationConfiguration
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class IncrementalClusterConfiguration {
+
+	public static final String CLUSTER_SCHEMA_REGION_NAME = "ClusterSchema";
+
+	@Bean(CLUSTER_SCHEMA_REGION_NAME)
+	ClientRegionFactoryBean<String, String> clusterSchemaRegion(GemFireCache gemfireCache) {
+
+		ClientRegionFactoryBean<String, String> clusterSchemaRegion = new ClientRegionFactoryBean<>();
+
+		clusterSchemaRegion.setCache(gemfireCache);
+		clusterSchemaRegion.setClose(false);
+		clusterSchemaRegion.setShortcut(ClientRegionShortcut.PROXY);
+
+		return clusterSchemaRegion;
+	}
+
+	@Bean
+	static BeanPostProcessor incrementalClusterSchemaBeanPostProcessor(ConfigurableListableBeanFactory beanFactory,
+			ObjectProvider<StartupTimingReport> startupTimingReport) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+				if (bean instanceof SmartLifecycle && isClusterSchemaInitializer(beanFactory, beanName)) {
+
+					ProxyFactory proxyFactory = new ProxyFactory(bean);
+
+					proxyFactory.addAdvice(new IncrementalClusterSchemaInterceptor(beanFactory, startupTimingReport));
+
+					return proxyFactory.getProxy();
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * Determines whether the named bean is the {@link SmartLifecycle} bean that Spring Data Geode uses to push
+	 * the definitions, which is the bean declared by a {@link Bean} method of
+	 * the {@link ClusterConfigurationConfiguration} class.
+	 */
+	static boolean isClusterSchemaInitializer(ConfigurableListableBeanFactory beanFactory, String beanName) {
+
+		if (!beanFactory.containsBeanDefinition(beanName)) {
+			return false;
+		}
+
+		String factoryBeanName = beanFactory.getBeanDefinition(beanName).getFactoryBeanName();
+
+		Class<?> factoryBeanType = factoryBeanName != null ? beanFactory.getType(factoryBeanName) : null;
+
+		return factoryBeanType != null
+			&& ClusterConfigurationConfiguration.class.isAssignableFrom(ClassUtils.getUserClass(factoryBeanType));
+	}
+
+	/**
+	 * Describes every {@link Region} attribute that Spring Data Geode pushes, or that may change the way the servers
+	 * create the {@link Region}, so any change to the {@link Region} definition changes the schema hash.
+	 */
+	static String describe(Region<?, ?> region) {
+
+		RegionAttributes<?, ?> attributes = region.getAttributes();
+
+		return String.format("region:%1$s:%2$s:%3$s:%4$s:%5$s:%6$s:%7$s:%8$s:%9$s:%10$s:%11$s:%12$s:%13$s:%14$s",
+			region.getFullPath(), attributes.getDataPolicy(), attributes.getScope(), attributes.getPoolName(),
+			describe(attributes.getKeyConstraint()), describe(attributes.getValueConstraint()),
+			describe(attributes.getEvictionAttributes()), describe(attributes.getEntryTimeToLive()),
+			describe(attributes.getEntryIdleTimeout()), describe(attributes.getRegionTimeToLive()),
+			describe(attributes.getRegionIdleTimeout()), describe(attributes.getPartitionAttributes()),
+			attributes.getDiskStoreName(), attributes.getOffHeap());
+	}
+
+	static String describe(Index index) {
+
+		return String.format("index:%1$s:%2$s:%3$s:%4$s", index.getName(), index.getType(),
+			index.getFromClause(), index.getIndexedExpression());
+	}
+
+	private static String describe(Class<?> constraint) {
+		return constraint != null ? constraint.getName() : null;
+	}
+
+	private static String describe(EvictionAttributes evictionAttributes) {
+
+		return evictionAttributes != null
+			? String.format("%1$s/%2$s/%3$d", evictionAttributes.getAlgorithm(), evictionAttributes.getAction(),
+				evictionAttributes.getAlgorithm().isLRUHeap() ? 0 : evictionAttributes.getMaximum())
+			: null;
+	}
+
+	private static String describe(ExpirationAttributes expirationAttributes) {
+
+		return expirationAttributes != null
+			? String.format("%1$d/%2$s", expirationAttributes.getTimeout(), expirationAttributes.getAction())
+			: null;
+	}
+
+	private static String describe(PartitionAttributes<?, ?> partitionAttributes) {
+
+		return partitionAttributes != null
+			? String.format("%1$d/%2$d/%3$s/%4$s", partitionAttributes.getRedundantCopies(),
+				partitionAttributes.getTotalNumBuckets(), partitionAttributes.getColocatedWith(),
+				partitionAttributes.getPartitionResolver() != null
+					? partitionAttributes.getPartitionResolver().getClass().getName() : null)
+			: null;
+	}
+
+	static class IncrementalClusterSchemaInterceptor implements MethodInterceptor {
+
+		private final ListableBeanFactory beanFactory;
+
+		private final ObjectProvider<StartupTimingReport> startupTimingReport;
+
+		IncrementalClusterSchemaInterceptor(ListableBeanFactory beanFactory,
+				ObjectProvider<StartupTimingReport> startupTimingReport) {
+
+			this.beanFactory = beanFactory;
+			this.startupTimingReport = startupTimingReport;
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			if (!"start".equals(invocation.getMethod().getName())) {
+				return invocation.proceed();
+			}
+
+			long startTime = System.nanoTime();
+
+			@SuppressWarnings("unchecked")
+			Region<String, String> clusterSchema =
+				this.beanFactory.getBean(CLUSTER_SCHEMA_REGION_NAME, Region.class);
+
+			String schemaKey = this.beanFactory.getBean(GemFireCache.class).getName();
+			String schemaHash = hashSchema();
+
+			if (schemaHash.equals(getClusterSchemaHash(clusterSchema, schemaKey))) {
+				recordTime("cluster schema comparison (push skipped)", startTime);
+				return null;
+			}
+
+			Object result = invocation.proceed();
+
+			clusterSchema.put(schemaKey, schemaHash);
+			recordTime("cluster schema push", startTime);
+
+			return result;
+		}
+
+		private String getClusterSchemaHash(Region<String, String> clusterSchema, String schemaKey) {
+
+			try {
+				return clusterSchema.get(schemaKey);
+			}
+			catch (RuntimeException ignore) {
+				// the ClusterSchema Region does not exist on the servers until the first push
+				return null;
+			}
+		}
+
+		private String hashSchema() throws NoSuchAlgorithmException {
+
+			Stream<String> regionDefinitions = this.beanFactory.getBeansOfType(Region.class).values().stream()
+				.map(IncrementalClusterConfiguration::describe);
+
+			Stream<String> indexDefinitions = this.beanFactory.getBeansOfType(Index.class).values().stream()
+				.map(IncrementalClusterConfiguration::describe);
+
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+
+			Stream.concat(regionDefinitions, indexDefinitions)
+				.sorted()
+				.forEach(definition -> messageDigest.update((definition + "\n").getBytes(StandardCharsets.UTF_8)));
+
+			StringBuilder schemaHash = new StringBuilder();
+
+			for (byte digestByte : messageDigest.digest()) {
+				schemaHash.append(String.format("%02x", digestByte));
+			}
+
+			return schemaHash.toString();
+		}
+
+		private void recordTime(String phase, long startTime) {
+			this.startupTimingReport.ifAvailable(report -> report.record(phase, System.nanoTime() - startTime));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableTextIndexing} annotation enables indexed suffix and contains searches
+ * for {@link TextIndexed} entity properties.
+ *
+ * The {@literal PdxSerializer} writing the additional PDX fields, a {@link TextIndexingPdxSerializer}
+ * or a text indexing {@literal GeneratedPdxSerializer}, must be configured as the cache's {@literal PdxSerializer}
+ * using
+ * {@literal @EnablePdx(serializerBeanName = TextIndexingConfiguration.TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME)},
+ * and the servers must be configured with {@literal pdx-read-serialized} so that queries evaluate the additional
+ * PDX fields.
+ *
+ * @author John Blum
+ * @see example.app.client.search.TextIndexed
+ * @see example.app.client.search.TextIndexingConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(TextIndexingConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableTextIndexing {
+
+	/**
+	 * Packages scanned for entities with {@link TextIndexed} properties.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
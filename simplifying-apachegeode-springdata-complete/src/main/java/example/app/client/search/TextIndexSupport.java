@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link TextIndexSupport} class is an abstract utility class for deriving the names and values
+ * of the additional, indexed PDX fields written for {@link TextIndexed} properties, and for escaping
+ * the values matched with OQL {@literal LIKE} patterns.
+ *
+ * @author John Blum
+ * @see example.app.client.search.TextIndexed
+ * @since 1.0.0
+ */
+public abstract class TextIndexSupport {
+
+	private static final Map<Class<?>, List<Field>> textIndexedFields = new ConcurrentHashMap<>();
+
+	static List<Field> findTextIndexedFields(Class<?> entityType) {
+
+		return textIndexedFields.computeIfAbsent(entityType, type -> {
+
+			List<Field> fields = new ArrayList<>();
+
+			ReflectionUtils.doWithFields(type, field -> {
+				ReflectionUtils.makeAccessible(field);
+				fields.add(field);
+			}, field -> field.isAnnotationPresent(TextIndexed.class) && String.class.equals(field.getType()));
+
+			return fields;
+		});
+	}
+
+	static String gramsFieldName(String propertyName) {
+		return propertyName + "Grams";
+	}
+
+	static String reversedFieldName(String propertyName) {
+		return propertyName + "Reversed";
+	}
+
+	static String[] grams(String value, int gramSize) {
+
+		Set<String> grams = new LinkedHashSet<>();
+
+		if (value != null) {
+			for (int index = 0, length = value.length(); index + gramSize <= length; index++) {
+				grams.add(value.substring(index, index + gramSize));
+			}
+		}
+
+		return grams.toArray(new String[0]);
+	}
+
+	static String reverse(String value) {
+		return value != null ? new StringBuilder(value).reverse().toString() : null;
+	}
+
+	/**
+	 * Escapes the {@literal LIKE} wildcards, {@literal %} and {@literal _}, and the escape character
+	 * in the given value, so that it is matched literally.
+	 */
+	public static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link TextIndexed} annotation marks a {@link String} property of an entity for indexed suffix
+ * and contains searches.
+ *
+ * An OQL {@literal LIKE} with a leading wildcard cannot use an Index.  Therefore, in addition to the property,
+ * the entity is written to PDX with the property's value reversed and with the distinct n-grams of the value.
+ * Both are indexed with {@literal FUNCTIONAL} (range) Indexes, turning a suffix search into an indexed prefix search
+ * and a contains search into an indexed n-gram lookup.
+ *
+ * @author John Blum
+ * @see example.app.client.search.EnableTextIndexing
+ * @see example.app.client.search.TextIndexingPdxSerializer
+ * @see example.app.client.search.TextSearchTemplate
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@SuppressWarnings("unused")
+public @interface TextIndexed {
+
+	int DEFAULT_GRAM_SIZE = 3;
+
+	/**
+	 * Length of the n-grams indexed for contains searches.  Search text shorter than the gram size
+	 * cannot use the n-gram Index.
+	 */
+	int gramSize() default DEFAULT_GRAM_SIZE;
+
+}
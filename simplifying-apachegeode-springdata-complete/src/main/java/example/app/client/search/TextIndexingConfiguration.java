@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import example.app.client.pdx.GeneratedPdxSerializer;
+
+/**
+ * The {@link TextIndexingConfiguration} class is an {@link ImportBeanDefinitionRegistrar}, imported by
+ * {@link EnableTextIndexing}, that registers the {@link TextIndexingPdxSerializer} and, for every {@link TextIndexed}
+ * property, a {@literal FUNCTIONAL} Index on the reversed value and another on the n-grams of the property.
+ *
+ * Like all Indexes declared on the client, these Indexes are pushed to the servers by
+ * {@literal @EnableClusterConfiguration}.
+ *
+ * Entities are serialized with SDG's {@link MappingPdxSerializer}, or, when the
+ * {@literal example.app.pdx.generated-serializer.enabled} property is {@literal true},
+ * with the {@link GeneratedPdxSerializer}, which writes the text indexed fields itself.
+ *
+ * @author John Blum
+ * @see example.app.client.pdx.GeneratedPdxSerializer
+ * @see example.app.client.search.EnableTextIndexing
+ * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
+ * @see org.springframework.data.gemfire.IndexFactoryBean
+ * @since 1.0.0
+ */
+public class TextIndexingConfiguration implements EnvironmentAware, ImportBeanDefinitionRegistrar {
+
+	public static final String TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME = "textIndexingPdxSerializer";
+
+	protected static final String GEMFIRE_CACHE_BEAN_NAME = "gemfireCache";
+	protected static final String GENERATED_PDX_SERIALIZER_PROPERTY = "example.app.pdx.generated-serializer.enabled";
+
+	private Environment environment;
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		BeanDefinition pdxSerializer = BeanDefinitionBuilder.genericBeanDefinition(TextIndexingPdxSerializer.class)
+			.addConstructorArgValue(BeanDefinitionBuilder.genericBeanDefinition(MappingPdxSerializer.class)
+				.getBeanDefinition())
+			.getBeanDefinition();
+
+		if (this.environment.getProperty(GENERATED_PDX_SERIALIZER_PROPERTY, Boolean.class, false)) {
+			pdxSerializer = BeanDefinitionBuilder.genericBeanDefinition(GeneratedPdxSerializer.class)
+				.addConstructorArgValue(pdxSerializer)
+				.addConstructorArgValue(true)
+				.getBeanDefinition();
+		}
+
+		registry.registerBeanDefinition(TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME, pdxSerializer);
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		ClassPathScanningCandidateComponentProvider entityScanner =
+			new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+		entityScanner.addIncludeFilter(new AnnotationTypeFilter(Region.class));
+
+		for (String basePackage : resolveBasePackages(importingClassMetadata)) {
+			for (BeanDefinition entity : entityScanner.findCandidateComponents(basePackage)) {
+
+				Class<?> entityType = ClassUtils.resolveClassName(entity.getBeanClassName(),
+					ClassUtils.getDefaultClassLoader());
+
+				String regionName = mappingContext.getRequiredPersistentEntity(entityType).getRegionName();
+
+				for (Field field : TextIndexSupport.findTextIndexedFields(entityType)) {
+
+					String reversedFieldName = TextIndexSupport.reversedFieldName(field.getName());
+					String gramsFieldName = TextIndexSupport.gramsFieldName(field.getName());
+
+					registerIndex(registry, regionName, reversedFieldName, reversedFieldName,
+						String.format("/%s", regionName));
+
+					registerIndex(registry, regionName, gramsFieldName, "gram",
+						String.format("/%1$s entity, entity.%2$s gram", regionName, gramsFieldName));
+				}
+			}
+		}
+	}
+
+	private Set<String> resolveBasePackages(AnnotationMetadata importingClassMetadata) {
+
+		AnnotationAttributes enableTextIndexingAttributes = AnnotationAttributes.fromMap(
+			importingClassMetadata.getAnnotationAttributes(EnableTextIndexing.class.getName()));
+
+		Set<String> basePackages = new LinkedHashSet<>(
+			Arrays.asList(enableTextIndexingAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableTextIndexingAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(basePackages::add);
+
+		return basePackages;
+	}
+
+	private void registerIndex(BeanDefinitionRegistry registry, String regionName, String fieldName,
+			String expression, String from) {
+
+		String indexName = String.format("%1$s%2$sFunctionalIdx", regionName, StringUtils.capitalize(fieldName));
+
+		registry.registerBeanDefinition(indexName, BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class)
+			.addDependsOn(regionName)
+			.addPropertyReference("cache", GEMFIRE_CACHE_BEAN_NAME)
+			.addPropertyValue("name", indexName)
+			.addPropertyValue("expression", expression)
+			.addPropertyValue("from", from)
+			.addPropertyValue("type", IndexType.FUNCTIONAL)
+			.getBeanDefinition());
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.reflect.Field;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link TextIndexingPdxSerializer} class is a {@link PdxSerializer} that serializes entities with
+ * a delegate {@link PdxSerializer}, a {@link MappingPdxSerializer} by default, and additionally writes
+ * the reversed value and the n-grams of every {@link TextIndexed} property, so that the servers can index them.
+ *
+ * The additional fields are write-only; they are ignored when the entity is read back.
+ *
+ * @author John Blum
+ * @see example.app.client.search.TextIndexed
+ * @see org.apache.geode.pdx.PdxSerializer
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 1.0.0
+ */
+public class TextIndexingPdxSerializer implements PdxSerializer {
+
+	private final PdxSerializer delegate;
+
+	public TextIndexingPdxSerializer() {
+		this(new MappingPdxSerializer());
+	}
+
+	public TextIndexingPdxSerializer(PdxSerializer delegate) {
+
+		Assert.notNull(delegate, "Delegate PdxSerializer is required");
+
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Object fromData(Class<?> type, PdxReader pdxReader) {
+		return this.delegate.fromData(type, pdxReader);
+	}
+
+	@Override
+	public boolean toData(Object value, PdxWriter pdxWriter) {
+
+		boolean serialized = this.delegate.toData(value, pdxWriter);
+
+		if (serialized) {
+			for (Field field : TextIndexSupport.findTextIndexedFields(value.getClass())) {
+				writeTextIndexedFields(pdxWriter, field.getName(), (String) ReflectionUtils.getField(field, value),
+					field.getAnnotation(TextIndexed.class).gramSize());
+			}
+		}
+
+		return serialized;
+	}
+
+	/**
+	 * Writes the reversed value and the n-grams of the value of a {@link TextIndexed} property.
+	 */
+	public static void writeTextIndexedFields(PdxWriter pdxWriter, String propertyName, String value,
+			int gramSize) {
+
+		pdxWriter.writeString(TextIndexSupport.reversedFieldName(propertyName), TextIndexSupport.reverse(value));
+		pdxWriter.writeStringArray(TextIndexSupport.gramsFieldName(propertyName),
+			TextIndexSupport.grams(value, gramSize));
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.search;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link TextSearchTemplate} class runs suffix and contains searches over {@link TextIndexed} properties
+ * as OQL queries that are able to use the Indexes registered by {@link TextIndexingConfiguration}.
+ *
+ * A suffix search becomes a prefix {@literal LIKE} on the reversed value, which uses a range Index.
+ * A contains search intersects the identifiers of the entities holding each n-gram of the search text, looked up
+ * with the n-gram Index, and then fetches the (few) remaining candidates and filters them for the search text.
+ * The n-grams are looked up rarest first, by the number of entities holding them as last observed by this template,
+ * and no more n-grams are looked up once at most {@link #MAXIMUM_CANDIDATES} candidates remain, so the common
+ * n-grams of a search text, once observed, are not looked up again.  Search text shorter than the gram size
+ * falls back to a {@literal LIKE} with a leading wildcard, which scans the {@link Region}.
+ *
+ * @author John Blum
+ * @see example.app.client.search.TextIndexed
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 1.0.0
+ */
+public class TextSearchTemplate {
+
+	protected static final int MAXIMUM_CANDIDATES = 100;
+	protected static final int MAXIMUM_OBSERVED_GRAMS = 100000;
+
+	protected static final String GRAM_QUERY =
+		"SELECT DISTINCT entity.%2$s FROM %1$s entity, entity.%3$s gram WHERE gram = $1";
+
+	protected static final String LIKE_QUERY = "SELECT * FROM %1$s WHERE %2$s LIKE $1";
+
+	private final GemFireCache gemfireCache;
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private final Map<String, Integer> observedGramFrequencies = new ConcurrentHashMap<>();
+
+	public TextSearchTemplate(GemFireCache gemfireCache) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+	}
+
+	public <T> List<T> findByEndingWith(Class<T> entityType, String propertyName, String suffix) {
+
+		resolveTextIndexed(entityType, propertyName);
+
+		Region<?, T> region = resolveRegion(entityType);
+
+		String query = String.format(LIKE_QUERY, region.getFullPath(),
+			TextIndexSupport.reversedFieldName(propertyName));
+
+		return find(region, query, TextIndexSupport.escapeLike(TextIndexSupport.reverse(suffix)) + "%");
+	}
+
+	public <T> List<T> findByContaining(Class<T> entityType, String propertyName, String text) {
+
+		TextIndexed textIndexed = resolveTextIndexed(entityType, propertyName);
+
+		Region<?, T> region = resolveRegion(entityType);
+
+		String pattern = "%" + TextIndexSupport.escapeLike(text) + "%";
+
+		if (text.length() < textIndexed.gramSize()) {
+			return find(region, String.format(LIKE_QUERY, region.getFullPath(), propertyName), pattern);
+		}
+
+		GemfirePersistentEntity<?> persistentEntity = this.mappingContext.getRequiredPersistentEntity(entityType);
+
+		String query = String.format(GRAM_QUERY, region.getFullPath(),
+			persistentEntity.getRequiredIdProperty().getName(), TextIndexSupport.gramsFieldName(propertyName));
+
+		Set<Object> candidates = null;
+
+		for (String gram : rarestFirst(TextIndexSupport.grams(text, textIndexed.gramSize()))) {
+
+			SelectResults<Object> identifiers = new GemfireTemplate(region).find(query, gram);
+
+			observeGramFrequency(gram, identifiers.size());
+
+			if (candidates == null) {
+				candidates = new HashSet<>(identifiers.asList());
+			}
+			else {
+				candidates.retainAll(identifiers.asSet());
+			}
+
+			if (candidates.size() <= MAXIMUM_CANDIDATES) {
+				break;
+			}
+		}
+
+		return candidates.isEmpty() ? Collections.emptyList()
+			: findContaining(region, persistentEntity, persistentEntity.getRequiredPersistentProperty(propertyName),
+				candidates, text);
+	}
+
+	private List<String> rarestFirst(String[] grams) {
+
+		return Arrays.stream(grams)
+			.sorted(Comparator.comparingInt(gram -> this.observedGramFrequencies.getOrDefault(gram, 0)))
+			.collect(Collectors.toList());
+	}
+
+	private void observeGramFrequency(String gram, int frequency) {
+
+		if (this.observedGramFrequencies.size() >= MAXIMUM_OBSERVED_GRAMS) {
+			this.observedGramFrequencies.clear();
+		}
+
+		this.observedGramFrequencies.put(gram, frequency);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> findContaining(Region<?, T> region, GemfirePersistentEntity<?> persistentEntity,
+			GemfirePersistentProperty property, Set<Object> candidates, String text) {
+
+		return ((Region<Object, T>) region).getAll(candidates).values().stream()
+			.filter(Objects::nonNull)
+			.filter(entity -> {
+				Object value = persistentEntity.getPropertyAccessor(entity).getProperty(property);
+				return value != null && value.toString().contains(text);
+			})
+			.collect(Collectors.toList());
+	}
+
+	private <T> List<T> find(Region<?, T> region, String query, Object... arguments) {
+
+		SelectResults<T> results = new GemfireTemplate(region).find(query, arguments);
+
+		return results.asList();
+	}
+
+	private <T> Region<?, T> resolveRegion(Class<T> entityType) {
+
+		String regionName = this.mappingContext.getRequiredPersistentEntity(entityType).getRegionName();
+
+		Region<?, T> region = this.gemfireCache.getRegion(regionName);
+
+		Assert.state(region != null, String.format("Region [%1$s] for entity [%2$s] was not found",
+			regionName, entityType.getName()));
+
+		return region;
+	}
+
+	private TextIndexed resolveTextIndexed(Class<?> entityType, String propertyName) {
+
+		Field field = ReflectionUtils.findField(entityType, propertyName);
+
+		TextIndexed textIndexed = field != null ? field.getAnnotation(TextIndexed.class) : null;
+
+		Assert.isTrue(textIndexed != null, String.format("Property [%1$s] of entity [%2$s] is not @TextIndexed",
+			propertyName, entityType.getName()));
+
+		return textIndexed;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.startup;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.Pool;
+import org.apache.geode.cache.query.Index;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.repository.Repository;
+
+/**
+ * The {@link StartupTimingReport} class is a Spring Boot {@link ApplicationListener} timing each phase of
+ * the application's startup and printing a report once the application is ready.
+ *
+ * Along with the phases of the {@literal SpringApplication}, the report includes the time spent creating
+ * the {@link GemFireCache}, {@link Pool Pools}, {@link Region Regions}, {@link Index Indexes} and Spring Data
+ * {@link Repository Repositories}, as well as any phase {@link #record(String, long) recorded} by the application,
+ * such as pushing the schema to the cluster.  Bean creation times include the creation of the bean's dependencies.
+ *
+ * The report must be registered with the {@literal SpringApplication} before it is run, for example with
+ * {@literal SpringApplicationBuilder.listeners(..)}.  It is then available to the application as a bean.
+ *
+ * @author John Blum
+ * @see org.springframework.boot.context.event.SpringApplicationEvent
+ * @see org.springframework.context.ApplicationListener
+ * @since 1.0.0
+ */
+public class StartupTimingReport implements ApplicationListener<SpringApplicationEvent> {
+
+	public static final String STARTUP_TIMING_REPORT_BEAN_NAME = "startupTimingReport";
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private long phaseStartTime = System.nanoTime();
+
+	private final long startTime = this.phaseStartTime;
+
+	private final Map<String, Long> phaseTimes = new ConcurrentHashMap<>();
+
+	@Override
+	public void onApplicationEvent(SpringApplicationEvent event) {
+
+		if (event instanceof ApplicationStartingEvent) {
+			endPhase(null);
+		}
+		else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+			endPhase("environment preparation");
+		}
+		else if (event instanceof ApplicationPreparedEvent) {
+
+			endPhase("context preparation");
+
+			ApplicationPreparedEvent applicationPreparedEvent = (ApplicationPreparedEvent) event;
+
+			applicationPreparedEvent.getApplicationContext().getBeanFactory()
+				.registerSingleton(STARTUP_TIMING_REPORT_BEAN_NAME, this);
+
+			applicationPreparedEvent.getApplicationContext().getBeanFactory()
+				.addBeanPostProcessor(new BeanCreationTimer());
+		}
+		else if (event instanceof ApplicationStartedEvent) {
+			endPhase("context refresh");
+		}
+		else if (event instanceof ApplicationReadyEvent) {
+			endPhase("application runners");
+			print();
+		}
+	}
+
+	private synchronized void endPhase(String phase) {
+
+		long now = System.nanoTime();
+
+		if (phase != null) {
+			record(phase, now - this.phaseStartTime);
+		}
+
+		this.phaseStartTime = now;
+	}
+
+	/**
+	 * Records the time spent in the given phase, adding to any time already recorded for the phase.
+	 *
+	 * @param phase name of the phase.
+	 * @param nanoseconds time spent in the phase, in nanoseconds.
+	 */
+	public void record(String phase, long nanoseconds) {
+		this.phaseTimes.merge(phase, nanoseconds, Long::sum);
+	}
+
+	private void print() {
+
+		if (this.logger.isInfoEnabled()) {
+
+			StringBuilder report = new StringBuilder(String.format("Startup timing report (total %d ms):",
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime)));
+
+			this.phaseTimes.entrySet().stream()
+				.sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+				.forEach(phaseTime -> report.append(String.format("%n  %-40s %8d ms", phaseTime.getKey(),
+					TimeUnit.NANOSECONDS.toMillis(phaseTime.getValue()))));
+
+			this.logger.info(report);
+		}
+	}
+
+	private class BeanCreationTimer implements InstantiationAwareBeanPostProcessor {
+
+		private final Map<String, Long> beanCreationStartTimes = new ConcurrentHashMap<>();
+
+		@Override
+		public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) {
+			this.beanCreationStartTimes.putIfAbsent(beanName, System.nanoTime());
+			return null;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+			Long beanCreationStartTime = this.beanCreationStartTimes.remove(beanName);
+
+			if (beanCreationStartTime != null) {
+
+				String phase = resolvePhase(bean instanceof FactoryBean
+					? ((FactoryBean<?>) bean).getObjectType() : bean.getClass());
+
+				if (phase != null) {
+					record(phase, System.nanoTime() - beanCreationStartTime);
+				}
+			}
+
+			return bean;
+		}
+
+		private String resolvePhase(Class<?> beanType) {
+
+			return beanType == null ? null
+				: GemFireCache.class.isAssignableFrom(beanType) ? "cache creation"
+				: Pool.class.isAssignableFrom(beanType) ? "pool creation"
+				: Region.class.isAssignableFrom(beanType) ? "region creation"
+				: Index.class.isAssignableFrom(beanType) ? "index creation"
+				: Repository.class.isAssignableFrom(beanType) ? "repository creation"
+				: null;
+		}
+	}
+}
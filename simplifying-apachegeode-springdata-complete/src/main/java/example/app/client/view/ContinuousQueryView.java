@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link ContinuousQueryView} annotation declares that the results of the annotated Spring Data Repository
+ * query method are kept in client memory as a view, registered with the servers as an Apache Geode
+ * {@literal Continuous Query (CQ)} and updated incrementally from the CQ's events.
+ *
+ * The OQL {@link #value() query} must select the entities of a single {@literal Region} (e.g.
+ * {@literal SELECT * FROM /Customers WHERE name LIKE $1}).  Since CQs cannot be parameterized, the method arguments
+ * are bound to the query's {@literal $1}, {@literal $2}, ... placeholders as OQL literals and every distinct set
+ * of arguments is kept as a separate view, up to {@link #maximumViews()}.  Invocations beyond that limit
+ * run the query on the servers.
+ *
+ * Views must be enabled with {@link EnableContinuousQueryViews} and require subscriptions to be enabled
+ * on the client {@literal Pool}.
+ *
+ * @author John Blum
+ * @see example.app.client.view.EnableContinuousQueryViews
+ * @see org.apache.geode.cache.query.CqQuery
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@SuppressWarnings("unused")
+public @interface ContinuousQueryView {
+
+	int DEFAULT_MAXIMUM_VIEWS = 100;
+
+	/**
+	 * OQL query selecting the entities in the view.
+	 */
+	String value();
+
+	/**
+	 * Maximum number of views, one per distinct set of method arguments, kept for the annotated method.
+	 */
+	int maximumViews() default DEFAULT_MAXIMUM_VIEWS;
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.view;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.GemFireCache;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import example.app.client.repo.support.RepositoryAdvice;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link ContinuousQueryViewConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableContinuousQueryViews}, that adds the {@link ContinuousQueryViewInterceptor} to every Spring Data
+ * {@link Repository} bean declaring {@link ContinuousQueryView} annotated methods, just before the query methods
+ * are executed, and closes the views on shutdown.
+ *
+ * @author John Blum
+ * @see example.app.client.view.ContinuousQueryView
+ * @see example.app.client.view.ContinuousQueryViewInterceptor
+ * @see example.app.client.view.EnableContinuousQueryViews
+ * @see example.app.client.repo.support.RepositoryAdvice
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class ContinuousQueryViewConfiguration {
+
+	@Bean
+	static BeanPostProcessor continuousQueryViewBeanPostProcessor(ObjectProvider<GemFireCache> gemfireCache,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new ContinuousQueryViewBeanPostProcessor(gemfireCache::getObject,
+			() -> meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+	}
+
+	static class ContinuousQueryViewBeanPostProcessor implements BeanPostProcessor, DisposableBean {
+
+		private final List<ContinuousQueryViewInterceptor> interceptors = new CopyOnWriteArrayList<>();
+
+		private final Supplier<GemFireCache> gemfireCacheSupplier;
+
+		private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+		ContinuousQueryViewBeanPostProcessor(Supplier<GemFireCache> gemfireCacheSupplier,
+				Supplier<MeterRegistry> meterRegistrySupplier) {
+
+			this.gemfireCacheSupplier = gemfireCacheSupplier;
+			this.meterRegistrySupplier = meterRegistrySupplier;
+		}
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+			Class<?> repositoryInterface = resolveRepositoryInterface(bean);
+
+			if (repositoryInterface != null && hasViews(repositoryInterface)) {
+
+				ContinuousQueryViewInterceptor interceptor = new ContinuousQueryViewInterceptor(
+					this.gemfireCacheSupplier, this.meterRegistrySupplier, repositoryInterface.getSimpleName());
+
+				this.interceptors.add(interceptor);
+
+				return RepositoryAdvice.addQueryMethodInterceptor(bean, interceptor);
+			}
+
+			return bean;
+		}
+
+		private Class<?> resolveRepositoryInterface(Object bean) {
+
+			return bean instanceof Repository
+				? Arrays.stream(AopProxyUtils.proxiedUserInterfaces(bean))
+					.filter(Repository.class::isAssignableFrom)
+					.findFirst()
+					.orElseGet(() -> ClassUtils.getUserClass(bean))
+				: null;
+		}
+
+		private boolean hasViews(Class<?> repositoryInterface) {
+
+			return Arrays.stream(ReflectionUtils.getAllDeclaredMethods(repositoryInterface))
+				.anyMatch(method -> AnnotationUtils.findAnnotation(method, ContinuousQueryView.class) != null);
+		}
+
+		@Override
+		public void destroy() {
+			this.interceptors.forEach(ContinuousQueryViewInterceptor::close);
+		}
+	}
+}
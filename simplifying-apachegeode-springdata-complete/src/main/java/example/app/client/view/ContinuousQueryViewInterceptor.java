@@ -0,0 +1,432 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.view;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+
+import example.app.client.repo.support.EntityCopier;
+import example.app.client.repo.support.RepositoryAdvice;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link ContinuousQueryViewInterceptor} class is an AOP Alliance {@link MethodInterceptor} answering
+ * invocations of Spring Data Repository query methods annotated with {@link ContinuousQueryView} from
+ * a {@link MaterializedView} kept in client memory.
+ *
+ * A view is registered as a {@link CqQuery} on the first invocation with a given set of arguments.  Callers are
+ * returned copies of the view's entities, made with the {@link EntityCopier}, so that changes made by one caller
+ * neither alter the view for the other callers nor reach the servers through delta propagation.  When a view
+ * cannot be registered, for instance when subscriptions are not enabled on the {@literal Pool}, the method queries
+ * the servers and registering its views is not attempted again for {@link #REGISTRATION_RETRY_INTERVAL} ms.
+ * The following metrics are published to the {@link MeterRegistry}:
+ *
+ * <ul>
+ *     <li>{@literal repository.view.registrations} - latency and outcome of registering a view, including
+ *     loading its initial results.</li>
+ *     <li>{@literal repository.view.size} - number of entities held by each view, or {@literal 0} while the view
+ *     is not active.  A view registered again, after it was closed, reports to the same gauge.</li>
+ *     <li>{@literal repository.view.events} - number of CQ events applied to each view, by operation.</li>
+ *     <li>{@literal repository.view.event.lag} - time from a save or delete through this Repository until
+ *     the view is updated by the corresponding CQ event.</li>
+ * </ul>
+ *
+ * Apache Geode's CQ events do not carry the time of the originating operation, therefore the event lag only covers
+ * writes made by this client through the Repository, which are tracked by key for a short period of time.
+ *
+ * @author John Blum
+ * @see example.app.client.view.ContinuousQueryView
+ * @see example.app.client.view.MaterializedView
+ * @see org.aopalliance.intercept.MethodInterceptor
+ * @see org.apache.geode.cache.query.CqQuery
+ * @since 1.0.0
+ */
+public class ContinuousQueryViewInterceptor implements MethodInterceptor {
+
+	public static final String VIEW_EVENT_LAG_METRIC_NAME = "repository.view.event.lag";
+	public static final String VIEW_EVENTS_METRIC_NAME = "repository.view.events";
+	public static final String VIEW_REGISTRATIONS_METRIC_NAME = "repository.view.registrations";
+	public static final String VIEW_SIZE_METRIC_NAME = "repository.view.size";
+
+	protected static final int MAXIMUM_PENDING_WRITES = 100000;
+
+	protected static final long PENDING_WRITE_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+	protected static final long REGISTRATION_RETRY_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+	protected static final Pattern QUERY_PARAMETER_PATTERN = Pattern.compile("\\$(\\d+)");
+
+	protected static final Set<String> WRITE_METHOD_NAMES =
+		new HashSet<>(Arrays.asList("delete", "deleteAll", "deleteById", "save", "saveAll"));
+
+	private final AtomicLong cqIds = new AtomicLong(0L);
+	private final AtomicLong viewIds = new AtomicLong(0L);
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private final Map<Method, Map<List<Object>, ViewSlot>> views = new ConcurrentHashMap<>();
+
+	private final Map<Method, Optional<ContinuousQueryView>> viewAnnotations = new ConcurrentHashMap<>();
+
+	private final Map<Object, Long> pendingWrites = new ConcurrentHashMap<>();
+
+	private final Map<Method, Long> registrationFailures = new ConcurrentHashMap<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private volatile MeterRegistry meterRegistry;
+
+	private final String repositoryName;
+
+	private final Supplier<GemFireCache> gemfireCacheSupplier;
+
+	private final Supplier<MeterRegistry> meterRegistrySupplier;
+
+	public ContinuousQueryViewInterceptor(Supplier<GemFireCache> gemfireCacheSupplier,
+			Supplier<MeterRegistry> meterRegistrySupplier, String repositoryName) {
+
+		this.gemfireCacheSupplier = gemfireCacheSupplier;
+		this.meterRegistrySupplier = meterRegistrySupplier;
+		this.repositoryName = repositoryName;
+	}
+
+	private MeterRegistry getMeterRegistry() {
+
+		if (this.meterRegistry == null) {
+			this.meterRegistry = this.meterRegistrySupplier.get();
+		}
+
+		return this.meterRegistry;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		Optional<ContinuousQueryView> viewAnnotation = this.viewAnnotations.computeIfAbsent(method,
+			it -> Optional.ofNullable(AnnotationUtils.findAnnotation(it, ContinuousQueryView.class)));
+
+		if (viewAnnotation.isPresent()) {
+
+			MaterializedView view = resolveView(method, viewAnnotation.get(), invocation.getArguments());
+
+			return view != null
+				? RepositoryAdvice.adaptQueryResults(method, EntityCopier.copyAll(new ArrayList<>(view.values())))
+				: invocation.proceed();
+		}
+
+		recordPendingWrites(method, invocation.getArguments());
+
+		return invocation.proceed();
+	}
+
+	private MaterializedView resolveView(Method method, ContinuousQueryView viewAnnotation, Object[] arguments) {
+
+		Map<List<Object>, ViewSlot> methodViews = this.views.computeIfAbsent(method, it -> new ConcurrentHashMap<>());
+
+		List<Object> viewKey = Arrays.asList(arguments.clone());
+
+		ViewSlot viewSlot = methodViews.get(viewKey);
+
+		MaterializedView view = viewSlot != null ? viewSlot.view : null;
+
+		if (view == null || !view.isActive()) {
+			synchronized (methodViews) {
+
+				viewSlot = methodViews.get(viewKey);
+				view = viewSlot != null ? viewSlot.view : null;
+
+				// events may have been missed while disconnected, so the view is registered again
+				if (view != null && !view.isActive()) {
+					viewSlot.view = null;
+					view.closeQuery();
+					view = null;
+				}
+
+				if (view == null && (viewSlot != null || methodViews.size() < viewAnnotation.maximumViews())
+						&& isRegistrable(method)) {
+
+					if (viewSlot == null) {
+						viewSlot = newViewSlot(method);
+						methodViews.put(viewKey, viewSlot);
+					}
+
+					view = register(method, viewSlot.name, bind(viewAnnotation.value(), arguments));
+					viewSlot.view = view;
+				}
+			}
+		}
+
+		return view;
+	}
+
+	private ViewSlot newViewSlot(Method method) {
+
+		String methodName = method.getName();
+
+		ViewSlot viewSlot = new ViewSlot(
+			String.format("%s.%s#%d", this.repositoryName, methodName, this.viewIds.incrementAndGet()));
+
+		Gauge.builder(VIEW_SIZE_METRIC_NAME, viewSlot, ViewSlot::size)
+			.description("Number of entities held by the Repository query view")
+			.tags("repository", this.repositoryName, "method", methodName, "view", viewSlot.name)
+			.register(getMeterRegistry());
+
+		return viewSlot;
+	}
+
+	private boolean isRegistrable(Method method) {
+
+		Long failureTime = this.registrationFailures.get(method);
+
+		return failureTime == null || System.currentTimeMillis() - failureTime >= REGISTRATION_RETRY_INTERVAL;
+	}
+
+	private MaterializedView register(Method method, String viewName, String query) {
+
+		MeterRegistry meterRegistry = getMeterRegistry();
+
+		String methodName = method.getName();
+
+		MaterializedView view = new MaterializedView(viewName, event -> onViewEvent(methodName, viewName, event));
+
+		String exceptionName = "none";
+
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		try {
+
+			CqAttributesFactory cqAttributesFactory = new CqAttributesFactory();
+
+			cqAttributesFactory.addCqListener(view);
+
+			// a view registered again is given a new CQ, in case the closed CQ was not removed
+			CqQuery cqQuery = this.gemfireCacheSupplier.get().getQueryService()
+				.newCq(String.format("%s.%d", viewName, this.cqIds.incrementAndGet()), query,
+					cqAttributesFactory.create());
+
+			view.initialize(cqQuery, cqQuery.executeWithInitialResults());
+
+			this.registrationFailures.remove(method);
+
+			return view;
+		}
+		catch (Exception cause) {
+
+			// the method falls back to querying the servers, e.g. when subscriptions are not enabled on the Pool
+			exceptionName = cause.getClass().getSimpleName();
+			view.closeQuery();
+
+			this.registrationFailures.put(method, System.currentTimeMillis());
+
+			this.logger.warn(String.format("Failed to register a view for [%1$s.%2$s]; querying the servers"
+				+ " for the next [%3$d] ms", this.repositoryName, methodName, REGISTRATION_RETRY_INTERVAL), cause);
+
+			return null;
+		}
+		finally {
+			sample.stop(Timer.builder(VIEW_REGISTRATIONS_METRIC_NAME)
+				.description("Latency of registering Repository query views, including loading the initial results")
+				.tags("repository", this.repositoryName, "method", methodName, "exception", exceptionName)
+				.register(meterRegistry));
+		}
+	}
+
+	private void onViewEvent(String methodName, String viewName, CqEvent event) {
+
+		MeterRegistry meterRegistry = getMeterRegistry();
+
+		Counter.builder(VIEW_EVENTS_METRIC_NAME)
+			.description("Number of CQ events applied to the Repository query view")
+			.tags("repository", this.repositoryName, "method", methodName, "view", viewName,
+				"operation", operationName(event))
+			.register(meterRegistry)
+			.increment();
+
+		Long writeTime = this.pendingWrites.remove(event.getKey());
+
+		if (writeTime != null) {
+			Timer.builder(VIEW_EVENT_LAG_METRIC_NAME)
+				.description("Time from a write through the Repository until the query view is updated")
+				.tags("repository", this.repositoryName, "method", methodName)
+				.publishPercentiles(0.5d, 0.99d, 0.999d)
+				.register(meterRegistry)
+				.record(System.nanoTime() - writeTime, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private String operationName(CqEvent event) {
+
+		Operation operation = event.getQueryOperation();
+
+		return event.getThrowable() != null ? "error"
+			: operation.isCreate() ? "create"
+			: operation.isUpdate() ? "update"
+			: operation.isDestroy() ? "destroy"
+			: "other";
+	}
+
+	private void recordPendingWrites(Method method, Object[] arguments) {
+
+		if (!this.views.isEmpty() && arguments.length == 1 && WRITE_METHOD_NAMES.contains(method.getName())) {
+
+			long now = System.nanoTime();
+
+			if (this.pendingWrites.size() >= MAXIMUM_PENDING_WRITES) {
+				this.pendingWrites.values().removeIf(writeTime -> now - writeTime > PENDING_WRITE_TIMEOUT);
+			}
+
+			if ("deleteById".equals(method.getName())) {
+				recordPendingWrite(arguments[0], now);
+			}
+			else if (arguments[0] instanceof Iterable) {
+				for (Object entity : (Iterable<?>) arguments[0]) {
+					if (!recordPendingWrite(resolveId(entity), now)) {
+						break;
+					}
+				}
+			}
+			else {
+				recordPendingWrite(resolveId(arguments[0]), now);
+			}
+		}
+	}
+
+	private boolean recordPendingWrite(Object key, long writeTime) {
+
+		if (this.pendingWrites.size() < MAXIMUM_PENDING_WRITES) {
+
+			if (key != null) {
+				this.pendingWrites.put(key, writeTime);
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private Object resolveId(Object entity) {
+
+		return entity == null ? null
+			: this.mappingContext.getRequiredPersistentEntity(entity.getClass())
+				.getIdentifierAccessor(entity).getIdentifier();
+	}
+
+	static String bind(String query, Object[] arguments) {
+
+		Matcher matcher = QUERY_PARAMETER_PATTERN.matcher(query);
+
+		StringBuffer boundQuery = new StringBuffer();
+
+		while (matcher.find()) {
+
+			int index = Integer.parseInt(matcher.group(1)) - 1;
+
+			if (index < 0 || index >= arguments.length) {
+				throw new IllegalArgumentException(String.format("No argument for parameter [%1$s] in query [%2$s]",
+					matcher.group(), query));
+			}
+
+			matcher.appendReplacement(boundQuery, Matcher.quoteReplacement(toLiteral(arguments[index])));
+		}
+
+		matcher.appendTail(boundQuery);
+
+		return boundQuery.toString();
+	}
+
+	static String toLiteral(Object argument) {
+
+		if (argument == null) {
+			return "NULL";
+		}
+		else if (argument instanceof CharSequence || argument instanceof Character) {
+			return "'" + argument.toString().replace("'", "''") + "'";
+		}
+		else if (argument instanceof Number || argument instanceof Boolean) {
+			return argument.toString();
+		}
+
+		throw new IllegalArgumentException(String.format("Argument of type [%s] cannot be bound to a CQ",
+			argument.getClass().getName()));
+	}
+
+
+	void close() {
+
+		this.views.values().forEach(methodViews -> methodViews.values().stream()
+			.map(viewSlot -> viewSlot.view)
+			.filter(Objects::nonNull)
+			.forEach(MaterializedView::closeQuery));
+
+		this.views.clear();
+	}
+
+	/**
+	 * The {@link ViewSlot} class holds the current {@link MaterializedView} for a query method and set
+	 * of arguments, outliving the views registered again after they are closed, so that
+	 * the {@literal repository.view.size} gauge always reports the current view.
+	 */
+	static class ViewSlot {
+
+		private final String name;
+
+		private volatile MaterializedView view;
+
+		ViewSlot(String name) {
+			this.name = name;
+		}
+
+		int size() {
+
+			MaterializedView view = this.view;
+
+			return view != null && view.isActive() ? view.size() : 0;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.view;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableContinuousQueryViews} annotation enables the client-side views declared with
+ * {@link ContinuousQueryView} on Spring Data Repository query methods.
+ *
+ * Subscriptions must be enabled on the client {@literal Pool} (e.g. with
+ * {@literal spring.data.gemfire.pool.subscription-enabled=true}), otherwise the views cannot be registered
+ * and the annotated methods query the servers as usual.
+ *
+ * @author John Blum
+ * @see example.app.client.view.ContinuousQueryView
+ * @see example.app.client.view.ContinuousQueryViewConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(ContinuousQueryViewConfiguration.class)
+public @interface EnableContinuousQueryViews {
+
+}
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.view;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqStatusListener;
+import org.apache.geode.cache.query.Struct;
+
+/**
+ * The {@link MaterializedView} class holds the results of a {@link CqQuery} in client memory, keyed by
+ * {@literal Region} key, loaded from the CQ's initial results and updated from its events.
+ *
+ * Events received while the initial results are loaded are buffered and applied afterwards.  The view stops
+ * serving reads once the CQ is closed or its subscription connection is lost, since events may have been missed.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.CqQuery
+ * @see org.apache.geode.cache.query.CqStatusListener
+ * @since 1.0.0
+ */
+class MaterializedView implements CqStatusListener {
+
+	private final Consumer<CqEvent> eventObserver;
+
+	private volatile List<CqEvent> bufferedEvents = new ArrayList<>();
+
+	private final Map<Object, Object> entries = new ConcurrentHashMap<>();
+
+	private volatile State state = State.REGISTERING;
+
+	private final String name;
+
+	private volatile CqQuery query;
+
+	MaterializedView(String name, Consumer<CqEvent> eventObserver) {
+		this.name = name;
+		this.eventObserver = eventObserver;
+	}
+
+	String getName() {
+		return this.name;
+	}
+
+	boolean isActive() {
+		return this.state == State.ACTIVE;
+	}
+
+	boolean isDisconnected() {
+		return this.state == State.DISCONNECTED;
+	}
+
+	int size() {
+		return this.entries.size();
+	}
+
+	Collection<Object> values() {
+		return Collections.unmodifiableCollection(this.entries.values());
+	}
+
+	synchronized void initialize(CqQuery query, Iterable<?> initialResults) {
+
+		this.query = query;
+
+		for (Object result : initialResults) {
+
+			Struct entry = (Struct) result;
+
+			this.entries.put(entry.get("key"), entry.get("value"));
+		}
+
+		this.bufferedEvents.forEach(this::apply);
+		this.bufferedEvents = null;
+
+		if (this.state == State.REGISTERING) {
+			this.state = State.ACTIVE;
+		}
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+
+		if (this.bufferedEvents != null) {
+			synchronized (this) {
+				if (this.bufferedEvents != null) {
+					this.bufferedEvents.add(event);
+					return;
+				}
+			}
+		}
+
+		apply(event);
+	}
+
+	@Override
+	public void onError(CqEvent event) {
+
+		// the server could not evaluate the query for the entry, so the view no longer knows whether it belongs
+		this.entries.remove(event.getKey());
+		this.eventObserver.accept(event);
+	}
+
+	private void apply(CqEvent event) {
+
+		if (event.getQueryOperation().isDestroy()) {
+			this.entries.remove(event.getKey());
+		}
+		else {
+			this.entries.put(event.getKey(), event.getNewValue());
+		}
+
+		this.eventObserver.accept(event);
+	}
+
+	@Override
+	public void onCqConnected() {
+	}
+
+	@Override
+	public void onCqDisconnected() {
+
+		if (this.state != State.CLOSED) {
+			this.state = State.DISCONNECTED;
+		}
+	}
+
+	@Override
+	public void close() {
+		this.state = State.CLOSED;
+		this.entries.clear();
+	}
+
+	void closeQuery() {
+
+		CqQuery query = this.query;
+
+		close();
+
+		if (query != null && !query.isClosed()) {
+			try {
+				query.close();
+			}
+			catch (Exception ignore) {
+			}
+		}
+	}
+
+	enum State {
+		REGISTERING, ACTIVE, DISCONNECTED, CLOSED
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.workload;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * The {@link KeyDistribution} enum defines how the {@link WorkloadDriver} chooses the keys, from {@literal 1}
+ * to the number of keys, of the entities it reads and writes.
+ *
+ * @author John Blum
+ * @see example.app.client.workload.WorkloadDriver
+ * @since 1.0.0
+ */
+public enum KeyDistribution {
+
+	/**
+	 * Every key is equally likely.
+	 */
+	UNIFORM {
+
+		@Override
+		LongSupplier newKeyGenerator(long keyCount) {
+			return () -> ThreadLocalRandom.current().nextLong(keyCount) + 1L;
+		}
+	},
+
+	/**
+	 * A few keys are accessed far more often than the others, following a Zipfian distribution with
+	 * the {@literal 0.99} skew commonly used by YCSB, where key {@literal 1} is the most popular.
+	 */
+	ZIPFIAN {
+
+		@Override
+		LongSupplier newKeyGenerator(long keyCount) {
+			return new ZipfianKeyGenerator(keyCount, ZipfianKeyGenerator.DEFAULT_SKEW);
+		}
+	};
+
+	abstract LongSupplier newKeyGenerator(long keyCount);
+
+	/**
+	 * Generates keys following a Zipfian distribution, using the algorithm from Gray et al, "Quickly Generating
+	 * Billion-Record Synthetic Databases".
+	 */
+	static class ZipfianKeyGenerator implements LongSupplier {
+
+		static final double DEFAULT_SKEW = 0.99d;
+
+		private final double alpha;
+		private final double eta;
+		private final double skew;
+		private final double zetaN;
+
+		private final long keyCount;
+
+		ZipfianKeyGenerator(long keyCount, double skew) {
+
+			double zeta2 = zeta(2, skew);
+
+			this.keyCount = keyCount;
+			this.skew = skew;
+			this.zetaN = zeta(keyCount, skew);
+			this.alpha = 1.0d / (1.0d - skew);
+			this.eta = (1.0d - Math.pow(2.0d / keyCount, 1.0d - skew)) / (1.0d - zeta2 / this.zetaN);
+		}
+
+		private static double zeta(long count, double skew) {
+
+			double sum = 0.0d;
+
+			for (long index = 1; index <= count; index++) {
+				sum += 1.0d / Math.pow(index, skew);
+			}
+
+			return sum;
+		}
+
+		@Override
+		public long getAsLong() {
+
+			double random = ThreadLocalRandom.current().nextDouble();
+			double randomZeta = random * this.zetaN;
+
+			long key = randomZeta < 1.0d ? 0L
+				: randomZeta < 1.0d + Math.pow(0.5d, this.skew) ? 1L
+				: (long) (this.keyCount * Math.pow(this.eta * random - this.eta + 1.0d, this.alpha));
+
+			return Math.min(key, this.keyCount - 1L) + 1L;
+		}
+	}
+}
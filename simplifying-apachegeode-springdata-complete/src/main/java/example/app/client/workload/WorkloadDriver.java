@@ -0,0 +1,250 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.client.workload;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+
+import lombok.Builder;
+
+/**
+ * The {@link WorkloadDriver} class generates a configurable load against the {@link CustomerRepository}, mixing
+ * reads by id, writes and queries by name over a set of {@link Customer Customers} loaded up front.
+ *
+ * Operations are run by a fixed number of threads, either as fast as possible or at a target rate of operations
+ * per second across all threads.  When the rate is bounded, latency is measured from the time at which each
+ * operation was scheduled to start, so that a slow server does not hide its own latency by delaying
+ * the operations that follow.  Latencies recorded after the warm-up are reported, per operation, from
+ * an HdrHistogram along with the throughput.
+ *
+ * @author John Blum
+ * @see example.app.client.repo.CustomerRepository
+ * @see example.app.client.workload.KeyDistribution
+ * @see org.HdrHistogram.Recorder
+ * @since 1.0.0
+ */
+@Builder
+public class WorkloadDriver {
+
+	protected static final int LOAD_CHUNK_SIZE = 10000;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final CustomerRepository customerRepository;
+
+	private final int threads;
+	private final int readRatio;
+	private final int writeRatio;
+	private final int queryRatio;
+
+	private final long durationSeconds;
+	private final long keyCount;
+	private final long rate;
+	private final long warmupSeconds;
+
+	private final KeyDistribution keyDistribution;
+
+	public void run() throws InterruptedException {
+
+		Assert.isTrue(this.threads > 0, "Threads must be greater than 0");
+		Assert.isTrue(this.keyCount > 0, "Key count must be greater than 0");
+		Assert.isTrue(this.readRatio + this.writeRatio + this.queryRatio > 0, "Mix ratios must not all be 0");
+
+		load();
+
+		Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+		Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new Recorder(3));
+			errors.put(operation, new LongAdder());
+		}
+
+		LongSupplier keyGenerator = this.keyDistribution.newKeyGenerator(this.keyCount);
+
+		AtomicLong operationCount = new AtomicLong(0L);
+
+		long intervalNanos = this.rate > 0 ? TimeUnit.SECONDS.toNanos(1) / this.rate : 0L;
+		long startTime = System.nanoTime();
+		long measurementStartTime = startTime + TimeUnit.SECONDS.toNanos(this.warmupSeconds);
+		long endTime = measurementStartTime + TimeUnit.SECONDS.toNanos(this.durationSeconds);
+
+		this.logger.info(String.format("Running workload with [%1$d] threads at [%2$s] operations per second"
+				+ " for [%3$d] seconds after a [%4$d] second warm-up...", this.threads,
+			this.rate > 0 ? String.valueOf(this.rate) : "unbounded", this.durationSeconds, this.warmupSeconds));
+
+		ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+
+		for (int thread = 0; thread < this.threads; thread++) {
+			executor.execute(() -> {
+
+				long scheduledTime = nextScheduledTime(startTime, intervalNanos, operationCount);
+
+				while (scheduledTime < endTime) {
+
+					waitUntil(scheduledTime);
+
+					Operation operation = nextOperation();
+
+					try {
+						operation.run(this.customerRepository, keyGenerator.getAsLong());
+					}
+					catch (RuntimeException cause) {
+						if (scheduledTime >= measurementStartTime) {
+							errors.get(operation).increment();
+						}
+					}
+
+					if (scheduledTime >= measurementStartTime) {
+						latencies.get(operation).recordValue(System.nanoTime() - scheduledTime);
+					}
+
+					scheduledTime = nextScheduledTime(startTime, intervalNanos, operationCount);
+				}
+			});
+		}
+
+		executor.shutdown();
+		executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+		report(latencies, errors);
+	}
+
+	private void load() {
+
+		this.logger.info(String.format("Loading [%d] Customers...", this.keyCount));
+
+		for (long start = 1; start <= this.keyCount; start += LOAD_CHUNK_SIZE) {
+
+			List<Customer> customers = LongStream.range(start, Math.min(start + LOAD_CHUNK_SIZE, this.keyCount + 1L))
+				.mapToObj(id -> Customer.newCustomer(id, customerName(id)))
+				.collect(Collectors.toList());
+
+			this.customerRepository.saveAll(customers);
+		}
+	}
+
+	private long nextScheduledTime(long startTime, long intervalNanos, AtomicLong operationCount) {
+
+		return intervalNanos > 0
+			? startTime + operationCount.getAndIncrement() * intervalNanos
+			: System.nanoTime();
+	}
+
+	private void waitUntil(long scheduledTime) {
+
+		for (long delay = scheduledTime - System.nanoTime(); delay > 0; delay = scheduledTime - System.nanoTime()) {
+			LockSupport.parkNanos(delay);
+		}
+	}
+
+	private Operation nextOperation() {
+
+		int choice = ThreadLocalRandom.current().nextInt(this.readRatio + this.writeRatio + this.queryRatio);
+
+		return choice < this.readRatio ? Operation.READ
+			: choice < this.readRatio + this.writeRatio ? Operation.WRITE
+			: Operation.QUERY;
+	}
+
+	private void report(Map<Operation, Recorder> latencies, Map<Operation, LongAdder> errors) {
+
+		long totalOperations = 0L;
+
+		StringBuilder report = new StringBuilder(String.format(
+			"Workload report:%n%-8s %12s %12s %10s %10s %10s %10s %10s %8s", "op", "count", "ops/s",
+			"p50 (us)", "p90 (us)", "p99 (us)", "p99.9 (us)", "max (us)", "errors"));
+
+		for (Operation operation : Operation.values()) {
+
+			Histogram histogram = latencies.get(operation).getIntervalHistogram();
+
+			totalOperations += histogram.getTotalCount();
+
+			report.append(String.format("%n%-8s %12d %12.1f %10d %10d %10d %10d %10d %8d",
+				operation.name().toLowerCase(), histogram.getTotalCount(), (double) histogram.getTotalCount() / this.durationSeconds,
+				toMicroseconds(histogram.getValueAtPercentile(50.0d)),
+				toMicroseconds(histogram.getValueAtPercentile(90.0d)),
+				toMicroseconds(histogram.getValueAtPercentile(99.0d)),
+				toMicroseconds(histogram.getValueAtPercentile(99.9d)),
+				toMicroseconds(histogram.getMaxValue()), errors.get(operation).sum()));
+		}
+
+		report.append(String.format("%n%-8s %12d %12.1f", "total", totalOperations,
+			(double) totalOperations / this.durationSeconds));
+
+		this.logger.info(report);
+	}
+
+	private static String customerName(long id) {
+		return "Customer " + id;
+	}
+
+	private static long toMicroseconds(long nanoseconds) {
+		return TimeUnit.NANOSECONDS.toMicros(nanoseconds);
+	}
+
+	enum Operation {
+
+		READ {
+
+			@Override
+			void run(CustomerRepository customerRepository, long key) {
+				customerRepository.findById(key);
+			}
+		},
+
+		WRITE {
+
+			@Override
+			void run(CustomerRepository customerRepository, long key) {
+				customerRepository.save(Customer.newCustomer(key, customerName(key)));
+			}
+		},
+
+		QUERY {
+
+			@Override
+			void run(CustomerRepository customerRepository, long key) {
+				customerRepository.findByNameLike(customerName(key));
+			}
+		};
+
+		abstract void run(CustomerRepository customerRepository, long key);
+
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.expiration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+import example.app.model.EvictionPolicy;
+import example.app.model.ExpirationPolicy;
+import example.app.model.IdleTimeout;
+import example.app.model.TimeToLive;
+
+/**
+ * The {@link EnableExpirationAndEviction} annotation applies the {@link ExpirationPolicy}, {@link EvictionPolicy},
+ * {@link IdleTimeout} and {@link TimeToLive} declarations of entities found in the {@link #basePackages()}
+ * or {@link #basePackageClasses()} to their {@literal Regions}, and publishes the number of entries expired
+ * and evicted from each {@literal Region} as Micrometer metrics.
+ *
+ * The annotation is declared by both the clients and the servers, since the {@literal Region} definitions pushed
+ * to the servers with {@literal @EnableClusterConfiguration} do not carry expiration or eviction.
+ *
+ * @author John Blum
+ * @see example.app.expiration.ExpirationAndEvictionConfiguration
+ * @see example.app.expiration.ExpirationAndEvictionMetrics
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(ExpirationAndEvictionConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableExpirationAndEviction {
+
+	/**
+	 * Packages scanned for entities declaring expiration or eviction.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.expiration;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.cache.CustomExpiry;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import example.app.model.IdleTimeout;
+import example.app.model.TimeToLive;
+
+/**
+ * The {@link EntityExpiry} class is a {@link CustomExpiry} expiring each entry after the number of seconds
+ * held by a field of the entry's value, as declared with {@link IdleTimeout} or {@link TimeToLive}.
+ *
+ * The field is read from the entity, or from the {@link PdxInstance} on servers reading PDX serialized values.
+ * Entries without a positive timeout fall back to the {@literal Region's} expiration attributes.
+ *
+ * @author John Blum
+ * @see example.app.model.IdleTimeout
+ * @see example.app.model.TimeToLive
+ * @see org.apache.geode.cache.CustomExpiry
+ * @since 1.0.0
+ */
+public class EntityExpiry implements CustomExpiry<Object, Object> {
+
+	private final ExpirationAction action;
+
+	private final Map<Class<?>, Optional<Field>> fields = new ConcurrentHashMap<>();
+
+	private final String fieldName;
+
+	public EntityExpiry(String fieldName, ExpirationAction action) {
+
+		Assert.hasText(fieldName, "Field name is required");
+		Assert.notNull(action, "ExpirationAction is required");
+
+		this.fieldName = fieldName;
+		this.action = action;
+	}
+
+	@Override
+	public ExpirationAttributes getExpiry(Region.Entry<Object, Object> entry) {
+
+		long timeout = toSeconds(readTimeout(entry.getValue()));
+
+		return timeout > 0 ? new ExpirationAttributes((int) Math.min(timeout, Integer.MAX_VALUE), this.action) : null;
+	}
+
+	private Object readTimeout(Object value) {
+
+		if (value instanceof PdxInstance) {
+			return ((PdxInstance) value).getField(this.fieldName);
+		}
+
+		return value == null ? null : this.fields.computeIfAbsent(value.getClass(), this::resolveField)
+			.map(field -> ReflectionUtils.getField(field, value))
+			.orElse(null);
+	}
+
+	private Optional<Field> resolveField(Class<?> type) {
+
+		Field field = ReflectionUtils.findField(type, this.fieldName);
+
+		if (field != null) {
+			ReflectionUtils.makeAccessible(field);
+		}
+
+		return Optional.ofNullable(field);
+	}
+
+	private long toSeconds(Object timeout) {
+
+		return timeout instanceof Duration ? ((Duration) timeout).getSeconds()
+			: timeout instanceof Number ? ((Number) timeout).longValue()
+			: 0L;
+	}
+
+	@Override
+	public void close() { }
+}
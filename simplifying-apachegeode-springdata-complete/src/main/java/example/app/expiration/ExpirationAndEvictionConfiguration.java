@@ -0,0 +1,293 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.expiration;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.ExpirationAction;
+import org.apache.geode.cache.ExpirationAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.util.ObjectSizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import example.app.model.EvictionPolicy;
+import example.app.model.ExpirationPolicy;
+import example.app.model.IdleTimeout;
+import example.app.model.TimeToLive;
+
+/**
+ * The {@link ExpirationAndEvictionConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableExpirationAndEviction}, that applies the expiration and eviction declared by entities to their
+ * {@link Region Regions}.
+ *
+ * Eviction is set when the server {@link Region} is created, and enabled on client near caches by the
+ * {@literal NearCacheConfiguration}.  Expiration requires statistics, which are enabled when the {@link Region}
+ * is created, and is set once all {@link Region Regions} exist; client {@link Region Regions} that do not keep
+ * entries, such as {@literal PROXY} {@link Region Regions}, are left as is.
+ *
+ * @author John Blum
+ * @see example.app.expiration.EnableExpirationAndEviction
+ * @see example.app.expiration.EntityExpiry
+ * @see example.app.expiration.ExpirationAndEvictionMetrics
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class ExpirationAndEvictionConfiguration implements EnvironmentAware, ImportAware {
+
+	private Environment environment;
+
+	private Map<String, EntityPolicies> entityPolicies;
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	public static EvictionAttributes toEvictionAttributes(EvictionPolicy evictionPolicy) {
+
+		EvictionPolicyType type = evictionPolicy.type();
+
+		return EvictionPolicyType.HEAP_PERCENTAGE.equals(type)
+			? EvictionAttributes.createLRUHeapAttributes(ObjectSizer.DEFAULT,
+				evictionPolicy.action().getEvictionAction())
+			: EvictionPolicyType.MEMORY_SIZE.equals(type)
+			? EvictionAttributes.createLRUMemoryAttributes(evictionPolicy.maximum(), ObjectSizer.DEFAULT,
+				evictionPolicy.action().getEvictionAction())
+			: EvictionPolicyType.ENTRY_COUNT.equals(type)
+			? EvictionAttributes.createLRUEntryAttributes(evictionPolicy.maximum(),
+				evictionPolicy.action().getEvictionAction())
+			: null;
+	}
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableExpirationAndEvictionAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableExpirationAndEviction.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(enableExpirationAndEvictionAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableExpirationAndEvictionAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	private synchronized Map<String, EntityPolicies> resolveEntityPolicies() {
+
+		if (this.entityPolicies == null) {
+
+			Map<String, EntityPolicies> entityPolicies = new HashMap<>();
+
+			GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+			ClassPathScanningCandidateComponentProvider entityScanner =
+				new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+			entityScanner.addIncludeFilter(
+				new AnnotationTypeFilter(org.springframework.data.gemfire.mapping.annotation.Region.class));
+
+			for (String basePackage : this.basePackages) {
+				for (BeanDefinition entity : entityScanner.findCandidateComponents(basePackage)) {
+
+					Class<?> entityType = ClassUtils.resolveClassName(entity.getBeanClassName(),
+						ClassUtils.getDefaultClassLoader());
+
+					EntityPolicies policies = new EntityPolicies(entityType);
+
+					if (policies.isDeclared()) {
+						entityPolicies.put(mappingContext.getRequiredPersistentEntity(entityType).getRegionName(),
+							policies);
+					}
+				}
+			}
+
+			this.entityPolicies = Collections.unmodifiableMap(entityPolicies);
+		}
+
+		return this.entityPolicies;
+	}
+
+	@Bean
+	RegionConfigurer expirationAndEvictionRegionConfigurer() {
+
+		Map<String, EntityPolicies> entityPolicies = resolveEntityPolicies();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, RegionFactoryBean<?, ?> bean) {
+
+				Optional.ofNullable(entityPolicies.get(beanName)).ifPresent(policies -> {
+
+					Optional.ofNullable(policies.getEvictionPolicy())
+						.map(ExpirationAndEvictionConfiguration::toEvictionAttributes)
+						.ifPresent(bean::setEvictionAttributes);
+
+					if (policies.isExpiring()) {
+						bean.setStatisticsEnabled(true);
+					}
+				});
+			}
+
+			@Override
+			public void configure(String beanName, ClientRegionFactoryBean<?, ?> bean) {
+				Optional.ofNullable(entityPolicies.get(beanName))
+					.filter(EntityPolicies::isExpiring)
+					.ifPresent(policies -> bean.setStatisticsEnabled(true));
+			}
+		};
+	}
+
+	@Bean
+	SmartInitializingSingleton expirationAndEvictionInitializer(GemFireCache gemfireCache,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		Map<String, EntityPolicies> entityPolicies = resolveEntityPolicies();
+
+		return () -> {
+
+			entityPolicies.forEach((regionName, policies) ->
+				Optional.ofNullable(gemfireCache.<Object, Object>getRegion(regionName))
+					.filter(region -> region.getAttributes().getDataPolicy().withStorage())
+					.ifPresent(policies::applyExpiration));
+
+			new ExpirationAndEvictionMetrics(gemfireCache, entityPolicies.keySet())
+				.bindTo(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+		};
+	}
+
+	private static class EntityPolicies {
+
+		private final EvictionPolicy evictionPolicy;
+
+		private final ExpirationPolicy expirationPolicy;
+
+		private final Field idleTimeoutField;
+
+		private final Field timeToLiveField;
+
+		EntityPolicies(Class<?> entityType) {
+			this.evictionPolicy = AnnotationUtils.findAnnotation(entityType, EvictionPolicy.class);
+			this.expirationPolicy = AnnotationUtils.findAnnotation(entityType, ExpirationPolicy.class);
+			this.idleTimeoutField = findAnnotatedField(entityType, IdleTimeout.class);
+			this.timeToLiveField = findAnnotatedField(entityType, TimeToLive.class);
+		}
+
+		private static Field findAnnotatedField(Class<?> entityType, Class<? extends Annotation> annotationType) {
+
+			Field[] annotatedField = new Field[1];
+
+			ReflectionUtils.doWithFields(entityType, field -> annotatedField[0] = field,
+				field -> annotatedField[0] == null && field.isAnnotationPresent(annotationType));
+
+			return annotatedField[0];
+		}
+
+		EvictionPolicy getEvictionPolicy() {
+			return this.evictionPolicy;
+		}
+
+		boolean isDeclared() {
+			return this.evictionPolicy != null || isExpiring();
+		}
+
+		boolean isExpiring() {
+			return this.expirationPolicy != null || this.idleTimeoutField != null || this.timeToLiveField != null;
+		}
+
+		void applyExpiration(Region<Object, Object> region) {
+
+			ExpirationAction action = resolveExpirationAction(region);
+
+			AttributesMutator<Object, Object> attributesMutator = region.getAttributesMutator();
+
+			if (this.expirationPolicy != null && this.expirationPolicy.idleTimeout() > 0) {
+				attributesMutator.setEntryIdleTimeout(
+					new ExpirationAttributes(this.expirationPolicy.idleTimeout(), action));
+			}
+
+			if (this.expirationPolicy != null && this.expirationPolicy.timeToLive() > 0) {
+				attributesMutator.setEntryTimeToLive(
+					new ExpirationAttributes(this.expirationPolicy.timeToLive(), action));
+			}
+
+			if (this.idleTimeoutField != null) {
+				attributesMutator.setCustomEntryIdleTimeout(new EntityExpiry(this.idleTimeoutField.getName(), action));
+			}
+
+			if (this.timeToLiveField != null) {
+				attributesMutator.setCustomEntryTimeToLive(new EntityExpiry(this.timeToLiveField.getName(), action));
+			}
+		}
+
+		private ExpirationAction resolveExpirationAction(Region<?, ?> region) {
+
+			ExpirationAction action = this.expirationPolicy != null
+				? this.expirationPolicy.action().getExpirationAction()
+				: ExpirationAction.DESTROY;
+
+			boolean invalidate = action.isInvalidate() || action.isLocalInvalidate();
+
+			if (region.getRegionService() instanceof ClientCache) {
+				return invalidate ? ExpirationAction.LOCAL_INVALIDATE : ExpirationAction.LOCAL_DESTROY;
+			}
+			else if (region.getAttributes().getDataPolicy().withPartitioning()) {
+				return invalidate ? ExpirationAction.INVALIDATE : ExpirationAction.DESTROY;
+			}
+
+			return action;
+		}
+	}
+}
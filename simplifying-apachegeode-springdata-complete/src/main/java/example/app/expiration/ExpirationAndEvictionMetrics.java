@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.expiration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+import org.apache.geode.distributed.DistributedSystem;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The {@link ExpirationAndEvictionMetrics} class is a Micrometer {@link MeterBinder} publishing the number
+ * of entries expired and evicted from each {@link Region} configured with {@link EnableExpirationAndEviction}.
+ *
+ * Expirations are counted by a listener added to the {@link Region}, with a counter registered up front for each
+ * expiration operation, while evictions are read from the LRU statistics Apache Geode keeps for the {@link Region},
+ * since evicting an entry by overflowing its value to disk does not raise an event.
+ *
+ * @author John Blum
+ * @see example.app.model.ExpirationPolicy
+ * @see example.app.model.EvictionPolicy
+ * @see io.micrometer.core.instrument.binder.MeterBinder
+ * @since 1.0.0
+ */
+public class ExpirationAndEvictionMetrics implements MeterBinder {
+
+	public static final String REGION_EVICTIONS_METRIC_NAME = "region.evictions";
+	public static final String REGION_EXPIRATIONS_METRIC_NAME = "region.expirations";
+
+	protected static final String LRU_STATISTICS_TYPE_NAME_SUFFIX = "LRUStatistics";
+
+	private final GemFireCache gemfireCache;
+
+	private final Set<String> regionNames;
+
+	public ExpirationAndEvictionMetrics(GemFireCache gemfireCache, Set<String> regionNames) {
+
+		Assert.notNull(gemfireCache, "GemFireCache is required");
+
+		this.gemfireCache = gemfireCache;
+		this.regionNames = Collections.unmodifiableSet(regionNames);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		for (String regionName : this.regionNames) {
+
+			Region<Object, Object> region = this.gemfireCache.getRegion(regionName);
+
+			if (region != null) {
+
+				region.getAttributesMutator()
+					.addCacheListener(new ExpirationCountingCacheListener(registry, regionName));
+
+				EvictionAttributes evictionAttributes = region.getAttributes().getEvictionAttributes();
+
+				if (evictionAttributes != null && evictionAttributes.getAlgorithm().isLRU()) {
+					FunctionCounter.builder(REGION_EVICTIONS_METRIC_NAME, region, this::countEvictions)
+						.description("Number of entries evicted from the Region")
+						.tags("region", regionName, "policy", evictionAttributes.getAlgorithm().toString(),
+							"action", evictionAttributes.getAction().toString())
+						.register(registry);
+				}
+			}
+		}
+	}
+
+	private double countEvictions(Region<?, ?> region) {
+
+		DistributedSystem distributedSystem = this.gemfireCache.getDistributedSystem();
+
+		return Arrays.stream(distributedSystem.findStatisticsByTextId(region.getFullPath()))
+			.filter(statistics -> statistics.getType().getName().endsWith(LRU_STATISTICS_TYPE_NAME_SUFFIX))
+			.mapToDouble(statistics -> statistics.get("lruEvictions").doubleValue())
+			.sum();
+	}
+
+	static class ExpirationCountingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private static final List<Operation> EXPIRATION_OPERATIONS = Arrays.asList(Operation.EXPIRE_DESTROY,
+			Operation.EXPIRE_LOCAL_DESTROY, Operation.EXPIRE_INVALIDATE, Operation.EXPIRE_LOCAL_INVALIDATE);
+
+		private final Map<Operation, Counter> expirationCounters = new HashMap<>();
+
+		ExpirationCountingCacheListener(MeterRegistry registry, String regionName) {
+
+			for (Operation operation : EXPIRATION_OPERATIONS) {
+				this.expirationCounters.put(operation, Counter.builder(REGION_EXPIRATIONS_METRIC_NAME)
+					.description("Number of entries expired from the Region")
+					.tags("region", regionName, "operation", operation.toString())
+					.register(registry));
+			}
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			countExpiration(event.getOperation());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			countExpiration(event.getOperation());
+		}
+
+		private void countExpiration(Operation operation) {
+
+			Counter expirationCounter = this.expirationCounters.get(operation);
+
+			if (expirationCounter != null) {
+				expirationCounter.increment();
+			}
+		}
+	}
+}
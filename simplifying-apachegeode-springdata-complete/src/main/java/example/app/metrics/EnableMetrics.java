@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableMetrics} annotation declares the application's Micrometer {@literal MeterRegistry}, in which
+ * the client and server features record their metrics, and logs the recorded metrics at a regular interval.
+ *
+ * The registry is also added to Micrometer's global registry, so meters registered there are recorded as well.
+ * The metrics are read from the {@literal MeterRegistry} bean, or from the log, every
+ * {@literal example.app.metrics.report-interval} milliseconds, defaulting to {@literal 60000}, and when
+ * the application shuts down.  A {@literal 0} interval only logs the metrics on shutdown.
+ *
+ * @author John Blum
+ * @see example.app.metrics.MeterRegistryReporter
+ * @see example.app.metrics.MetricsConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(MetricsConfiguration.class)
+public @interface EnableMetrics {
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.metrics;
+
+import java.util.Comparator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link MeterRegistryReporter} class logs every meter recorded in a {@link MeterRegistry}, one line per meter
+ * with its tags and measurements, at a regular interval and when closed.
+ *
+ * @author John Blum
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @since 1.0.0
+ */
+public class MeterRegistryReporter implements AutoCloseable {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final long reportInterval;
+
+	private final MeterRegistry meterRegistry;
+
+	private volatile ScheduledExecutorService scheduler;
+
+	public MeterRegistryReporter(MeterRegistry meterRegistry, long reportInterval) {
+		this.meterRegistry = meterRegistry;
+		this.reportInterval = reportInterval;
+	}
+
+	public void start() {
+
+		if (this.reportInterval > 0) {
+
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread reporterThread = new Thread(runnable, "MeterRegistryReporter");
+
+				reporterThread.setDaemon(true);
+
+				return reporterThread;
+			});
+
+			this.scheduler.scheduleAtFixedRate(this::report, this.reportInterval, this.reportInterval,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Logs the current value of every meter.
+	 */
+	public void report() {
+
+		if (this.logger.isInfoEnabled() && !this.meterRegistry.getMeters().isEmpty()) {
+			this.logger.info(describe(this.meterRegistry));
+		}
+	}
+
+	/**
+	 * Returns the name, tags and measurements of every meter in the {@link MeterRegistry}, one meter per line.
+	 */
+	public static String describe(MeterRegistry meterRegistry) {
+
+		StringBuilder description = new StringBuilder("Metrics:");
+
+		meterRegistry.getMeters().stream()
+			.sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+				.thenComparing(meter -> meter.getId().getTags().toString()))
+			.forEach(meter -> {
+
+				description.append(String.format("%n  %s", meter.getId().getName()));
+
+				for (Tag tag : meter.getId().getTags()) {
+					description.append(String.format(" %1$s=%2$s", tag.getKey(), tag.getValue()));
+				}
+
+				StreamSupport.stream(meter.measure().spliterator(), false).forEach(measurement ->
+					description.append(String.format(" | %1$s: %2$s",
+						measurement.getStatistic().getTagValueRepresentation(), measurement.getValue())));
+			});
+
+		return description.toString();
+	}
+
+	@Override
+	public void close() {
+
+		ScheduledExecutorService scheduler = this.scheduler;
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+
+		report();
+	}
+}
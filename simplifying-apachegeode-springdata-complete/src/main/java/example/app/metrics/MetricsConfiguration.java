@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The {@link MetricsConfiguration} class is a Spring {@link Configuration} class, imported by {@link EnableMetrics},
+ * declaring the application's {@link MeterRegistry} and the {@link MeterRegistryReporter} logging its metrics.
+ *
+ * @author John Blum
+ * @see example.app.metrics.EnableMetrics
+ * @see example.app.metrics.MeterRegistryReporter
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class MetricsConfiguration {
+
+	@Bean
+	MeterRegistry meterRegistry() {
+		return new ApplicationMeterRegistry();
+	}
+
+	@Bean(initMethod = "start")
+	MeterRegistryReporter meterRegistryReporter(MeterRegistry meterRegistry,
+			@Value("${example.app.metrics.report-interval:60000}") long reportInterval) {
+
+		return new MeterRegistryReporter(meterRegistry, reportInterval);
+	}
+
+	/**
+	 * {@link SimpleMeterRegistry} added to Micrometer's global registry for as long as the application runs.
+	 */
+	static class ApplicationMeterRegistry extends SimpleMeterRegistry {
+
+		ApplicationMeterRegistry() {
+			Metrics.addRegistry(this);
+		}
+
+		@Override
+		public void close() {
+			Metrics.removeRegistry(this);
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.compression.Compressor;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link Compressed} annotation declares that the values of the server {@literal Region} to which
+ * the annotated entity is mapped are stored compressed with the given {@link Compressor}.
+ *
+ * Values are decompressed on every read and compressed on every write, trading server CPU for memory.
+ * Compression pays off for large, repetitive values, such as documents, and must be enabled on the server
+ * with {@literal EnableCompression}.
+ *
+ * @author John Blum
+ * @see example.app.server.compression.EnableCompression
+ * @see example.app.server.compression.Lz4Compressor
+ * @see example.app.server.compression.SnappyCompressor
+ * @see org.apache.geode.compression.Compressor
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface Compressed {
+
+	/**
+	 * {@link Compressor} used to compress the values of the {@literal Region}.  The {@link Compressor} must have
+	 * a public no-argument constructor and be on the classpath of every server hosting the {@literal Region}.
+	 *
+	 * Defaults to {@link Compressor}, which stands for the server's default, LZ4, {@link Compressor}.
+	 */
+	Class<? extends Compressor> value() default Compressor.class;
+
+}
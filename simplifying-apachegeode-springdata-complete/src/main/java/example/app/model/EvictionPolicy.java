@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.EvictionAttributes;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link EvictionPolicy} annotation bounds the size of the {@literal Region} to which the annotated entity
+ * is mapped with LRU eviction.
+ *
+ * On the servers, the policy applies to the entity's {@literal Region} when enabled with
+ * {@literal EnableExpirationAndEviction}.  On clients, it applies to the entity's {@literal NearCache}, the only
+ * client {@literal Region} keeping entries, in place of the near cache's own bounds.
+ *
+ * @author John Blum
+ * @see example.app.expiration.EnableExpirationAndEviction
+ * @see org.apache.geode.cache.EvictionAttributes
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface EvictionPolicy {
+
+	/**
+	 * Measure of the {@literal Region's} size that triggers eviction.
+	 *
+	 * Defaults to {@link EvictionPolicyType#ENTRY_COUNT}.
+	 */
+	EvictionPolicyType type() default EvictionPolicyType.ENTRY_COUNT;
+
+	/**
+	 * Maximum number of entries for {@link EvictionPolicyType#ENTRY_COUNT}, or megabytes of values for
+	 * {@link EvictionPolicyType#MEMORY_SIZE}.  {@link EvictionPolicyType#HEAP_PERCENTAGE} evicts once the heap
+	 * exceeds the cache's eviction heap percentage instead.
+	 */
+	int maximum() default EvictionAttributes.DEFAULT_ENTRIES_MAXIMUM;
+
+	/**
+	 * Action taken on the least recently used entries.
+	 *
+	 * Defaults to {@link EvictionActionType#LOCAL_DESTROY}.
+	 */
+	EvictionActionType action() default EvictionActionType.LOCAL_DESTROY;
+
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.gemfire.expiration.ExpirationActionType;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link ExpirationPolicy} annotation declares the idle timeout and time-to-live expiration of the entries
+ * in the {@literal Region} to which the annotated entity is mapped.
+ *
+ * Individual entries may override the timeouts with the value of an {@link IdleTimeout} or {@link TimeToLive}
+ * annotated field.  The policy must be enabled with {@literal EnableExpirationAndEviction}.
+ *
+ * @author John Blum
+ * @see example.app.expiration.EnableExpirationAndEviction
+ * @see example.app.model.IdleTimeout
+ * @see example.app.model.TimeToLive
+ * @see org.apache.geode.cache.ExpirationAttributes
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface ExpirationPolicy {
+
+	/**
+	 * Number of seconds an entry may go without being read or written before it expires.
+	 *
+	 * Defaults to {@literal 0}, which never expires idle entries.
+	 */
+	int idleTimeout() default 0;
+
+	/**
+	 * Number of seconds an entry lives after it was last written before it expires.
+	 *
+	 * Defaults to {@literal 0}, which never expires entries.
+	 */
+	int timeToLive() default 0;
+
+	/**
+	 * Action taken when an entry expires.
+	 *
+	 * Client {@literal Regions} always take the local form of the action, and partitioned {@literal Regions}
+	 * the distributed form, since neither supports the other.  Defaults to {@link ExpirationActionType#DESTROY}.
+	 */
+	ExpirationActionType action() default ExpirationActionType.DESTROY;
+
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link IdleTimeout} annotation declares an entity field holding the idle timeout of the entity's own entry,
+ * the number of seconds the entry may go without being read or written before it expires, as a {@link Number}
+ * or a {@link java.time.Duration}.
+ *
+ * Entries whose field is {@literal null} or not positive expire as declared by the entity's
+ * {@link ExpirationPolicy}, if any.
+ *
+ * @author John Blum
+ * @see example.app.expiration.EntityExpiry
+ * @see example.app.model.ExpirationPolicy
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface IdleTimeout {
+
+}
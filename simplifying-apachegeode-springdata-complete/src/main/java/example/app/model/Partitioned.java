@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.PartitionResolver;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link Partitioned} annotation declares the shape of the server {@link DataPolicy#PARTITION} {@literal Region}
+ * to which the annotated entity is mapped: its number of buckets, its number of redundant copies
+ * and the {@link PartitionResolver} used to route entries to buckets.
+ *
+ * Partitioning must be enabled on the server with {@literal EnablePartitioning}.
+ *
+ * @author John Blum
+ * @see example.app.server.partition.EnablePartitioning
+ * @see org.apache.geode.cache.PartitionAttributes
+ * @see org.apache.geode.cache.PartitionResolver
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface Partitioned {
+
+	int DEFAULT_TOTAL_BUCKETS = PartitionAttributesFactory.GLOBAL_MAX_BUCKETS_DEFAULT;
+
+	/**
+	 * Total number of buckets across all servers hosting the {@literal Region}.
+	 *
+	 * Defaults to {@literal 113}.
+	 */
+	int totalBuckets() default DEFAULT_TOTAL_BUCKETS;
+
+	/**
+	 * Number of redundant copies of each bucket kept on other servers.
+	 *
+	 * Defaults to {@literal 0}.
+	 */
+	int redundantCopies() default 0;
+
+	/**
+	 * {@link PartitionResolver} routing entries to buckets; entries are routed by the hash of their key by default.
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends PartitionResolver> partitionResolver() default PartitionResolver.class;
+
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.model;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link WriteBehind} annotation declares that changes to the server {@literal Region} to which the annotated
+ * entity is mapped are written to the system of record asynchronously, in batches, through
+ * an {@link AsyncEventQueue} dispatching to the {@literal WriteBehindSink}.
+ *
+ * Client writes complete as soon as the {@literal Region} is updated, independently of the latency
+ * of the system of record.  Write-behind must be enabled on the server with {@literal EnableWriteBehind}.
+ *
+ * @author John Blum
+ * @see example.app.server.writebehind.EnableWriteBehind
+ * @see example.app.server.writebehind.WriteBehindSink
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventQueue
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface WriteBehind {
+
+	/**
+	 * Maximum number of events dispatched to the {@literal WriteBehindSink} in a single batch.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int batchSize() default 1000;
+
+	/**
+	 * Maximum time, in milliseconds, a batch waits to fill up before it is dispatched.
+	 *
+	 * Defaults to {@literal 1000}.
+	 */
+	int batchTimeInterval() default 1000;
+
+	/**
+	 * Whether updates to the same key waiting in the queue are conflated, writing only the latest value.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean conflation() default true;
+
+	/**
+	 * Number of threads dispatching batches to the {@literal WriteBehindSink}.
+	 *
+	 * Defaults to {@literal 1}.  Updates to the same key are always dispatched in order.
+	 */
+	int dispatcherThreads() default 1;
+
+	/**
+	 * Name of the {@literal DiskStore} used to persist and overflow the queue; the {@literal DEFAULT} disk store
+	 * is used when not set.
+	 */
+	String diskStoreName() default "";
+
+	/**
+	 * Maximum amount of memory, in megabytes, used by the queue before it overflows to disk.
+	 *
+	 * Defaults to {@literal 100}.
+	 */
+	int maximumQueueMemory() default 100;
+
+	/**
+	 * Number of times a batch that the {@literal WriteBehindSink} failed to write is retried before it is written
+	 * to the dead letter {@literal WriteBehindSink} and removed from the queue.  A negative value retries
+	 * the batch indefinitely, holding up all later changes in the queue.
+	 *
+	 * Defaults to {@literal 10}.
+	 */
+	int maximumRetries() default 10;
+
+	/**
+	 * Whether a queue is kept for every bucket on the server hosting the bucket, rather than a single queue
+	 * on one server.  Requires a partitioned {@literal Region}.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean parallel() default true;
+
+	/**
+	 * Whether the queue is persisted to disk so that pending writes survive a server restart.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean persistent() default true;
+
+}
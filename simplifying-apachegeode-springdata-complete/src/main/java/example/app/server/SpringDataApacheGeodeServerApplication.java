@@ -16,30 +16,123 @@
 
 package example.app.server;
 
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.pdx.PdxSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.gemfire.config.annotation.CacheServerApplication;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.config.annotation.EnableEviction;
 import org.springframework.data.gemfire.config.annotation.EnableLocator;
 import org.springframework.data.gemfire.config.annotation.EnableManager;
+import org.springframework.data.gemfire.config.annotation.EnableOffHeap;
+import org.springframework.data.gemfire.config.annotation.EnablePdx;
+import org.springframework.data.gemfire.eviction.EvictionActionType;
+import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.util.Assert;
+
+import example.app.client.delta.DeltaTrackingEntity;
+import example.app.client.model.Customer;
+import example.app.client.search.TextIndexingConfiguration;
+import example.app.client.search.TextIndexingPdxSerializer;
+import example.app.expiration.EnableExpirationAndEviction;
+import example.app.metrics.EnableMetrics;
+import example.app.model.Compressed;
+import example.app.model.EvictionPolicy;
+import example.app.model.ExpirationPolicy;
+import example.app.model.Partitioned;
+import example.app.model.WriteBehind;
+import example.app.server.compression.EnableCompression;
+import example.app.server.indexing.EnableAsynchronousIndexMaintenance;
+import example.app.server.partition.EnablePartitioning;
+import example.app.server.query.EnableQueryProfiler;
+import example.app.server.rebalance.EnableAutoRebalance;
+import example.app.server.writebehind.EnableWriteBehind;
+import example.app.server.writebehind.WriteBehindSink;
 
 /**
  * The {@link SpringDataApacheGeodeServerApplication} class is a {@link SpringBootApplication} used to bootstrap
  * an Apache Geode server.
  *
+ * PDX serialized values are kept in serialized form ({@literal pdx-read-serialized}) so that queries evaluate
+ * fields, including those written only for indexing, without deserializing the application domain objects.
+ *
+ * The server defines the {@literal Customers} Region itself from the {@link Customer} entity, as a partitioned
+ * Region shaped by the entity's {@link Partitioned} declaration, rather than relying on the client to push
+ * a default Region definition.
+ *
+ * The server's resource manager rejects operations once the heap is {@literal 90%} used and begins evicting
+ * from Regions configured with heap LRU eviction at {@literal 75%}.  In the {@literal overflow} profile,
+ * the {@literal Customers} Region overflows least recently used entries to disk under memory pressure.
+ * The {@literal off-heap} profile additionally stores its values off-heap, outside the reach
+ * of the garbage collector.
+ *
+ * Entities bound the size of their Region with an {@link EvictionPolicy}, and expire stale entries with
+ * an {@link ExpirationPolicy} or a per-entry idle timeout or time-to-live.  The server applies these policies
+ * to the Regions it hosts, since the Region definitions pushed by clients do not carry them.
+ *
+ * In the {@literal write-behind} profile, changes to the {@literal Customers} Region are written asynchronously,
+ * in batches, to the system of record as declared by the entity's {@link WriteBehind} annotation, keeping
+ * client write latency independent of the system of record.
+ *
+ * In the {@literal compression} profile, the values of the {@literal Customers} Region are stored compressed
+ * with the {@literal Compressor} declared by the entity's {@link Compressed} annotation.  Because the server
+ * creates the Region before any client connects, the definition pushed by a client with
+ * {@literal @EnableClusterConfiguration} does not replace it and the Region keeps its {@literal Compressor}.
+ *
+ * In the {@literal asynchronous-index-maintenance} profile, the Regions of entities declaring asynchronous index
+ * maintenance update their Indexes after each put returns, off the put path.  The {@literal Customers} Region
+ * keeps synchronous maintenance, since {@literal start-cluster.gfsh} creates a {@literal HASH} Index on its
+ * {@literal name}, which Apache Geode cannot maintain asynchronously.
+ *
+ * In the {@literal delta-propagation} profile, the server applies the changes sent by clients saving
+ * a {@link DeltaTrackingEntity} to the values it holds, rather than receiving the whole entity.
+ *
+ * Every OQL query executed by the server is profiled with the {@link EnableQueryProfiler}, recording its latency,
+ * the Indexes it used, or whether it scanned the Region, and the rows it examined and returned.  Slow queries
+ * are logged and the profile is published to the manager over JMX.  The server's Micrometer metrics are
+ * recorded in the {@literal MeterRegistry} declared by {@link EnableMetrics} and logged periodically.
+ *
+ * In the {@literal auto-rebalance} profile, the server rebalances partitioned Regions, throttling bucket moves,
+ * shortly after a server joins or leaves the cluster and whenever the load across servers becomes skewed.
+ *
  * @author John Blum
  * @see org.springframework.boot.SpringApplication
  * @see org.springframework.boot.autoconfigure.SpringBootApplication
  * @see org.springframework.data.gemfire.config.annotation.CacheServerApplication
+ * @see org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions
+ * @see org.springframework.data.gemfire.config.annotation.EnableEviction
  * @see org.springframework.data.gemfire.config.annotation.EnableLocator
  * @see org.springframework.data.gemfire.config.annotation.EnableManager
+ * @see org.springframework.data.gemfire.config.annotation.EnableOffHeap
  * @see org.springframework.data.gemfire.config.annotation.EnablePdx
+ * @see example.app.expiration.EnableExpirationAndEviction
+ * @see example.app.client.delta.DeltaTrackingEntity
+ * @see example.app.metrics.EnableMetrics
+ * @see example.app.server.compression.EnableCompression
+ * @see example.app.server.indexing.EnableAsynchronousIndexMaintenance
+ * @see example.app.server.partition.EnablePartitioning
+ * @see example.app.server.query.EnableQueryProfiler
+ * @see example.app.server.rebalance.EnableAutoRebalance
+ * @see example.app.server.writebehind.EnableWriteBehind
  * @since 1.0.0
  */
 @SpringBootApplication
-@CacheServerApplication(locators = "localhost[10334]", port = 0)
+@CacheServerApplication(locators = "localhost[10334]", port = 0,
+	criticalHeapPercentage = 90.0f, evictionHeapPercentage = 75.0f)
+@EnableEntityDefinedRegions(basePackageClasses = Customer.class)
+@EnableExpirationAndEviction(basePackageClasses = Customer.class)
+@EnableMetrics
+@EnablePartitioning(basePackageClasses = Customer.class)
+@EnablePdx(readSerialized = true)
+@EnableQueryProfiler
 public class SpringDataApacheGeodeServerApplication {
 
 	public static void main(String[] args) {
@@ -57,4 +150,133 @@ public class SpringDataApacheGeodeServerApplication {
 	@SuppressWarnings("unused")
 	static class LocatorManagerConfiguration { }
 
+	/**
+	 * Rebalances partitioned Regions after membership changes or when the load across servers is skewed.
+	 * The delay and skew threshold are set with the {@literal example.app.server.rebalance.*} properties.  Bucket moves
+	 * are throttled by launching the server with {@literal -Dgemfire.MAX_PARALLEL_BUCKET_RECOVERIES=1}, which also
+	 * throttles redundancy recovery.
+	 */
+	@Configuration
+	@EnableAutoRebalance
+	@Profile("auto-rebalance")
+	@SuppressWarnings("unused")
+	static class RebalancingConfiguration { }
+
+	/**
+	 * Evicts the least recently used {@link Customer Customers} once the heap reaches the eviction threshold,
+	 * overflowing them to the {@literal DEFAULT} disk store in the server's working directory.  Eviction is enabled
+	 * in the {@literal overflow} profile and, since an off-heap Region must be bounded, in the {@literal off-heap}
+	 * profile.
+	 */
+	@Configuration
+	@EnableEviction(policies = @EnableEviction.EvictionPolicy(type = EvictionPolicyType.HEAP_PERCENTAGE,
+		action = EvictionActionType.OVERFLOW_TO_DISK, regionNames = "Customers"))
+	@Profile({ "overflow", "off-heap" })
+	@SuppressWarnings("unused")
+	static class OverflowConfiguration { }
+
+	/**
+	 * Stores the {@link Customer} Region off-heap.  The off-heap memory size defaults to {@literal 1g} and can be set
+	 * with the {@literal spring.data.gemfire.cache.off-heap.memory-size} property.
+	 *
+	 * Heap LRU eviction of an off-heap Region is driven by the off-heap eviction threshold, so the off-heap
+	 * critical and eviction thresholds are set on the {@link ResourceManager} as soon as the {@link Cache}
+	 * is created, before any Region.
+	 */
+	@Configuration
+	@EnableOffHeap(memorySize = "1g", regionNames = "Customers")
+	@Profile("off-heap")
+	@SuppressWarnings("unused")
+	static class OffHeapConfiguration {
+
+		@Bean
+		static BeanPostProcessor offHeapThresholdsBeanPostProcessor(
+				@Value("${example.app.server.off-heap.critical-percentage:90.0}") float criticalOffHeapPercentage,
+				@Value("${example.app.server.off-heap.eviction-percentage:75.0}") float evictionOffHeapPercentage) {
+
+			return new BeanPostProcessor() {
+
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+					if (bean instanceof Cache) {
+
+						ResourceManager resourceManager = ((Cache) bean).getResourceManager();
+
+						resourceManager.setCriticalOffHeapPercentage(criticalOffHeapPercentage);
+						resourceManager.setEvictionOffHeapPercentage(evictionOffHeapPercentage);
+					}
+
+					return bean;
+				}
+			};
+		}
+	}
+
+	/**
+	 * Stores the values of {@link Compressed} annotated entities compressed, with the {@literal Compressor}
+	 * declared by the entity or named by the {@literal example.app.server.compression.compressor} property.
+	 */
+	@Configuration
+	@EnableCompression(basePackageClasses = Customer.class)
+	@Profile("compression")
+	@SuppressWarnings("unused")
+	static class ValueCompressionConfiguration { }
+
+	/**
+	 * Updates the Indexes of {@link example.app.server.indexing.AsynchronousIndexMaintenance} annotated entities'
+	 * Regions, and of the Regions named by the {@literal example.app.server.indexing.asynchronous-regions} property,
+	 * asynchronously.  The server fails to start if one of these Regions is mapped to an entity declaring
+	 * a {@literal HASH} Index.
+	 */
+	@Configuration
+	@EnableAsynchronousIndexMaintenance(basePackageClasses = Customer.class)
+	@Profile("asynchronous-index-maintenance")
+	@SuppressWarnings("unused")
+	static class IndexMaintenanceConfiguration { }
+
+	/**
+	 * Apache Geode applies a delta to the deserialized value, so in this profile PDX serialized values
+	 * are deserialized, as set in {@literal application-delta-propagation.properties}, with the same text indexing
+	 * {@link PdxSerializer} as the clients.
+	 *
+	 * Values must nonetheless be stored in serialized form, serialized again after a delta is applied, so that
+	 * queries and Indexes still see the fields written only for indexing.  Apache Geode only offers this as
+	 * the {@literal gemfire.PREFER_SERIALIZED} System property, which it reads once, when its classes are loaded,
+	 * so the server must be launched with {@literal -Dgemfire.PREFER_SERIALIZED=true} in this profile, and fails
+	 * to start without it.
+	 */
+	@Configuration
+	@Profile("delta-propagation")
+	@SuppressWarnings("unused")
+	static class DeltaPropagationConfiguration {
+
+		protected static final String PREFER_SERIALIZED_PROPERTY = "gemfire.PREFER_SERIALIZED";
+
+		DeltaPropagationConfiguration() {
+
+			Assert.state(Boolean.getBoolean(PREFER_SERIALIZED_PROPERTY), String.format(
+				"The delta-propagation profile requires the server to be launched with -D%s=true;"
+					+ " otherwise values are stored deserialized and queries no longer see their text indexing fields",
+				PREFER_SERIALIZED_PROPERTY));
+		}
+
+		@Bean(TextIndexingConfiguration.TEXT_INDEXING_PDX_SERIALIZER_BEAN_NAME)
+		PdxSerializer textIndexingPdxSerializer() {
+			return new TextIndexingPdxSerializer();
+		}
+	}
+
+	/**
+	 * Writes changes to {@link WriteBehind} annotated entities to the application's {@link WriteBehindSink} bean,
+	 * or to files in the directory named by the {@literal example.app.server.write-behind.directory} property,
+	 * defaulting to {@literal write-behind} in the server's working directory.  Batches still failing after
+	 * the entity's maximum retries are written to the {@literal example.app.server.write-behind.dead-letter-directory}.
+	 */
+	@Configuration
+	@EnableWriteBehind(basePackageClasses = Customer.class)
+	@Profile("write-behind")
+	@SuppressWarnings("unused")
+	static class SystemOfRecordConfiguration { }
+
 }
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.compression;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.compression.Compressor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import example.app.model.Compressed;
+
+/**
+ * The {@link CompressionConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableCompression}, that sets the {@link Compressor} declared by {@link Compressed} annotated entities,
+ * or named by the {@literal example.app.server.compression.compressor} property, on their server {@literal Regions}.
+ * Entities that do not name a {@link Compressor} are compressed with the {@link Lz4Compressor}.
+ *
+ * @author John Blum
+ * @see example.app.model.Compressed
+ * @see example.app.server.compression.EnableCompression
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class CompressionConfiguration implements EnvironmentAware, ImportAware {
+
+	protected static final String COMPRESSOR_PROPERTY = "example.app.server.compression.compressor";
+
+	private Environment environment;
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableCompressionAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableCompression.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(enableCompressionAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableCompressionAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, Class<? extends Compressor>> resolveCompressedRegions() {
+
+		Map<String, Class<? extends Compressor>> compressedRegions = new HashMap<>();
+
+		String compressorClassName = this.environment.getProperty(COMPRESSOR_PROPERTY);
+
+		Class<? extends Compressor> compressorType = StringUtils.hasText(compressorClassName)
+			? (Class<? extends Compressor>) ClassUtils.resolveClassName(compressorClassName.trim(),
+				ClassUtils.getDefaultClassLoader())
+			: null;
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		ClassPathScanningCandidateComponentProvider compressedEntityScanner =
+			new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+		compressedEntityScanner.addIncludeFilter(new AnnotationTypeFilter(Compressed.class));
+
+		for (String basePackage : this.basePackages) {
+			for (BeanDefinition compressedEntity : compressedEntityScanner.findCandidateComponents(basePackage)) {
+
+				Class<?> entityType = ClassUtils.resolveClassName(compressedEntity.getBeanClassName(),
+					ClassUtils.getDefaultClassLoader());
+
+				Class<? extends Compressor> declaredCompressorType =
+					AnnotationUtils.findAnnotation(entityType, Compressed.class).value();
+
+				compressedRegions.put(mappingContext.getRequiredPersistentEntity(entityType).getRegionName(),
+					compressorType != null ? compressorType
+						: Compressor.class.equals(declaredCompressorType) ? Lz4Compressor.class
+						: declaredCompressorType);
+			}
+		}
+
+		return Collections.unmodifiableMap(compressedRegions);
+	}
+
+	@Bean
+	RegionConfigurer compressedRegionConfigurer() {
+
+		Map<String, Class<? extends Compressor>> compressedRegions = resolveCompressedRegions();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, RegionFactoryBean<?, ?> bean) {
+				Optional.ofNullable(compressedRegions.get(beanName))
+					.ifPresent(compressorType -> bean.setCompressor(BeanUtils.instantiateClass(compressorType)));
+			}
+		};
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.compression;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+import example.app.model.Compressed;
+
+/**
+ * The {@link EnableCompression} annotation applies the {@link Compressed} declarations of entities found in
+ * the {@link #basePackages()} or {@link #basePackageClasses()} to the entity-defined {@literal Regions}
+ * of the server.
+ *
+ * The {@literal Compressor} declared by the entities can be replaced for every compressed {@literal Region}
+ * with the {@literal example.app.server.compression.compressor} property, set to the fully-qualified class name
+ * of a {@literal Compressor}.
+ *
+ * @author John Blum
+ * @see example.app.model.Compressed
+ * @see example.app.server.compression.CompressionConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(CompressionConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableCompression {
+
+	/**
+	 * Packages scanned for {@link Compressed} annotated entities.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
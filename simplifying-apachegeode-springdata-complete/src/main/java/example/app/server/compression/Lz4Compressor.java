@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.compression;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+
+import io.airlift.compress.lz4.Lz4Decompressor;
+
+/**
+ * The {@link Lz4Compressor} class is an Apache Geode {@link Compressor} compressing {@literal Region} values
+ * in the LZ4 block format with the pure Java implementation of the {@literal aircompressor} library,
+ * without native code.
+ *
+ * LZ4 compresses and, above all, decompresses faster than Snappy, at a similar ratio.  Since an LZ4 block does not
+ * record its uncompressed length, each compressed value is prefixed with its length as a 4-byte integer.
+ *
+ * @author John Blum
+ * @see example.app.model.Compressed
+ * @see org.apache.geode.compression.Compressor
+ * @since 1.0.0
+ */
+public class Lz4Compressor implements Compressor, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	protected static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+	// compressors keep a hash table of the input and cannot be shared between threads
+	private static final ThreadLocal<io.airlift.compress.lz4.Lz4Compressor> COMPRESSOR =
+		ThreadLocal.withInitial(io.airlift.compress.lz4.Lz4Compressor::new);
+
+	private static final Lz4Decompressor DECOMPRESSOR = new Lz4Decompressor();
+
+	@Override
+	public byte[] compress(byte[] input) {
+
+		try {
+
+			io.airlift.compress.lz4.Lz4Compressor compressor = COMPRESSOR.get();
+
+			int maximumLength = compressor.maxCompressedLength(input.length);
+
+			byte[] output = new byte[LENGTH_PREFIX_SIZE + maximumLength];
+
+			ByteBuffer.wrap(output).putInt(input.length);
+
+			int length = compressor.compress(input, 0, input.length, output, LENGTH_PREFIX_SIZE, maximumLength);
+
+			return Arrays.copyOf(output, LENGTH_PREFIX_SIZE + length);
+		}
+		catch (RuntimeException cause) {
+			throw new CompressionException(cause);
+		}
+	}
+
+	@Override
+	public byte[] decompress(byte[] input) {
+
+		try {
+
+			byte[] output = new byte[ByteBuffer.wrap(input).getInt()];
+
+			DECOMPRESSOR.decompress(input, LENGTH_PREFIX_SIZE, input.length - LENGTH_PREFIX_SIZE,
+				output, 0, output.length);
+
+			return output;
+		}
+		catch (RuntimeException cause) {
+			throw new CompressionException(cause);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj == this || (obj != null && getClass().equals(obj.getClass()));
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+}
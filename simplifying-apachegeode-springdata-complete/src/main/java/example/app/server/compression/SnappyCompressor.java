@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.compression;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+
+import io.airlift.compress.snappy.SnappyDecompressor;
+
+/**
+ * The {@link SnappyCompressor} class is an Apache Geode {@link Compressor} compressing {@literal Region} values
+ * in the Snappy format with the pure Java implementation of the {@literal aircompressor} library.
+ *
+ * Unlike Apache Geode's own {@link org.apache.geode.compression.SnappyCompressor}, it does not load a native
+ * library, so it runs on any platform and never leaves the JVM.  Compressed values are compatible with
+ * any other Snappy implementation.
+ *
+ * @author John Blum
+ * @see example.app.model.Compressed
+ * @see org.apache.geode.compression.Compressor
+ * @since 1.0.0
+ */
+public class SnappyCompressor implements Compressor, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	// compressors keep a hash table of the input and cannot be shared between threads
+	private static final ThreadLocal<io.airlift.compress.snappy.SnappyCompressor> COMPRESSOR =
+		ThreadLocal.withInitial(io.airlift.compress.snappy.SnappyCompressor::new);
+
+	private static final SnappyDecompressor DECOMPRESSOR = new SnappyDecompressor();
+
+	@Override
+	public byte[] compress(byte[] input) {
+
+		try {
+
+			io.airlift.compress.snappy.SnappyCompressor compressor = COMPRESSOR.get();
+
+			int maximumLength = compressor.maxCompressedLength(input.length);
+
+			byte[] output = new byte[maximumLength];
+
+			int length = compressor.compress(input, 0, input.length, output, 0, maximumLength);
+
+			return Arrays.copyOf(output, length);
+		}
+		catch (RuntimeException cause) {
+			throw new CompressionException(cause);
+		}
+	}
+
+	@Override
+	public byte[] decompress(byte[] input) {
+
+		try {
+
+			byte[] output = new byte[SnappyDecompressor.getUncompressedLength(input, 0)];
+
+			DECOMPRESSOR.decompress(input, 0, input.length, output, 0, output.length);
+
+			return output;
+		}
+		catch (RuntimeException cause) {
+			throw new CompressionException(cause);
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj == this || (obj != null && getClass().equals(obj.getClass()));
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.indexing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.stereotype.Indexed;
+
+/**
+ * The {@link AsynchronousIndexMaintenance} annotation declares that the {@literal Indexes} of the server
+ * {@literal Region} to which the annotated entity is mapped are updated asynchronously, after a put returns,
+ * rather than on the put path.
+ *
+ * Queries may briefly miss the latest changes, so asynchronous maintenance suits write-heavy {@literal Regions}
+ * queried for data that need not be current to the millisecond.  Apache Geode does not maintain {@literal HASH}
+ * {@literal Indexes} asynchronously, so the entity must declare {@literal FUNCTIONAL} or {@literal KEY}
+ * {@literal Indexes}, and does not support asynchronous maintenance of off-heap {@literal Regions}.
+ *
+ * Asynchronous index maintenance must be enabled on the server with {@link EnableAsynchronousIndexMaintenance}.
+ *
+ * @author John Blum
+ * @see example.app.server.indexing.EnableAsynchronousIndexMaintenance
+ * @see org.apache.geode.cache.RegionAttributes#getIndexMaintenanceSynchronous()
+ * @since 1.0.0
+ */
+@Documented
+@Indexed
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsynchronousIndexMaintenance {
+
+}
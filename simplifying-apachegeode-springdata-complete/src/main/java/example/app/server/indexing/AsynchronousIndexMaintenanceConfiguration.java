@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.indexing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.AttributesFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The {@link AsynchronousIndexMaintenanceConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableAsynchronousIndexMaintenance}, that turns off synchronous index maintenance on the server
+ * {@literal Regions} of {@link AsynchronousIndexMaintenance} annotated entities, and on the {@literal Regions}
+ * named by the {@literal example.app.server.indexing.asynchronous-regions} property.
+ *
+ * Apache Geode rejects {@literal HASH} {@literal Indexes} on these {@literal Regions}, so their entities must
+ * declare {@literal FUNCTIONAL} or {@literal KEY} {@literal Indexes}.  The server fails to start when an entity
+ * found in the base packages and mapped to one of these {@literal Regions} declares a {@literal HASH}
+ * {@literal Index}, rather than failing later, when the {@literal Index} is created.
+ *
+ * @author John Blum
+ * @see example.app.server.indexing.AsynchronousIndexMaintenance
+ * @see example.app.server.indexing.EnableAsynchronousIndexMaintenance
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class AsynchronousIndexMaintenanceConfiguration implements EnvironmentAware, ImportAware {
+
+	protected static final String ASYNCHRONOUS_REGIONS_PROPERTY = "example.app.server.indexing.asynchronous-regions";
+
+	private Environment environment;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableAsynchronousIndexMaintenanceAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableAsynchronousIndexMaintenance.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(
+			enableAsynchronousIndexMaintenanceAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableAsynchronousIndexMaintenanceAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	private Set<String> resolveAsynchronousRegionNames() {
+
+		Set<String> asynchronousRegionNames = new LinkedHashSet<>();
+
+		Arrays.stream(this.environment.getProperty(ASYNCHRONOUS_REGIONS_PROPERTY, String[].class, new String[0]))
+			.map(String::trim)
+			.filter(regionName -> !regionName.isEmpty())
+			.forEach(asynchronousRegionNames::add);
+
+		Map<String, GemfirePersistentEntity<?>> entitiesByRegionName = resolveEntitiesByRegionName();
+
+		entitiesByRegionName.values().stream()
+			.filter(entity -> entity.isAnnotationPresent(AsynchronousIndexMaintenance.class))
+			.map(GemfirePersistentEntity::getRegionName)
+			.forEach(asynchronousRegionNames::add);
+
+		asynchronousRegionNames.stream()
+			.map(entitiesByRegionName::get)
+			.filter(entity -> entity != null)
+			.forEach(AsynchronousIndexMaintenanceConfiguration::assertNoHashIndexes);
+
+		return Collections.unmodifiableSet(asynchronousRegionNames);
+	}
+
+	private Map<String, GemfirePersistentEntity<?>> resolveEntitiesByRegionName() {
+
+		Map<String, GemfirePersistentEntity<?>> entitiesByRegionName = new LinkedHashMap<>();
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		ClassPathScanningCandidateComponentProvider entityScanner =
+			new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+		entityScanner.addIncludeFilter(new AnnotationTypeFilter(AsynchronousIndexMaintenance.class));
+		entityScanner.addIncludeFilter(new AnnotationTypeFilter(Region.class));
+
+		for (String basePackage : this.basePackages) {
+			for (BeanDefinition entity : entityScanner.findCandidateComponents(basePackage)) {
+
+				Class<?> entityType = ClassUtils.resolveClassName(entity.getBeanClassName(),
+					ClassUtils.getDefaultClassLoader());
+
+				GemfirePersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entityType);
+
+				entitiesByRegionName.put(persistentEntity.getRegionName(), persistentEntity);
+			}
+		}
+
+		return entitiesByRegionName;
+	}
+
+	private static void assertNoHashIndexes(GemfirePersistentEntity<?> entity) {
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property ->
+			Optional.ofNullable(property.findAnnotation(Indexed.class))
+				.filter(indexed -> IndexType.HASH.equals(indexed.type()))
+				.ifPresent(indexed -> {
+					throw new IllegalStateException(String.format(
+						"Region [%1$s] maintains its Indexes asynchronously, which Apache Geode does not support"
+							+ " for the HASH Index declared on property [%2$s] of entity [%3$s];"
+							+ " declare a FUNCTIONAL Index or keep the Region's index maintenance synchronous",
+						entity.getRegionName(), property.getName(), entity.getType().getName()));
+				}));
+	}
+
+	@Bean
+	RegionConfigurer asynchronousIndexMaintenanceRegionConfigurer() {
+
+		Set<String> asynchronousRegionNames = resolveAsynchronousRegionNames();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, RegionFactoryBean<?, ?> bean) {
+
+				if (asynchronousRegionNames.contains(beanName)) {
+					configureAsynchronousIndexMaintenance(bean);
+					logger.info(String.format("Maintaining the Indexes of Region [%s] asynchronously", beanName));
+				}
+			}
+		};
+	}
+
+	@SuppressWarnings("deprecation")
+	private static <K, V> void configureAsynchronousIndexMaintenance(RegionFactoryBean<K, V> bean) {
+
+		// start from the attributes set by other RegionConfigurers, such as the PartitionAttributes
+		AttributesFactory<K, V> regionAttributesFactory = Optional.ofNullable(bean.getAttributes())
+			.map(regionAttributes -> new AttributesFactory<>(regionAttributes))
+			.orElseGet(AttributesFactory::new);
+
+		regionAttributesFactory.setIndexMaintenanceSynchronous(false);
+
+		bean.setAttributes(regionAttributesFactory.create());
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.indexing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableAsynchronousIndexMaintenance} annotation makes the server {@literal Regions} of
+ * {@link AsynchronousIndexMaintenance} annotated entities found in the {@link #basePackages()}
+ * or {@link #basePackageClasses()}, and the {@literal Regions} named by the
+ * {@literal example.app.server.indexing.asynchronous-regions} property, update their {@literal Indexes}
+ * asynchronously.
+ *
+ * The {@literal Indexes} themselves are still created by the client's {@literal @EnableIndexing}
+ * and the cluster configuration.
+ *
+ * @author John Blum
+ * @see example.app.server.indexing.AsynchronousIndexMaintenance
+ * @see example.app.server.indexing.AsynchronousIndexMaintenanceConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(AsynchronousIndexMaintenanceConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableAsynchronousIndexMaintenance {
+
+	/**
+	 * Packages scanned for {@link AsynchronousIndexMaintenance} annotated entities.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.partition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * The {@link ParallelQueryFunction} class is a data-aware Apache Geode {@link Function} executing an OQL query
+ * on every server in parallel, each server evaluating the query against only the buckets of the partitioned
+ * {@literal Region} it hosts locally.
+ *
+ * The {@link Function} is called with an {@link Object} array containing the OQL query followed by the array
+ * of query arguments, and streams the results back to the caller in batches of {@link #BATCH_SIZE}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.query.Query#execute(RegionFunctionContext, Object[])
+ * @since 1.0.0
+ */
+public class ParallelQueryFunction implements Function<Object[]> {
+
+	public static final String PARALLEL_QUERY_FUNCTION_ID = "ParallelQuery";
+
+	protected static final int BATCH_SIZE = 500;
+
+	@Override
+	public String getId() {
+		return PARALLEL_QUERY_FUNCTION_ID;
+	}
+
+	@Override
+	public boolean isHA() {
+		return false;
+	}
+
+	@Override
+	public void execute(FunctionContext<Object[]> context) {
+
+		RegionFunctionContext regionFunctionContext = (RegionFunctionContext) context;
+
+		String query = String.valueOf(context.getArguments()[0]);
+
+		Object[] queryArguments = (Object[]) context.getArguments()[1];
+
+		QueryService queryService = regionFunctionContext.getDataSet().getRegionService().getQueryService();
+
+		try {
+
+			SelectResults<?> results = (SelectResults<?>)
+				queryService.newQuery(query).execute(regionFunctionContext, queryArguments);
+
+			ResultSender<List<Object>> resultSender = context.getResultSender();
+
+			List<Object> batch = new ArrayList<>(BATCH_SIZE);
+
+			for (Object result : results) {
+
+				batch.add(result);
+
+				if (batch.size() == BATCH_SIZE) {
+					resultSender.sendResult(batch);
+					batch = new ArrayList<>(BATCH_SIZE);
+				}
+			}
+
+			resultSender.lastResult(batch);
+		}
+		catch (QueryException cause) {
+			throw new FunctionException(String.format("Failed to execute query [%s]", query), cause);
+		}
+	}
+}
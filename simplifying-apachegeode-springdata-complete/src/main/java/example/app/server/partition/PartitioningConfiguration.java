@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.partition;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.cache.AttributesFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.PartitionResolver;
+import org.apache.geode.cache.execute.FunctionService;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.ClassUtils;
+
+import example.app.model.Partitioned;
+
+/**
+ * The {@link PartitioningConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnablePartitioning}, that configures the server {@literal Regions} of {@link Partitioned} annotated entities
+ * as {@link DataPolicy#PARTITION} {@literal Regions} with the declared {@literal PartitionAttributes},
+ * and registers the {@link ParallelQueryFunction}.
+ *
+ * @author John Blum
+ * @see example.app.server.partition.EnablePartitioning
+ * @see example.app.server.partition.ParallelQueryFunction
+ * @see example.app.model.Partitioned
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class PartitioningConfiguration implements EnvironmentAware, ImportAware {
+
+	private Environment environment;
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enablePartitioningAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnablePartitioning.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(enablePartitioningAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enablePartitioningAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	private Map<String, Partitioned> resolvePartitionedRegions() {
+
+		Map<String, Partitioned> partitionedRegions = new HashMap<>();
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		ClassPathScanningCandidateComponentProvider partitionedEntityScanner =
+			new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+		partitionedEntityScanner.addIncludeFilter(new AnnotationTypeFilter(Partitioned.class));
+
+		for (String basePackage : this.basePackages) {
+			for (BeanDefinition partitionedEntity : partitionedEntityScanner.findCandidateComponents(basePackage)) {
+
+				Class<?> entityType = ClassUtils.resolveClassName(partitionedEntity.getBeanClassName(),
+					ClassUtils.getDefaultClassLoader());
+
+				partitionedRegions.put(mappingContext.getRequiredPersistentEntity(entityType).getRegionName(),
+					AnnotationUtils.findAnnotation(entityType, Partitioned.class));
+			}
+		}
+
+		return Collections.unmodifiableMap(partitionedRegions);
+	}
+
+	@Bean
+	RegionConfigurer partitionedRegionConfigurer() {
+
+		Map<String, Partitioned> partitionedRegions = resolvePartitionedRegions();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, RegionFactoryBean<?, ?> bean) {
+				Optional.ofNullable(partitionedRegions.get(beanName))
+					.ifPresent(partitioned -> configurePartitioning(bean, partitioned));
+			}
+		};
+	}
+
+	@SuppressWarnings({ "deprecation", "unchecked" })
+	private static <K, V> void configurePartitioning(RegionFactoryBean<K, V> bean, Partitioned partitioned) {
+
+		PartitionAttributesFactory<K, V> partitionAttributesFactory = new PartitionAttributesFactory<K, V>()
+			.setTotalNumBuckets(partitioned.totalBuckets())
+			.setRedundantCopies(partitioned.redundantCopies());
+
+		if (!PartitionResolver.class.equals(partitioned.partitionResolver())) {
+			partitionAttributesFactory.setPartitionResolver(
+				BeanUtils.instantiateClass(partitioned.partitionResolver()));
+		}
+
+		// keep the attributes set by other RegionConfigurers, such as asynchronous index maintenance
+		AttributesFactory<K, V> regionAttributesFactory = Optional.ofNullable(bean.getAttributes())
+			.map(regionAttributes -> new AttributesFactory<>(regionAttributes))
+			.orElseGet(AttributesFactory::new);
+
+		regionAttributesFactory.setDataPolicy(DataPolicy.PARTITION);
+		regionAttributesFactory.setPartitionAttributes(partitionAttributesFactory.create());
+
+		bean.setAttributes(regionAttributesFactory.create());
+	}
+
+	@Bean
+	ParallelQueryFunction parallelQueryFunction() {
+
+		ParallelQueryFunction parallelQueryFunction = new ParallelQueryFunction();
+
+		FunctionService.registerFunction(parallelQueryFunction);
+
+		return parallelQueryFunction;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableQueryProfiler} annotation profiles every OQL query evaluated by the server with
+ * the {@link QueryProfiler}.
+ *
+ * Queries running longer than the {@literal example.app.server.query-profiler.slow-query-threshold} property,
+ * in milliseconds and defaulting to {@literal 100}, are logged at {@literal WARN}.  The
+ * {@literal example.app.server.query-profiler.top-n} property, defaulting to {@literal 10}, sets the number
+ * of slowest queries kept, and the {@literal example.app.server.query-profiler.maximum-shapes} property,
+ * defaulting to {@literal 100}, bounds the number of query shapes tracked.
+ *
+ * @author John Blum
+ * @see example.app.server.query.QueryProfiler
+ * @see example.app.server.query.QueryProfilerConfiguration
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(QueryProfilerConfiguration.class)
+public @interface EnableQueryProfiler {
+
+}
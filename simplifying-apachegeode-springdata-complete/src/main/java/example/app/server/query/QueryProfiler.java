@@ -0,0 +1,401 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.query.Index;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.internal.CompiledValue;
+import org.apache.geode.cache.query.internal.QueryObserverAdapter;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link QueryProfiler} class is an Apache Geode {@literal QueryObserver} recording, for every OQL query
+ * evaluated by the server, its duration, the {@link Index Indexes} it used, or whether it scanned the Region,
+ * and the number of rows it examined and returned.
+ *
+ * Executions are aggregated per query shape, the query with its literals replaced by {@literal ?}, and the slowest
+ * queries are kept.  Queries slower than the slow query threshold are logged at {@literal WARN}.  The statistics are published
+ * in the {@link MeterRegistry} and through the {@link QueryProfilerMXBean}.
+ *
+ * A query on a partitioned Region is evaluated by every server hosting buckets of the Region, each of which
+ * profiles the evaluation of its own buckets.
+ *
+ * @author John Blum
+ * @see example.app.server.query.QueryProfilerMXBean
+ * @see org.apache.geode.cache.query.internal.QueryObserverAdapter
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @since 1.0.0
+ */
+public class QueryProfiler extends QueryObserverAdapter implements QueryProfilerMXBean {
+
+	public static final String QUERY_EXECUTIONS_METRIC_NAME = "query.executions";
+	public static final String QUERY_ROWS_EXAMINED_METRIC_NAME = "query.rows.examined";
+	public static final String QUERY_ROWS_RETURNED_METRIC_NAME = "query.rows.returned";
+
+	protected static final String OTHER_QUERY_SHAPE = "(other)";
+
+	private static final Pattern NUMERIC_LITERAL_PATTERN =
+		Pattern.compile("(?<![\\w$.])-?\\d+(\\.\\d+)?[dDfFlL]?\\b");
+
+	private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'([^']|'')*'");
+
+	private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+	private static final String[] EMPTY_STRING_ARRAY = new String[0];
+
+	private volatile long slowQueryThreshold;
+
+	private final int maximumShapes;
+	private final int topN;
+
+	private final ConcurrentMap<String, QueryShape> queryShapes = new ConcurrentHashMap<>();
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final LongAdder fullScanCount = new LongAdder();
+	private final LongAdder queryCount = new LongAdder();
+
+	private final MeterRegistry meterRegistry;
+
+	private final PriorityQueue<SlowQuery> slowestQueries =
+		new PriorityQueue<>(Comparator.comparingLong(SlowQuery::getDuration));
+
+	private final ThreadLocal<QueryExecution> currentExecution = new ThreadLocal<>();
+
+	public QueryProfiler(MeterRegistry meterRegistry, long slowQueryThreshold, int topN, int maximumShapes) {
+
+		this.meterRegistry = meterRegistry;
+		this.slowQueryThreshold = slowQueryThreshold;
+		this.topN = topN;
+		this.maximumShapes = maximumShapes;
+	}
+
+	static String toQueryShape(String queryString) {
+
+		String queryShape = STRING_LITERAL_PATTERN.matcher(queryString).replaceAll("?");
+
+		queryShape = NUMERIC_LITERAL_PATTERN.matcher(queryShape).replaceAll("?");
+
+		return WHITESPACE_PATTERN.matcher(queryShape).replaceAll(" ").trim();
+	}
+
+	@Override
+	public void startQuery(Query query) {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null) {
+			execution.depth++;
+		}
+		else {
+			this.currentExecution.set(new QueryExecution(query.getQueryString()));
+		}
+	}
+
+	@Override
+	public void beforeIndexLookup(Index index, int operator, Object key) {
+		recordIndexUse(index);
+	}
+
+	@Override
+	public void beforeIndexLookup(Index index, int lowerBoundOperator, Object lowerBoundKey, int upperBoundOperator,
+			Object upperBoundKey, Set notEqualKeys) {
+
+		recordIndexUse(index);
+	}
+
+	private void recordIndexUse(Index index) {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null && index != null) {
+			execution.indexes.add(index.getName());
+		}
+	}
+
+	@Override
+	public void afterIndexLookup(Collection results) {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null && results != null) {
+			execution.rowsFetched += results.size();
+		}
+	}
+
+	@Override
+	public void beforeIterationEvaluation(CompiledValue executer, Object currentObject) {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null) {
+			execution.rowsIterated++;
+		}
+	}
+
+	@Override
+	public void afterQueryEvaluation(Object result) {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null && execution.depth == 0) {
+			execution.rowsReturned = result instanceof Collection ? ((Collection<?>) result).size()
+				: result != null ? 1 : 0;
+		}
+	}
+
+	@Override
+	public void endQuery() {
+
+		QueryExecution execution = this.currentExecution.get();
+
+		if (execution != null) {
+			if (execution.depth > 0) {
+				execution.depth--;
+			}
+			else {
+				this.currentExecution.remove();
+				record(execution, System.nanoTime() - execution.startTime);
+			}
+		}
+	}
+
+	private void record(QueryExecution execution, long duration) {
+
+		String[] indexes = execution.indexes.toArray(EMPTY_STRING_ARRAY);
+
+		long durationMicros = TimeUnit.NANOSECONDS.toMicros(duration);
+		long rowsExamined = execution.getRowsExamined();
+
+		String queryShape = resolveQueryShape(execution.queryString);
+
+		boolean fullScan = indexes.length == 0;
+
+		this.queryCount.increment();
+
+		if (fullScan) {
+			this.fullScanCount.increment();
+		}
+
+		this.queryShapes.computeIfAbsent(queryShape, QueryShape::new)
+			.record(durationMicros, indexes, rowsExamined, execution.rowsReturned);
+
+		Timer.builder(QUERY_EXECUTIONS_METRIC_NAME)
+			.description("Time spent evaluating OQL queries on the server")
+			.tags("shape", queryShape, "plan", fullScan ? "scan" : "index")
+			.register(this.meterRegistry)
+			.record(duration, TimeUnit.NANOSECONDS);
+
+		DistributionSummary.builder(QUERY_ROWS_EXAMINED_METRIC_NAME)
+			.description("Number of rows examined by OQL queries on the server")
+			.tags("shape", queryShape)
+			.register(this.meterRegistry)
+			.record(rowsExamined);
+
+		DistributionSummary.builder(QUERY_ROWS_RETURNED_METRIC_NAME)
+			.description("Number of rows returned by OQL queries on the server")
+			.tags("shape", queryShape)
+			.register(this.meterRegistry)
+			.record(execution.rowsReturned);
+
+		SlowQuery query = new SlowQuery(execution.queryString, durationMicros, indexes, rowsExamined,
+			execution.rowsReturned, System.currentTimeMillis());
+
+		recordSlowest(query);
+
+		if (TimeUnit.NANOSECONDS.toMillis(duration) >= this.slowQueryThreshold && this.logger.isWarnEnabled()) {
+			this.logger.warn(String.format(
+				"Slow query [%1$s] took %2$d ms with %3$s, examined %4$d and returned %5$d rows",
+				execution.queryString, TimeUnit.NANOSECONDS.toMillis(duration),
+				fullScan ? "a full scan" : "Indexes " + execution.indexes, rowsExamined, execution.rowsReturned));
+		}
+	}
+
+	private String resolveQueryShape(String queryString) {
+
+		String queryShape = toQueryShape(queryString);
+
+		return this.queryShapes.containsKey(queryShape) || this.queryShapes.size() < this.maximumShapes
+			? queryShape
+			: OTHER_QUERY_SHAPE;
+	}
+
+	private void recordSlowest(SlowQuery query) {
+
+		synchronized (this.slowestQueries) {
+			if (this.slowestQueries.size() < this.topN) {
+				this.slowestQueries.add(query);
+			}
+			else if (this.topN > 0 && query.getDuration() > this.slowestQueries.peek().getDuration()) {
+				this.slowestQueries.poll();
+				this.slowestQueries.add(query);
+			}
+		}
+	}
+
+	@Override
+	public long getSlowQueryThreshold() {
+		return this.slowQueryThreshold;
+	}
+
+	@Override
+	public void setSlowQueryThreshold(long slowQueryThreshold) {
+		this.slowQueryThreshold = slowQueryThreshold;
+	}
+
+	@Override
+	public long getQueryCount() {
+		return this.queryCount.sum();
+	}
+
+	@Override
+	public long getFullScanCount() {
+		return this.fullScanCount.sum();
+	}
+
+	@Override
+	public QueryShapeStatistics[] listQueryShapes() {
+
+		return this.queryShapes.values().stream()
+			.map(QueryShape::toStatistics)
+			.sorted(Comparator.comparingLong(QueryShapeStatistics::getTotalTime).reversed())
+			.toArray(QueryShapeStatistics[]::new);
+	}
+
+	@Override
+	public SlowQuery[] listSlowestQueries() {
+
+		List<SlowQuery> slowestQueries;
+
+		synchronized (this.slowestQueries) {
+			slowestQueries = new ArrayList<>(this.slowestQueries);
+		}
+
+		slowestQueries.sort(Comparator.comparingLong(SlowQuery::getDuration).reversed());
+
+		return slowestQueries.toArray(new SlowQuery[0]);
+	}
+
+	@Override
+	public void reset() {
+
+		this.queryShapes.clear();
+		this.fullScanCount.reset();
+		this.queryCount.reset();
+
+		synchronized (this.slowestQueries) {
+			this.slowestQueries.clear();
+		}
+	}
+
+	/**
+	 * Stops profiling queries, unless another {@literal QueryObserver} has since replaced this {@link QueryProfiler}.
+	 */
+	public void close() {
+
+		if (QueryObserverHolder.getInstance() == this) {
+			QueryObserverHolder.reset();
+		}
+	}
+
+	private static class QueryExecution {
+
+		private int depth;
+
+		private long rowsFetched;
+		private long rowsIterated;
+		private long rowsReturned;
+
+		private final long startTime = System.nanoTime();
+
+		private final Set<String> indexes = new LinkedHashSet<>();
+
+		private final String queryString;
+
+		QueryExecution(String queryString) {
+			this.queryString = queryString;
+		}
+
+		// rows iterated over, or, when the Index lookups answer the query by themselves, fetched from the Indexes
+		long getRowsExamined() {
+			return this.rowsIterated > 0 ? this.rowsIterated : this.rowsFetched;
+		}
+	}
+
+	private static class QueryShape {
+
+		private final LongAccumulator maximumTime = new LongAccumulator(Math::max, 0L);
+
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder fullScans = new LongAdder();
+		private final LongAdder rowsExamined = new LongAdder();
+		private final LongAdder rowsReturned = new LongAdder();
+		private final LongAdder totalTime = new LongAdder();
+
+		private final Set<String> indexes = ConcurrentHashMap.newKeySet();
+
+		private final String shape;
+
+		QueryShape(String shape) {
+			this.shape = shape;
+		}
+
+		void record(long duration, String[] indexes, long rowsExamined, long rowsReturned) {
+
+			this.executions.increment();
+			this.totalTime.add(duration);
+			this.maximumTime.accumulate(duration);
+			this.rowsExamined.add(rowsExamined);
+			this.rowsReturned.add(rowsReturned);
+
+			if (indexes.length == 0) {
+				this.fullScans.increment();
+			}
+
+			for (String index : indexes) {
+				this.indexes.add(index);
+			}
+		}
+
+		QueryShapeStatistics toStatistics() {
+
+			return new QueryShapeStatistics(this.shape, this.executions.sum(), this.totalTime.sum(),
+				this.maximumTime.get(), this.fullScans.sum(), this.indexes.toArray(EMPTY_STRING_ARRAY),
+				this.rowsExamined.sum(), this.rowsReturned.sum());
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+import javax.management.ObjectName;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.internal.MBeanJMXAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link QueryProfilerConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableQueryProfiler}, that installs the {@link QueryProfiler} as the server's {@literal QueryObserver}
+ * and registers it with the server's {@link ManagementService}, which federates it to the manager.
+ *
+ * @author John Blum
+ * @see example.app.server.query.EnableQueryProfiler
+ * @see example.app.server.query.QueryProfiler
+ * @see org.apache.geode.management.ManagementService
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class QueryProfilerConfiguration {
+
+	// the member key is appended by the ManagementService on registration
+	protected static final String QUERY_PROFILER_OBJECT_NAME = "GemFire:service=QueryProfiler,type=Member";
+
+	@Bean
+	QueryProfiler queryProfiler(ObjectProvider<MeterRegistry> meterRegistry,
+			@Value("${example.app.server.query-profiler.slow-query-threshold:100}") long slowQueryThreshold,
+			@Value("${example.app.server.query-profiler.top-n:10}") int topN,
+			@Value("${example.app.server.query-profiler.maximum-shapes:100}") int maximumShapes) {
+
+		return new QueryProfiler(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), slowQueryThreshold,
+			topN, maximumShapes);
+	}
+
+	@Bean
+	SmartInitializingSingleton queryProfilerInitializer(Cache cache, QueryProfiler queryProfiler) {
+
+		return () -> {
+
+			QueryObserverHolder.setInstance(queryProfiler);
+
+			ManagementService managementService = ManagementService.getManagementService(cache);
+
+			ObjectName objectName = managementService.registerMBean(queryProfiler,
+				MBeanJMXAdapter.getObjectName(QUERY_PROFILER_OBJECT_NAME));
+
+			managementService.federate(objectName, QueryProfilerMXBean.class, false);
+		};
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+/**
+ * The {@link QueryProfilerMXBean} interface is the management interface of the {@link QueryProfiler}, registered
+ * with every server and federated to the manager, where it is named
+ * {@literal GemFire:service=QueryProfiler,type=Member,member=<member>}.
+ *
+ * @author John Blum
+ * @see example.app.server.query.QueryProfiler
+ * @since 1.0.0
+ */
+public interface QueryProfilerMXBean {
+
+	/**
+	 * Duration, in milliseconds, above which a query is logged as slow.
+	 */
+	long getSlowQueryThreshold();
+
+	void setSlowQueryThreshold(long slowQueryThreshold);
+
+	/**
+	 * Number of queries evaluated by the server since the last {@link #reset()}.
+	 */
+	long getQueryCount();
+
+	/**
+	 * Number of queries evaluated by the server without using any Index since the last {@link #reset()}.
+	 */
+	long getFullScanCount();
+
+	/**
+	 * Statistics of every query shape, the query with its literals replaced by {@literal ?}, evaluated by the server.
+	 */
+	QueryShapeStatistics[] listQueryShapes();
+
+	/**
+	 * Slowest queries evaluated by the server, slowest first.
+	 */
+	SlowQuery[] listSlowestQueries();
+
+	/**
+	 * Clears the statistics collected so far.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The {@link QueryShapeStatistics} class is a snapshot of the executions of a query shape, a query with
+ * its literals replaced by {@literal ?}, as published by the {@link QueryProfilerMXBean}.
+ *
+ * @author John Blum
+ * @see example.app.server.query.QueryProfilerMXBean
+ * @since 1.0.0
+ */
+public class QueryShapeStatistics {
+
+	private final long executions;
+	private final long fullScans;
+	private final long maximumTime;
+	private final long rowsExamined;
+	private final long rowsReturned;
+	private final long totalTime;
+
+	private final String shape;
+
+	private final String[] indexes;
+
+	@ConstructorProperties({ "shape", "executions", "totalTime", "maximumTime", "fullScans", "indexes",
+		"rowsExamined", "rowsReturned" })
+	public QueryShapeStatistics(String shape, long executions, long totalTime, long maximumTime, long fullScans,
+			String[] indexes, long rowsExamined, long rowsReturned) {
+
+		this.shape = shape;
+		this.executions = executions;
+		this.totalTime = totalTime;
+		this.maximumTime = maximumTime;
+		this.fullScans = fullScans;
+		this.indexes = indexes;
+		this.rowsExamined = rowsExamined;
+		this.rowsReturned = rowsReturned;
+	}
+
+	public String getShape() {
+		return this.shape;
+	}
+
+	public long getExecutions() {
+		return this.executions;
+	}
+
+	/**
+	 * Time, in microseconds, spent evaluating the query shape.
+	 */
+	public long getTotalTime() {
+		return this.totalTime;
+	}
+
+	/**
+	 * Longest evaluation, in microseconds, of the query shape.
+	 */
+	public long getMaximumTime() {
+		return this.maximumTime;
+	}
+
+	/**
+	 * Number of executions that used no Index.
+	 */
+	public long getFullScans() {
+		return this.fullScans;
+	}
+
+	/**
+	 * Names of the Indexes used by any execution.
+	 */
+	public String[] getIndexes() {
+		return this.indexes;
+	}
+
+	public long getRowsExamined() {
+		return this.rowsExamined;
+	}
+
+	public long getRowsReturned() {
+		return this.rowsReturned;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.query;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The {@link SlowQuery} class records one of the slowest queries evaluated by the server, as published by
+ * the {@link QueryProfilerMXBean}.
+ *
+ * @author John Blum
+ * @see example.app.server.query.QueryProfilerMXBean
+ * @since 1.0.0
+ */
+public class SlowQuery {
+
+	private final long duration;
+	private final long rowsExamined;
+	private final long rowsReturned;
+	private final long timestamp;
+
+	private final String query;
+
+	private final String[] indexes;
+
+	@ConstructorProperties({ "query", "duration", "indexes", "rowsExamined", "rowsReturned", "timestamp" })
+	public SlowQuery(String query, long duration, String[] indexes, long rowsExamined, long rowsReturned,
+			long timestamp) {
+
+		this.query = query;
+		this.duration = duration;
+		this.indexes = indexes;
+		this.rowsExamined = rowsExamined;
+		this.rowsReturned = rowsReturned;
+		this.timestamp = timestamp;
+	}
+
+	public String getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Time, in microseconds, spent evaluating the query.
+	 */
+	public long getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * Names of the Indexes used by the query; empty when the query scanned the Region.
+	 */
+	public String[] getIndexes() {
+		return this.indexes;
+	}
+
+	public long getRowsExamined() {
+		return this.rowsExamined;
+	}
+
+	public long getRowsReturned() {
+		return this.rowsReturned;
+	}
+
+	/**
+	 * Time, in milliseconds since the epoch, at which the query completed.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.rebalance;
+
+import org.apache.geode.cache.Cache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link AutoRebalanceConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableAutoRebalance}, that starts the {@link AutoRebalancer} once the server's {@link Cache} is created.
+ *
+ * The number of buckets moved concurrently is not set here.  Apache Geode reads it only from the
+ * {@literal gemfire.MAX_PARALLEL_BUCKET_RECOVERIES} System property, once, when its classes are loaded, so it must be
+ * set when the server is launched, before the {@link Cache} is created, as described by {@link EnableAutoRebalance}.
+ *
+ * @author John Blum
+ * @see example.app.server.rebalance.AutoRebalancer
+ * @see example.app.server.rebalance.EnableAutoRebalance
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class AutoRebalanceConfiguration {
+
+	@Bean(initMethod = "start")
+	AutoRebalancer autoRebalancer(Cache cache, ObjectProvider<MeterRegistry> meterRegistry,
+			@Value("${example.app.server.rebalance.delay:10000}") long rebalanceDelay,
+			@Value("${example.app.server.rebalance.check-interval:60000}") long checkInterval,
+			@Value("${example.app.server.rebalance.load-skew-threshold:10.0}") float loadSkewThreshold,
+			@Value("${example.app.server.rebalance.region-pause:1000}") long regionPause) {
+
+		return new AutoRebalancer(cache, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+			rebalanceDelay, checkInterval, loadSkewThreshold, regionPause);
+	}
+}
@@ -0,0 +1,292 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.rebalance;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.control.RebalanceResults;
+import org.apache.geode.cache.control.ResourceManager;
+import org.apache.geode.cache.partition.PartitionMemberInfo;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.apache.geode.cache.partition.PartitionRegionInfo;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.management.ManagementService;
+import org.apache.geode.management.membership.MembershipEvent;
+import org.apache.geode.management.membership.MembershipListener;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link AutoRebalancer} class rebalances the partitioned Regions of the cluster when a member joins or leaves,
+ * and when the load of the cluster's members is skewed past a threshold.
+ *
+ * A rebalance is scheduled after a delay following a membership change, giving a new server time to create its
+ * Regions, and further changes within the delay are handled by a single rebalance.  The load is checked periodically
+ * by simulating a rebalance, which is considered skewed when the simulation would move more than the threshold
+ * percentage of the partitioned data or of the primary buckets.
+ *
+ * Only one member of the cluster rebalances at a time, guarded by a {@link DistributedLockService} lock.  Regions are
+ * rebalanced one at a time with a pause in between to limit the impact on foreground operations.  The bucket
+ * and primary moves and their timings are logged and recorded in the {@link MeterRegistry}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.control.RebalanceFactory
+ * @see org.apache.geode.distributed.DistributedLockService
+ * @see org.apache.geode.management.membership.MembershipListener
+ * @since 1.0.0
+ */
+public class AutoRebalancer implements MembershipListener, AutoCloseable {
+
+	public static final String REBALANCE_BUCKET_TRANSFERS_METRIC_NAME = "rebalance.bucket.transfers";
+	public static final String REBALANCE_BUCKET_TRANSFER_BYTES_METRIC_NAME = "rebalance.bucket.transfer.bytes";
+	public static final String REBALANCE_PRIMARY_TRANSFERS_METRIC_NAME = "rebalance.primary.transfers";
+	public static final String REBALANCE_TIME_METRIC_NAME = "rebalance.time";
+
+	protected static final String REBALANCE_LOCK_NAME = "rebalance";
+	protected static final String REBALANCE_LOCK_SERVICE_NAME = "AutoRebalance";
+
+	private final Cache cache;
+
+	private final float loadSkewThreshold;
+
+	private final long checkInterval;
+	private final long rebalanceDelay;
+	private final long regionPause;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final MeterRegistry meterRegistry;
+
+	private final ScheduledExecutorService rebalanceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+		Thread rebalanceThread = new Thread(runnable, "AutoRebalanceThread");
+
+		rebalanceThread.setDaemon(true);
+
+		return rebalanceThread;
+	});
+
+	private ScheduledFuture<?> scheduledRebalance;
+
+	public AutoRebalancer(Cache cache, MeterRegistry meterRegistry, long rebalanceDelay, long checkInterval,
+			float loadSkewThreshold, long regionPause) {
+
+		Assert.notNull(cache, "Cache is required");
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+		Assert.isTrue(rebalanceDelay >= 0, String.format("Rebalance delay [%d] must be greater than or equal to 0",
+			rebalanceDelay));
+
+		this.cache = cache;
+		this.meterRegistry = meterRegistry;
+		this.rebalanceDelay = rebalanceDelay;
+		this.checkInterval = checkInterval;
+		this.loadSkewThreshold = loadSkewThreshold;
+		this.regionPause = regionPause;
+	}
+
+	/**
+	 * Starts listening for membership changes and, when the check interval is greater than {@literal 0},
+	 * checking the load of the cluster.
+	 */
+	public void start() {
+
+		ManagementService.getManagementService(this.cache).addMembershipListener(this);
+
+		if (this.checkInterval > 0) {
+			this.rebalanceExecutor.scheduleWithFixedDelay(this::rebalanceIfSkewed, this.checkInterval,
+				this.checkInterval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void memberJoined(MembershipEvent event) {
+		scheduleRebalance(String.format("member [%s] joined", event.getMemberId()));
+	}
+
+	@Override
+	public void memberLeft(MembershipEvent event) {
+		scheduleRebalance(String.format("member [%s] left", event.getMemberId()));
+	}
+
+	@Override
+	public void memberCrashed(MembershipEvent event) {
+		scheduleRebalance(String.format("member [%s] crashed", event.getMemberId()));
+	}
+
+	private synchronized void scheduleRebalance(String reason) {
+
+		if (this.scheduledRebalance != null) {
+			this.scheduledRebalance.cancel(false);
+		}
+
+		this.scheduledRebalance = this.rebalanceExecutor.schedule(() -> rebalance("membership", reason),
+			this.rebalanceDelay, TimeUnit.MILLISECONDS);
+	}
+
+	private void rebalanceIfSkewed() {
+
+		try {
+
+			ResourceManager resourceManager = this.cache.getResourceManager();
+
+			RebalanceResults simulation = resourceManager.createRebalanceFactory().simulate().getResults();
+
+			long totalBytes = 0L;
+			long totalPrimaries = 0L;
+
+			for (PartitionRegionInfo partitionRegionInfo : PartitionRegionHelper.getPartitionRegionInfo(this.cache)) {
+				for (PartitionMemberInfo partitionMemberInfo : partitionRegionInfo.getPartitionMemberInfo()) {
+					totalBytes += partitionMemberInfo.getSize();
+					totalPrimaries += partitionMemberInfo.getPrimaryCount();
+				}
+			}
+
+			float dataSkew = percentage(simulation.getTotalBucketTransferBytes(), totalBytes);
+			float primarySkew = percentage(simulation.getTotalPrimaryTransfersCompleted(), totalPrimaries);
+
+			if (Math.max(dataSkew, primarySkew) > this.loadSkewThreshold) {
+				rebalance("load-skew", String.format("load skewed by [%.1f%%] of data and [%.1f%%] of primaries",
+					dataSkew, primarySkew));
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException cause) {
+			this.logger.warn("Failed to check the load of the cluster", cause);
+		}
+	}
+
+	private float percentage(long value, long total) {
+		return total > 0 ? value * 100.0f / total : 0.0f;
+	}
+
+	/**
+	 * Rebalances every partitioned Region of the cluster, one Region at a time, unless another member
+	 * is already rebalancing.
+	 *
+	 * @param trigger kind of event that triggered the rebalance, used to tag the metrics.
+	 * @param reason description of the event that triggered the rebalance.
+	 */
+	protected void rebalance(String trigger, String reason) {
+
+		DistributedLockService lockService = resolveLockService();
+
+		if (!lockService.lock(REBALANCE_LOCK_NAME, 0L, -1L)) {
+			this.logger.info(String.format("Skipping rebalance after %s; another member is rebalancing", reason));
+			return;
+		}
+
+		try {
+
+			boolean pause = false;
+
+			for (PartitionRegionInfo partitionRegionInfo : PartitionRegionHelper.getPartitionRegionInfo(this.cache)) {
+
+				// colocated Regions are rebalanced with the Region they are colocated with
+				if (partitionRegionInfo.getColocatedWith() == null) {
+
+					if (pause) {
+						Thread.sleep(this.regionPause);
+					}
+
+					rebalance(partitionRegionInfo.getRegionPath(), trigger, reason);
+
+					pause = this.regionPause > 0;
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException cause) {
+			this.logger.error(String.format("Failed to rebalance after %s", reason), cause);
+		}
+		finally {
+			lockService.unlock(REBALANCE_LOCK_NAME);
+		}
+	}
+
+	private void rebalance(String regionPath, String trigger, String reason) throws InterruptedException {
+
+		Set<String> includedRegions = Collections.singleton(regionPath);
+
+		RebalanceResults results = this.cache.getResourceManager().createRebalanceFactory()
+			.includeRegions(includedRegions)
+			.start()
+			.getResults();
+
+		this.logger.info(String.format("Rebalanced Region [%1$s] after %2$s in %3$d ms: moved [%4$d] buckets"
+				+ " ([%5$d] bytes) in %6$d ms, created [%7$d] buckets in %8$d ms"
+				+ " and moved [%9$d] primaries in %10$d ms",
+			regionPath, reason, results.getTotalTime(), results.getTotalBucketTransfersCompleted(),
+			results.getTotalBucketTransferBytes(), results.getTotalBucketTransferTime(),
+			results.getTotalBucketCreatesCompleted(), results.getTotalBucketCreateTime(),
+			results.getTotalPrimaryTransfersCompleted(), results.getTotalPrimaryTransferTime()));
+
+		Timer.builder(REBALANCE_TIME_METRIC_NAME)
+			.description("Time taken to rebalance a partitioned Region")
+			.tags("region", regionPath, "trigger", trigger)
+			.register(this.meterRegistry)
+			.record(results.getTotalTime(), TimeUnit.MILLISECONDS);
+
+		Counter.builder(REBALANCE_BUCKET_TRANSFERS_METRIC_NAME)
+			.description("Number of buckets moved by rebalancing")
+			.tags("region", regionPath)
+			.register(this.meterRegistry)
+			.increment(results.getTotalBucketTransfersCompleted());
+
+		Counter.builder(REBALANCE_BUCKET_TRANSFER_BYTES_METRIC_NAME)
+			.description("Number of bytes moved by rebalancing")
+			.tags("region", regionPath)
+			.register(this.meterRegistry)
+			.increment(results.getTotalBucketTransferBytes());
+
+		Counter.builder(REBALANCE_PRIMARY_TRANSFERS_METRIC_NAME)
+			.description("Number of primary buckets moved by rebalancing")
+			.tags("region", regionPath)
+			.register(this.meterRegistry)
+			.increment(results.getTotalPrimaryTransfersCompleted());
+	}
+
+	private DistributedLockService resolveLockService() {
+
+		DistributedLockService lockService = DistributedLockService.getServiceNamed(REBALANCE_LOCK_SERVICE_NAME);
+
+		return lockService != null ? lockService
+			: DistributedLockService.create(REBALANCE_LOCK_SERVICE_NAME, this.cache.getDistributedSystem());
+	}
+
+	@Override
+	public void close() {
+
+		ManagementService.getManagementService(this.cache).removeMembershipListener(this);
+
+		this.rebalanceExecutor.shutdownNow();
+	}
+}
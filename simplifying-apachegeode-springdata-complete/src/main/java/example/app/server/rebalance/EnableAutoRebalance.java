@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.rebalance;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableAutoRebalance} annotation makes the server rebalance the cluster's partitioned Regions with
+ * the {@link AutoRebalancer} when members join or leave the cluster and when their load is skewed.
+ *
+ * The rebalance is configured with the following properties:
+ *
+ * <ul>
+ *     <li>{@literal example.app.server.rebalance.delay} - time, in milliseconds, between a membership change
+ *     and the rebalance, defaulting to {@literal 10000}.</li>
+ *     <li>{@literal example.app.server.rebalance.check-interval} - time, in milliseconds, between checks of the load,
+ *     defaulting to {@literal 60000}; {@literal 0} disables the checks.</li>
+ *     <li>{@literal example.app.server.rebalance.load-skew-threshold} - percentage of the data or of the primary
+ *     buckets that a rebalance would move above which the load is skewed, defaulting to {@literal 10}.</li>
+ *     <li>{@literal example.app.server.rebalance.region-pause} - time, in milliseconds, between the rebalance
+ *     of two Regions, defaulting to {@literal 1000}.</li>
+ * </ul>
+ *
+ * The number of buckets moved concurrently is throttled by launching the server with
+ * {@literal -Dgemfire.MAX_PARALLEL_BUCKET_RECOVERIES=1}; Apache Geode otherwise moves up to {@literal 8} at once.
+ * Geode reads this System property only once, when its classes are loaded, so it cannot be set from the Spring
+ * {@literal Environment} and must be set before the {@link org.apache.geode.cache.Cache} is created.  The property
+ * also throttles redundancy recovery after a member leaves, which leaves buckets with fewer redundant copies
+ * for longer.
+ *
+ * @author John Blum
+ * @see example.app.server.rebalance.AutoRebalanceConfiguration
+ * @see example.app.server.rebalance.AutoRebalancer
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(AutoRebalanceConfiguration.class)
+public @interface EnableAutoRebalance {
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.writebehind;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+import example.app.model.WriteBehind;
+
+/**
+ * The {@link EnableWriteBehind} annotation applies the {@link WriteBehind} declarations of entities found in
+ * the {@link #basePackages()} or {@link #basePackageClasses()} to the entity-defined {@literal Regions}
+ * of the server.
+ *
+ * Writes are dispatched to the application's {@link WriteBehindSink} bean, or to a {@link FileWriteBehindSink}
+ * appending to files in the directory named by the {@literal example.app.server.write-behind.directory}
+ * property when none is declared.
+ *
+ * @author John Blum
+ * @see example.app.model.WriteBehind
+ * @see example.app.server.writebehind.WriteBehindConfiguration
+ * @see example.app.server.writebehind.WriteBehindSink
+ * @since 1.0.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Import(WriteBehindConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableWriteBehind {
+
+	/**
+	 * Packages scanned for {@link WriteBehind} annotated entities.
+	 */
+	String[] basePackages() default {};
+
+	/**
+	 * Type-safe alternative to {@link #basePackages()}.
+	 */
+	Class<?>[] basePackageClasses() default {};
+
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.writebehind;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link FileWriteBehindSink} class is a file-based {@link WriteBehindSink}, standing in for a system of record
+ * in development and tests, that keeps every entry of a {@literal Region} as a file named after its key
+ * in a directory named after the {@literal Region}.
+ *
+ * {@link PdxInstance PDX} values are written as JSON, other values as their {@link Object#toString() String} form.
+ * Files are replaced atomically, so rewriting a redelivered batch is harmless.
+ *
+ * @author John Blum
+ * @see example.app.server.writebehind.WriteBehindSink
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @since 1.0.0
+ */
+public class FileWriteBehindSink implements WriteBehindSink {
+
+	private final Path directory;
+
+	public FileWriteBehindSink(Path directory) {
+
+		Assert.notNull(directory, "Directory is required");
+
+		this.directory = directory;
+	}
+
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	@Override
+	public void write(String regionName, Map<Object, Object> upserts, Collection<Object> deletes) throws IOException {
+
+		Path regionDirectory = Files.createDirectories(this.directory.resolve(regionName));
+
+		for (Map.Entry<Object, Object> entry : upserts.entrySet()) {
+
+			Path file = resolveFile(regionDirectory, entry.getKey());
+			Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+			Files.write(temporaryFile, toJson(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+			Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		for (Object key : deletes) {
+			Files.deleteIfExists(resolveFile(regionDirectory, key));
+		}
+	}
+
+	private Path resolveFile(Path regionDirectory, Object key) throws UnsupportedEncodingException {
+		return regionDirectory.resolve(URLEncoder.encode(String.valueOf(key), StandardCharsets.UTF_8.name()) + ".json");
+	}
+
+	private String toJson(Object value) {
+		return value instanceof PdxInstance ? JSONFormatter.toJSON((PdxInstance) value) : String.valueOf(value);
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.writebehind;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.asyncqueue.AsyncEvent;
+import org.apache.geode.cache.asyncqueue.AsyncEventListener;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The {@link WriteBehindAsyncEventListener} class is an Apache Geode {@link AsyncEventListener} writing each batch
+ * of {@link AsyncEvent AsyncEvents} dequeued from a write-behind {@literal AsyncEventQueue}
+ * to the {@link WriteBehindSink}.
+ *
+ * Events are reduced to the latest change of every key, grouped by {@literal Region}.  When the sink fails,
+ * the failure is logged and the whole batch is left in the queue and redelivered, after a delay doubling
+ * with every attempt up to {@link #MAXIMUM_RETRY_DELAY} ms.  Once the batch has been retried the maximum number
+ * of times, it is written to the dead letter {@link WriteBehindSink} instead and removed from the queue,
+ * so that later changes are not held up behind it.  A negative maximum retries the batch indefinitely.
+ *
+ * The number of batches written, retried and dead-lettered are published to the {@link MeterRegistry}
+ * as {@literal write-behind.batches}, by queue and outcome.
+ *
+ * @author John Blum
+ * @see example.app.server.writebehind.WriteBehindSink
+ * @see org.apache.geode.cache.asyncqueue.AsyncEventListener
+ * @since 1.0.0
+ */
+public class WriteBehindAsyncEventListener implements AsyncEventListener {
+
+	public static final String BATCHES_METRIC_NAME = "write-behind.batches";
+
+	protected static final long INITIAL_RETRY_DELAY = 100L;
+	protected static final long MAXIMUM_RETRY_DELAY = TimeUnit.SECONDS.toMillis(10);
+
+	private final Counter deadLetteredBatches;
+	private final Counter retriedBatches;
+	private final Counter writtenBatches;
+
+	private final int maximumRetries;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final String queueId;
+
+	// a failed batch is redelivered to the same dispatcher thread until it is removed from the queue
+	private final ThreadLocal<Integer> failedAttempts = ThreadLocal.withInitial(() -> 0);
+
+	private final WriteBehindSink deadLetterSink;
+	private final WriteBehindSink sink;
+
+	public WriteBehindAsyncEventListener(String queueId, WriteBehindSink sink, WriteBehindSink deadLetterSink,
+			int maximumRetries, MeterRegistry meterRegistry) {
+
+		Assert.hasText(queueId, "Queue ID is required");
+		Assert.notNull(sink, "WriteBehindSink is required");
+		Assert.notNull(deadLetterSink, "Dead letter WriteBehindSink is required");
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+
+		this.queueId = queueId;
+		this.sink = sink;
+		this.deadLetterSink = deadLetterSink;
+		this.maximumRetries = maximumRetries;
+		this.deadLetteredBatches = newBatchCounter(meterRegistry, "dead-lettered");
+		this.retriedBatches = newBatchCounter(meterRegistry, "retried");
+		this.writtenBatches = newBatchCounter(meterRegistry, "written");
+	}
+
+	private Counter newBatchCounter(MeterRegistry meterRegistry, String outcome) {
+
+		return Counter.builder(BATCHES_METRIC_NAME)
+			.description("Number of write-behind batches by outcome")
+			.tags("queue", this.queueId, "outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public boolean processEvents(List<AsyncEvent> events) {
+
+		Map<String, Map<Object, Object>> upserts = new LinkedHashMap<>();
+		Map<String, Collection<Object>> deletes = new LinkedHashMap<>();
+
+		for (AsyncEvent event : events) {
+
+			String regionName = event.getRegion().getName();
+
+			Map<Object, Object> regionUpserts = upserts.computeIfAbsent(regionName, it -> new LinkedHashMap<>());
+			Collection<Object> regionDeletes = deletes.computeIfAbsent(regionName, it -> new LinkedHashSet<>());
+
+			if (event.getOperation().isDestroy()) {
+				regionUpserts.remove(event.getKey());
+				regionDeletes.add(event.getKey());
+			}
+			else if (event.getOperation().isCreate() || event.getOperation().isUpdate()) {
+				regionDeletes.remove(event.getKey());
+				regionUpserts.put(event.getKey(), event.getDeserializedValue());
+			}
+		}
+
+		try {
+
+			write(this.sink, upserts, deletes);
+
+			this.failedAttempts.remove();
+			this.writtenBatches.increment();
+
+			return true;
+		}
+		catch (Exception cause) {
+
+			int attempts = this.failedAttempts.get() + 1;
+
+			if (this.maximumRetries < 0 || attempts <= this.maximumRetries) {
+
+				this.logger.warn(String.format("Failed to write a batch of [%1$d] events from [%2$s];"
+					+ " retrying, attempt [%3$d]", events.size(), this.queueId, attempts), cause);
+
+				this.failedAttempts.set(attempts);
+				this.retriedBatches.increment();
+
+				pause(retryDelay(attempts));
+
+				return false;
+			}
+
+			this.failedAttempts.remove();
+
+			deadLetter(events.size(), upserts, deletes, cause);
+
+			return true;
+		}
+	}
+
+	private void write(WriteBehindSink sink, Map<String, Map<Object, Object>> upserts,
+			Map<String, Collection<Object>> deletes) throws Exception {
+
+		for (Map.Entry<String, Map<Object, Object>> regionUpserts : upserts.entrySet()) {
+			sink.write(regionUpserts.getKey(), regionUpserts.getValue(), deletes.get(regionUpserts.getKey()));
+		}
+	}
+
+	private void deadLetter(int eventCount, Map<String, Map<Object, Object>> upserts,
+			Map<String, Collection<Object>> deletes, Exception cause) {
+
+		this.deadLetteredBatches.increment();
+
+		try {
+
+			write(this.deadLetterSink, upserts, deletes);
+
+			this.logger.error(String.format("Gave up writing a batch of [%1$d] events from [%2$s] after [%3$d]"
+				+ " retries; the batch was written to the dead letter sink", eventCount, this.queueId,
+				this.maximumRetries), cause);
+		}
+		catch (Exception deadLetterCause) {
+
+			this.logger.error(String.format("Gave up writing a batch of [%1$d] events from [%2$s] after [%3$d]"
+				+ " retries; the batch could not be written to the dead letter sink either and was discarded;"
+				+ " upserted keys %4$s, deleted keys %5$s", eventCount, this.queueId, this.maximumRetries,
+				keys(upserts), deletes), cause);
+
+			this.logger.error("Dead letter sink failure", deadLetterCause);
+		}
+	}
+
+	private Map<String, ?> keys(Map<String, Map<Object, Object>> upserts) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		upserts.forEach((regionName, regionUpserts) -> keys.put(regionName, regionUpserts.keySet()));
+
+		return keys;
+	}
+
+	private long retryDelay(int attempts) {
+		return Math.min(INITIAL_RETRY_DELAY << Math.min(attempts - 1, 20), MAXIMUM_RETRY_DELAY);
+	}
+
+	private void pause(long milliseconds) {
+
+		try {
+			Thread.sleep(milliseconds);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.writebehind;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueue;
+import org.apache.geode.cache.asyncqueue.AsyncEventQueueFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.gemfire.RegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.RegionConfigurer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import example.app.model.WriteBehind;
+
+/**
+ * The {@link WriteBehindConfiguration} class is a Spring {@link Configuration} class, imported by
+ * {@link EnableWriteBehind}, that creates an {@link AsyncEventQueue}, shaped by the entity's {@link WriteBehind}
+ * declaration, for the server {@literal Region} of every {@link WriteBehind} annotated entity and attaches
+ * the queue to the {@literal Region}.
+ *
+ * Batches given up on are written as files to the directory named by the
+ * {@literal example.app.server.write-behind.dead-letter-directory} property, defaulting to
+ * {@literal write-behind-dead-letters} in the server's working directory.
+ *
+ * @author John Blum
+ * @see example.app.server.writebehind.EnableWriteBehind
+ * @see example.app.model.WriteBehind
+ * @see example.app.server.writebehind.WriteBehindAsyncEventListener
+ * @see org.springframework.data.gemfire.config.annotation.RegionConfigurer
+ * @since 1.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class WriteBehindConfiguration implements EnvironmentAware, ImportAware {
+
+	protected static final String WRITE_BEHIND_QUEUE_ID_SUFFIX = "WriteBehindQueue";
+
+	private Environment environment;
+
+	private final Set<String> basePackages = new LinkedHashSet<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		AnnotationAttributes enableWriteBehindAttributes = AnnotationAttributes.fromMap(
+			importMetadata.getAnnotationAttributes(EnableWriteBehind.class.getName()));
+
+		this.basePackages.addAll(Arrays.asList(enableWriteBehindAttributes.getStringArray("basePackages")));
+
+		Arrays.stream(enableWriteBehindAttributes.getClassArray("basePackageClasses"))
+			.map(ClassUtils::getPackageName)
+			.forEach(this.basePackages::add);
+	}
+
+	private Map<String, WriteBehind> resolveWriteBehindRegions() {
+
+		Map<String, WriteBehind> writeBehindRegions = new HashMap<>();
+
+		GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+		ClassPathScanningCandidateComponentProvider writeBehindEntityScanner =
+			new ClassPathScanningCandidateComponentProvider(false, this.environment);
+
+		writeBehindEntityScanner.addIncludeFilter(new AnnotationTypeFilter(WriteBehind.class));
+
+		for (String basePackage : this.basePackages) {
+			for (BeanDefinition writeBehindEntity : writeBehindEntityScanner.findCandidateComponents(basePackage)) {
+
+				Class<?> entityType = ClassUtils.resolveClassName(writeBehindEntity.getBeanClassName(),
+					ClassUtils.getDefaultClassLoader());
+
+				writeBehindRegions.put(mappingContext.getRequiredPersistentEntity(entityType).getRegionName(),
+					AnnotationUtils.findAnnotation(entityType, WriteBehind.class));
+			}
+		}
+
+		return Collections.unmodifiableMap(writeBehindRegions);
+	}
+
+	@Bean
+	RegionConfigurer writeBehindRegionConfigurer(ObjectProvider<Cache> cache, ObjectProvider<WriteBehindSink> sink,
+			ObjectProvider<MeterRegistry> meterRegistry,
+			@Value("${example.app.server.write-behind.directory:write-behind}") String directory,
+			@Value("${example.app.server.write-behind.dead-letter-directory:write-behind-dead-letters}")
+				String deadLetterDirectory) {
+
+		Map<String, WriteBehind> writeBehindRegions = resolveWriteBehindRegions();
+
+		return new RegionConfigurer() {
+
+			@Override
+			public void configure(String beanName, RegionFactoryBean<?, ?> bean) {
+				Optional.ofNullable(writeBehindRegions.get(beanName))
+					.ifPresent(writeBehind -> bean.setAsyncEventQueues(new AsyncEventQueue[] {
+						newWriteBehindQueue(cache.getObject(), beanName, writeBehind,
+							sink.getIfAvailable(() -> new FileWriteBehindSink(Paths.get(directory))),
+							new FileWriteBehindSink(Paths.get(deadLetterDirectory)),
+							meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+					}));
+			}
+		};
+	}
+
+	private static AsyncEventQueue newWriteBehindQueue(Cache cache, String regionName, WriteBehind writeBehind,
+			WriteBehindSink sink, WriteBehindSink deadLetterSink, MeterRegistry meterRegistry) {
+
+		AsyncEventQueueFactory asyncEventQueueFactory = cache.createAsyncEventQueueFactory()
+			.setBatchConflationEnabled(writeBehind.conflation())
+			.setBatchSize(writeBehind.batchSize())
+			.setBatchTimeInterval(writeBehind.batchTimeInterval())
+			.setDispatcherThreads(writeBehind.dispatcherThreads())
+			.setMaximumQueueMemory(writeBehind.maximumQueueMemory())
+			.setParallel(writeBehind.parallel())
+			.setPersistent(writeBehind.persistent());
+
+		if (StringUtils.hasText(writeBehind.diskStoreName())) {
+			asyncEventQueueFactory.setDiskStoreName(writeBehind.diskStoreName());
+		}
+
+		String queueId = regionName + WRITE_BEHIND_QUEUE_ID_SUFFIX;
+
+		return asyncEventQueueFactory.create(queueId, new WriteBehindAsyncEventListener(queueId, sink,
+			deadLetterSink, writeBehind.maximumRetries(), meterRegistry));
+	}
+}
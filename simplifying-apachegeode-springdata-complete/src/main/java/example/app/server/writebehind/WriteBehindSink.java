@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.server.writebehind;
+
+import java.util.Collection;
+import java.util.Map;
+
+import example.app.model.WriteBehind;
+
+/**
+ * The {@link WriteBehindSink} interface is the extension point through which batches of changes
+ * to write-behind {@literal Regions} are written to the system of record.
+ *
+ * Batches contain at most one change per key, the latest.  A batch that fails is redelivered, so the same
+ * change may be written more than once and implementations must be idempotent.  A batch that still fails after
+ * the {@link WriteBehind#maximumRetries() maximum retries} is written to the dead letter sink.
+ *
+ * @author John Blum
+ * @see example.app.server.writebehind.FileWriteBehindSink
+ * @see example.app.model.WriteBehind
+ * @since 1.0.0
+ */
+public interface WriteBehindSink {
+
+	/**
+	 * Writes the changes of a batch.
+	 *
+	 * @param regionName name of the {@literal Region} that changed.
+	 * @param upserts entries created or updated, by key.
+	 * @param deletes keys of the entries destroyed.
+	 * @throws Exception if the batch could not be written, in which case it is redelivered or dead-lettered.
+	 */
+	void write(String regionName, Map<Object, Object> upserts, Collection<Object> deletes) throws Exception;
+
+}
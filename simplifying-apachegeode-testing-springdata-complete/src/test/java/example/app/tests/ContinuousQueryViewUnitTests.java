@@ -0,0 +1,246 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.query.CqAttributes;
+import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.cache.query.CqResults;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReflectionEntityInformation;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.query.EvaluationContextProvider;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import example.app.client.model.Customer;
+import example.app.client.view.ContinuousQueryView;
+import example.app.client.view.EnableContinuousQueryViews;
+
+/**
+ * Unit tests for {@link EnableContinuousQueryViews}, asserting that {@link ContinuousQueryView} annotated
+ * query methods of a Spring Data Repository proxy are answered from the view rather than by querying the servers.
+ *
+ * A loner peer {@link Cache} serializes the copies of the view's entities returned to callers.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see example.app.client.view.ContinuousQueryView
+ * @since 1.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class ContinuousQueryViewUnitTests {
+
+	private static final Customer JON_DOE = Customer.newCustomer(1L, "Jon Doe");
+	private static final Customer SERVER_CUSTOMER = Customer.newCustomer(2L, "Server Customer");
+
+	@Autowired
+	private CustomerViewRepository customerViewRepository;
+
+	@Autowired
+	private QueryService queryService;
+
+	@Test
+	public void queryMethodIsAnsweredFromTheView() throws Exception {
+
+		List<Customer> customers = this.customerViewRepository.findByNameLike("Jon%");
+
+		assertThat(customers).containsExactly(JON_DOE);
+		assertThat(customers.get(0)).isNotSameAs(JON_DOE);
+
+		customers.get(0).setName("Changed by the caller");
+
+		assertThat(this.customerViewRepository.findByNameLike("Jon%")).containsExactly(JON_DOE);
+
+		verify(this.queryService, times(1)).newCq(anyString(),
+			eq("SELECT * FROM /Customers WHERE name LIKE 'Jon%'"), any(CqAttributes.class));
+	}
+
+	@Test
+	public void failedViewRegistrationIsNotRetriedOnEveryInvocation() throws Exception {
+
+		assertThat(this.customerViewRepository.findByName("Jon Doe")).containsExactly(SERVER_CUSTOMER);
+		assertThat(this.customerViewRepository.findByName("Jon Doe")).containsExactly(SERVER_CUSTOMER);
+
+		verify(this.queryService, times(1)).newCq(anyString(), contains("name ="), any(CqAttributes.class));
+	}
+
+	interface CustomerViewRepository extends Repository<Customer, Long> {
+
+		@ContinuousQueryView("SELECT * FROM /Customers WHERE name LIKE $1")
+		List<Customer> findByNameLike(String nameWildcard);
+
+		@ContinuousQueryView("SELECT * FROM /Customers WHERE name = $1")
+		List<Customer> findByName(String name);
+
+	}
+
+	/**
+	 * Creates Repository proxies whose query methods return {@link #SERVER_CUSTOMER}, as if they had queried
+	 * the servers.
+	 */
+	static class ServerQueryRepositoryFactory extends RepositoryFactorySupport {
+
+		@Override
+		public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+			return new ReflectionEntityInformation<>(domainClass);
+		}
+
+		@Override
+		protected Object getTargetRepository(RepositoryInformation metadata) {
+			return new Object();
+		}
+
+		@Override
+		protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+			return Object.class;
+		}
+
+		@Override
+		protected Optional<QueryLookupStrategy> getQueryLookupStrategy(QueryLookupStrategy.Key key,
+				EvaluationContextProvider evaluationContextProvider) {
+
+			return Optional.of((method, metadata, projectionFactory, namedQueries) -> new RepositoryQuery() {
+
+				@Override
+				public Object execute(Object[] parameters) {
+					return Collections.singletonList(SERVER_CUSTOMER);
+				}
+
+				@Override
+				public QueryMethod getQueryMethod() {
+					return new QueryMethod(method, metadata, projectionFactory);
+				}
+			});
+		}
+	}
+
+	static class CustomerPdxSerializer implements PdxSerializer {
+
+		@Override
+		public boolean toData(Object value, PdxWriter out) {
+
+			if (value instanceof Customer) {
+
+				Customer customer = (Customer) value;
+
+				out.writeLong("id", customer.getId());
+				out.writeString("name", customer.getName());
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public Object fromData(Class<?> type, PdxReader in) {
+			return Customer.class.equals(type) ? Customer.newCustomer(in.readLong("id"), in.readString("name")) : null;
+		}
+	}
+
+	@Configuration
+	@EnableContinuousQueryViews
+	static class TestConfiguration {
+
+		@Bean(destroyMethod = "close")
+		Cache copyingCache() {
+
+			return new CacheFactory()
+				.set("mcast-port", "0")
+				.set("log-level", "warning")
+				.setPdxSerializer(new CustomerPdxSerializer())
+				.create();
+		}
+
+		@Bean
+		QueryService queryService() throws Exception {
+
+			Struct jonDoeEntry = mock(Struct.class);
+
+			when(jonDoeEntry.get("key")).thenReturn(JON_DOE.getId());
+			when(jonDoeEntry.get("value")).thenReturn(JON_DOE);
+
+			CqResults<Object> initialResults = mock(CqResults.class);
+
+			when(initialResults.iterator()).thenAnswer(invocation ->
+				Collections.<Object>singletonList(jonDoeEntry).iterator());
+
+			CqQuery cqQuery = mock(CqQuery.class);
+
+			when(cqQuery.executeWithInitialResults()).thenReturn(initialResults);
+
+			QueryService queryService = mock(QueryService.class);
+
+			when(queryService.newCq(anyString(), contains("LIKE"), any(CqAttributes.class))).thenReturn(cqQuery);
+			when(queryService.newCq(anyString(), contains("name ="), any(CqAttributes.class)))
+				.thenThrow(new CqException("Subscriptions are not enabled on the Pool"));
+
+			return queryService;
+		}
+
+		@Bean
+		GemFireCache gemfireCache(QueryService queryService) {
+
+			GemFireCache gemfireCache = mock(GemFireCache.class);
+
+			when(gemfireCache.getQueryService()).thenReturn(queryService);
+
+			return gemfireCache;
+		}
+
+		@Bean
+		CustomerViewRepository customerViewRepository() {
+			return new ServerQueryRepositoryFactory().getRepository(CustomerViewRepository.class);
+		}
+	}
+}
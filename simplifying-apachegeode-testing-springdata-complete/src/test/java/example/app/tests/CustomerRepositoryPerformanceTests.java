@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.annotation.Resource;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.Index;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+import example.app.tests.support.EmbeddedPeerCacheConfiguration;
+import example.app.tests.support.PerformanceBudget;
+import example.app.tests.support.PerformanceBudgetRule;
+
+/**
+ * Performance tests for {@link CustomerRepository} data access operations over {@literal 100,000}
+ * {@link Customer Customers} stored in an embedded Apache Geode peer cache.
+ *
+ * The {@literal CustomersNameHashIdx} on {@link Customer#getName() name} is a {@literal HASH} Index, which cannot
+ * serve a {@literal LIKE} predicate, so {@link CustomerRepository#findByNameLike(String)} scans the Region
+ * and is budgeted accordingly.
+ *
+ * An exceeded budget fails the test, unless run with the {@literal performance-budgets-report-only} Maven profile.
+ *
+ * @author John Blum
+ * @see example.app.tests.support.EmbeddedPeerCacheConfiguration
+ * @see example.app.tests.support.PerformanceBudgetRule
+ * @see org.junit.Test
+ * @since 1.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class CustomerRepositoryPerformanceTests {
+
+	private static final int CUSTOMER_COUNT = 100000;
+
+	@Rule
+	public PerformanceBudgetRule performanceBudget = new PerformanceBudgetRule();
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private GemFireCache gemfireCache;
+
+	@Resource(name = "Customers")
+	private Region<Long, Customer> customers;
+
+	@Before
+	public void loadCustomers() {
+
+		if (this.customers.isEmpty()) {
+			this.customerRepository.saveAll(LongStream.rangeClosed(1, CUSTOMER_COUNT)
+				.mapToObj(id -> Customer.newCustomer(id, "Customer " + id))
+				.collect(Collectors.toList()));
+		}
+	}
+
+	private long randomId() {
+		return ThreadLocalRandom.current().nextLong(CUSTOMER_COUNT) + 1L;
+	}
+
+	// ids above a tenth of the count are the prefix of no other id, so a wildcard after one matches a single name
+	private long randomPrefixId() {
+		return ThreadLocalRandom.current().nextLong(CUSTOMER_COUNT / 10, CUSTOMER_COUNT) + 1L;
+	}
+
+	@Test
+	@PerformanceBudget(latency = 1, allocatedBytes = 16 * 1024)
+	public void findByIdStaysWithinBudget() {
+
+		Customer customer = this.performanceBudget.measure("findById",
+			() -> this.customerRepository.findById(randomId()).orElse(null));
+
+		assertThat(customer).isNotNull();
+	}
+
+	@Test
+	@PerformanceBudget(latency = 5, allocatedBytes = 256 * 1024)
+	public void findAllByIdStaysWithinBudget() {
+
+		List<Long> ids = LongStream.generate(this::randomId).distinct().limit(100).boxed().collect(Collectors.toList());
+
+		Iterable<Customer> customers = this.performanceBudget.measure("findAllById",
+			() -> this.customerRepository.findAllById(ids));
+
+		assertThat(customers).hasSize(ids.size());
+	}
+
+	@Test
+	@PerformanceBudget(latency = 1, allocatedBytes = 16 * 1024)
+	public void countStaysWithinBudget() {
+
+		long count = this.performanceBudget.measure("count", () -> this.customerRepository.count());
+
+		assertThat(count).isEqualTo(CUSTOMER_COUNT);
+	}
+
+	@Test
+	@PerformanceBudget(latency = 250, iterations = 20, warmupIterations = 5)
+	public void findByNameLikeStaysWithinBudget() {
+
+		Customer customer = this.performanceBudget.measure("findByNameLike",
+			() -> this.customerRepository.findByNameLike("Customer " + randomPrefixId() + "%"));
+
+		assertThat(customer).isNotNull();
+	}
+
+	@Test
+	public void customersNameIndexIsMaintained() {
+
+		Index customersNameHashIdx = this.gemfireCache.getQueryService().getIndex(this.customers,
+			"CustomersNameHashIdx");
+
+		assertThat(customersNameHashIdx).isNotNull();
+		assertThat(customersNameHashIdx.getStatistics().getNumberOfValues()).isEqualTo(CUSTOMER_COUNT);
+	}
+
+	@Configuration
+	@Import(EmbeddedPeerCacheConfiguration.class)
+	static class TestConfiguration { }
+
+}
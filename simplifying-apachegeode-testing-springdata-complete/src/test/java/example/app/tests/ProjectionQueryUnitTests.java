@@ -0,0 +1,95 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+
+import example.app.client.model.Customer;
+import example.app.client.model.CustomerName;
+import example.app.client.model.CustomerSummary;
+import example.app.client.projection.ProjectionQuery;
+
+/**
+ * Unit tests for {@link ProjectionQuery}, asserting that the OQL query derived for a projection query method
+ * selects only the properties read by the projection.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see example.app.client.projection.ProjectionQuery
+ * @since 1.0.0
+ */
+public class ProjectionQueryUnitTests {
+
+	private final GemfirePersistentEntity<?> customerEntity =
+		new GemfireMappingContext().getRequiredPersistentEntity(Customer.class);
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private ProjectionQuery projectionQuery(String methodName, Class<?> projectionType) throws Exception {
+
+		return ProjectionQuery.of(CustomerProjectionRepository.class.getMethod(methodName, String.class),
+			projectionType, this.customerEntity, this.projectionFactory);
+	}
+
+	@Test
+	public void interfaceProjectionSelectsOnlyItsProperties() throws Exception {
+
+		ProjectionQuery projectionQuery = projectionQuery("findNamesByNameLike", CustomerName.class);
+
+		assertThat(projectionQuery.getQuery()).isEqualTo("SELECT x.name FROM /Customers x WHERE (x.name LIKE $1)");
+		assertThat(projectionQuery.getProperties()).containsExactly("name");
+	}
+
+	@Test
+	public void dtoProjectionSelectsOnlyItsConstructorProperties() throws Exception {
+
+		ProjectionQuery projectionQuery = projectionQuery("findSummariesByNameStartingWith", CustomerSummary.class);
+
+		assertThat(projectionQuery.getQuery())
+			.isEqualTo("SELECT x.id, x.name FROM /Customers x WHERE (x.name LIKE $1)");
+		assertThat(projectionQuery.bind(new Object[] { "Jon" })).containsExactly("Jon%");
+		assertThat(projectionQuery.bind(new Object[] { "50%_" })).containsExactly("50\\%\\_%");
+	}
+
+	@Test
+	public void entitySelectsTheEntireEntity() throws Exception {
+
+		ProjectionQuery projectionQuery = projectionQuery("findByNameLike", Customer.class);
+
+		assertThat(projectionQuery.getQuery()).isEqualTo("SELECT x FROM /Customers x WHERE (x.name LIKE $1)");
+		assertThat(projectionQuery.getProperties()).isEmpty();
+	}
+
+	interface CustomerProjectionRepository extends Repository<Customer, Long> {
+
+		List<Customer> findByNameLike(String nameWildcard);
+
+		List<CustomerName> findNamesByNameLike(String nameWildcard);
+
+		List<CustomerSummary> findSummariesByNameStartingWith(String namePrefix);
+
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests.support;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.RegionShortcut;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.config.annotation.EnableEntityDefinedRegions;
+import org.springframework.data.gemfire.config.annotation.EnableIndexing;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.config.annotation.PeerCacheConfigurer;
+import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
+
+import example.app.client.model.Customer;
+import example.app.client.repo.CustomerRepository;
+import example.app.client.repo.support.OptimizedGemfireRepository;
+
+/**
+ * The {@link EmbeddedPeerCacheConfiguration} class is a Spring {@link Configuration} class bootstrapping
+ * the application's {@link CustomerRepository} against a standalone, embedded Apache Geode peer {@link Cache}.
+ *
+ * Unlike mock objects, the embedded {@link Cache} stores data, runs OQL queries and maintains {@literal Indexes},
+ * so tests can verify query results and measure realistic latencies.  The entity-defined {@literal Regions} are
+ * {@link RegionShortcut#LOCAL} and the {@link Cache} joins no cluster and starts no locator, manager,
+ * HTTP service or statistics sampler, keeping its startup time to a minimum.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.springframework.data.gemfire.config.annotation.PeerCacheApplication
+ * @since 1.0.0
+ */
+@Configuration
+@PeerCacheApplication(name = "EmbeddedPeerCache", logLevel = "error")
+@EnableEntityDefinedRegions(basePackageClasses = Customer.class, serverRegionShortcut = RegionShortcut.LOCAL)
+@EnableGemfireRepositories(basePackageClasses = CustomerRepository.class,
+	repositoryBaseClass = OptimizedGemfireRepository.class)
+@EnableIndexing
+@SuppressWarnings("unused")
+public class EmbeddedPeerCacheConfiguration {
+
+	@Bean
+	PeerCacheConfigurer embeddedPeerCacheConfigurer() {
+
+		return (beanName, bean) -> {
+
+			Properties gemfireProperties = Optional.ofNullable(bean.getProperties()).orElseGet(Properties::new);
+
+			gemfireProperties.setProperty("locators", "");
+			gemfireProperties.setProperty("mcast-port", "0");
+			gemfireProperties.setProperty("enable-network-partition-detection", "false");
+			gemfireProperties.setProperty("enable-time-statistics", "false");
+			gemfireProperties.setProperty("http-service-port", "0");
+			gemfireProperties.setProperty("jmx-manager", "false");
+			gemfireProperties.setProperty("statistic-sampling-enabled", "false");
+
+			bean.setProperties(gemfireProperties);
+		};
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link PerformanceBudget} annotation declares the latency and allocation budget of the operations measured
+ * by a test method with the {@link PerformanceBudgetRule}.
+ *
+ * The operation is run {@link #warmupIterations()} times, then measured over {@link #iterations()} runs.  The budget
+ * is exceeded when the latency at the {@link #percentile()} exceeds {@link #latency()}, or when the average number
+ * of bytes allocated per run exceeds {@link #allocatedBytes()}, which fails the test unless budgets are only reported.
+ *
+ * @author John Blum
+ * @see example.app.tests.support.PerformanceBudgetRule
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerformanceBudget {
+
+	/**
+	 * Maximum latency, in {@link #timeUnit()}, of the operation at the {@link #percentile()}.
+	 */
+	long latency();
+
+	double percentile() default 99.0d;
+
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * Maximum average number of bytes allocated by the operation; {@literal -1} when allocation is not budgeted.
+	 */
+	long allocatedBytes() default -1L;
+
+	int iterations() default 1000;
+
+	int warmupIterations() default 100;
+
+}
@@ -0,0 +1,192 @@
+/*
+ *  Copyright 2017 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ *  or implied. See the License for the specific language governing
+ *  permissions and limitations under the License.
+ */
+
+package example.app.tests.support;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.rules.TestRule;
+import org.junit.runner.Description;
+import org.junit.runners.model.Statement;
+import org.springframework.util.Assert;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * The {@link PerformanceBudgetRule} class is a JUnit {@link TestRule} measuring the latency and allocations
+ * of an operation, such as a Repository method, and reporting when the operation exceeds
+ * the {@link PerformanceBudget} declared by the test method.
+ *
+ * <pre>
+ * &#64;Rule
+ * public PerformanceBudgetRule performanceBudget = new PerformanceBudgetRule();
+ *
+ * &#64;Test
+ * &#64;PerformanceBudget(latency = 5, allocatedBytes = 16384)
+ * public void findByNameLike() {
+ *     this.performanceBudget.measure("findByNameLike", () -&gt; customerRepository.findByNameLike("Jon Doe"));
+ * }
+ * </pre>
+ *
+ * An exceeded budget fails the test.  Wall-clock budgets depend on the machine running the build, so setting
+ * the {@literal example.app.tests.performance-budget.report-only} System property to {@literal true}, as done by
+ * the {@literal performance-budgets-report-only} Maven profile, only logs an exceeded budget instead.  Latency
+ * budgets are multiplied by the {@literal example.app.tests.performance-budget.latency-factor} System property,
+ * defaulting to {@literal 1.0}, so that slower build machines can relax them without changing the tests.
+ * Allocations are measured for the current {@link Thread} only, when supported by the JVM.
+ *
+ * @author John Blum
+ * @see example.app.tests.support.PerformanceBudget
+ * @see org.junit.rules.TestRule
+ * @since 1.0.0
+ */
+public class PerformanceBudgetRule implements TestRule {
+
+	protected static final String LATENCY_FACTOR_PROPERTY = "example.app.tests.performance-budget.latency-factor";
+	protected static final String REPORT_ONLY_PROPERTY = "example.app.tests.performance-budget.report-only";
+
+	private final boolean enforced = !Boolean.getBoolean(REPORT_ONLY_PROPERTY);
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private volatile PerformanceBudget performanceBudget;
+
+	private final ThreadMXBean threadMXBean = resolveThreadMXBean();
+
+	private static ThreadMXBean resolveThreadMXBean() {
+
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		if (threadMXBean instanceof ThreadMXBean && ((ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+			((ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+			return (ThreadMXBean) threadMXBean;
+		}
+
+		return null;
+	}
+
+	@Override
+	public Statement apply(Statement base, Description description) {
+
+		return new Statement() {
+
+			@Override
+			public void evaluate() throws Throwable {
+
+				performanceBudget = description.getAnnotation(PerformanceBudget.class);
+
+				try {
+					base.evaluate();
+				}
+				finally {
+					performanceBudget = null;
+				}
+			}
+		};
+	}
+
+	/**
+	 * Measures the given operation and checks it stays within the {@link PerformanceBudget} of the test method.
+	 *
+	 * @param <T> {@link Class type} of the operation's result.
+	 * @param operationName name of the operation reported with the measurements.
+	 * @param operation operation to measure.
+	 * @return the result of the last run of the operation.
+	 * @throws AssertionError if the operation exceeds its {@link PerformanceBudget}, unless budgets are only reported.
+	 */
+	public <T> T measure(String operationName, Supplier<T> operation) {
+
+		PerformanceBudget performanceBudget = this.performanceBudget;
+
+		Assert.state(performanceBudget != null,
+			"The test method must be annotated with @PerformanceBudget to measure an operation");
+
+		T result = null;
+
+		for (int iteration = 0; iteration < performanceBudget.warmupIterations(); iteration++) {
+			result = operation.get();
+		}
+
+		long[] latencies = new long[performanceBudget.iterations()];
+
+		long allocatedBytes = 0L;
+
+		for (int iteration = 0; iteration < latencies.length; iteration++) {
+
+			long allocatedBytesBefore = currentThreadAllocatedBytes();
+			long startTime = System.nanoTime();
+
+			result = operation.get();
+
+			latencies[iteration] = System.nanoTime() - startTime;
+			allocatedBytes += currentThreadAllocatedBytes() - allocatedBytesBefore;
+		}
+
+		Arrays.sort(latencies);
+
+		long percentileLatency = latencies[Math.max(0,
+			(int) Math.ceil(performanceBudget.percentile() / 100.0d * latencies.length) - 1)];
+
+		long averageAllocatedBytes = this.threadMXBean != null ? allocatedBytes / latencies.length : -1L;
+
+		long latencyBudget = (long) (performanceBudget.timeUnit().toNanos(performanceBudget.latency())
+			* Double.parseDouble(System.getProperty(LATENCY_FACTOR_PROPERTY, "1.0")));
+
+		String percentile = BigDecimal.valueOf(performanceBudget.percentile()).stripTrailingZeros().toPlainString();
+
+		this.logger.info(String.format("%1$s: p50 [%2$d us], p%3$s [%4$d us], max [%5$d us], allocated [%6$d] bytes/op",
+			operationName, toMicroseconds(latencies[latencies.length / 2]), percentile,
+			toMicroseconds(percentileLatency), toMicroseconds(latencies[latencies.length - 1]), averageAllocatedBytes));
+
+		if (percentileLatency > latencyBudget) {
+			exceeded(String.format("%1$s took [%2$d us] at p%3$s; budget was [%4$d us]",
+				operationName, toMicroseconds(percentileLatency), percentile, toMicroseconds(latencyBudget)));
+		}
+
+		if (performanceBudget.allocatedBytes() >= 0 && averageAllocatedBytes > performanceBudget.allocatedBytes()) {
+			exceeded(String.format("%1$s allocated [%2$d] bytes/op; budget was [%3$d] bytes/op",
+				operationName, averageAllocatedBytes, performanceBudget.allocatedBytes()));
+		}
+
+		return result;
+	}
+
+	private void exceeded(String message) {
+
+		if (this.enforced) {
+			throw new AssertionError(message);
+		}
+
+		this.logger.warn(message);
+	}
+
+	private long currentThreadAllocatedBytes() {
+
+		return this.threadMXBean != null
+			? this.threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId())
+			: 0L;
+	}
+
+	private long toMicroseconds(long nanoseconds) {
+		return TimeUnit.NANOSECONDS.toMicros(nanoseconds);
+	}
+}